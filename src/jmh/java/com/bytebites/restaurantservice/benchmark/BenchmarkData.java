@@ -0,0 +1,57 @@
+package com.bytebites.restaurantservice.benchmark;
+
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Realistically shaped fixtures shared by the benchmarks: names, descriptions and prices sized like
+ * production menus rather than one-character placeholders.
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {
+    }
+
+    public static Restaurant restaurant(int menuSize, boolean withIds) {
+        Restaurant restaurant = Restaurant.builder()
+                .id(withIds ? UUID.randomUUID() : null)
+                .name("Benchmark Bistro " + UUID.randomUUID().toString().substring(0, 8))
+                .address("221B Benchmark Street, Accra")
+                .phoneNumber("+233 20 000 0000")
+                .email("bistro@example.com")
+                .ownerId(UUID.randomUUID())
+                .build();
+        List<MenuItem> menuItems = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            menuItems.add(MenuItem.builder()
+                    .id(withIds ? UUID.randomUUID() : null)
+                    .name("Signature dish number " + i)
+                    .description("Slow-cooked with seasonal vegetables, house spice blend and a side of jollof rice")
+                    .price(BigDecimal.valueOf(500 + (i * 37L) % 4500, 2))
+                    .available(i % 7 != 0)
+                    .restaurant(restaurant)
+                    .build());
+        }
+        restaurant.setMenuItems(menuItems);
+        return restaurant;
+    }
+
+    public static OrderPlacedEvent orderPlacedEvent(int items) {
+        List<OrderItemDetails> orderItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            orderItems.add(new OrderItemDetails(UUID.randomUUID().toString(), "Signature dish number " + i,
+                    1 + i % 3, BigDecimal.valueOf(500 + (i * 37L) % 4500, 2)));
+        }
+        return new OrderPlacedEvent(UUID.randomUUID().toString(), "customer@example.com",
+                UUID.randomUUID().toString(), "Benchmark Bistro", new BigDecimal("123.45"),
+                "14 Independence Avenue, Accra", LocalDateTime.now(), orderItems);
+    }
+}
@@ -0,0 +1,87 @@
+package com.bytebites.restaurantservice.benchmark;
+
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson costs on the two hot wire paths: writing restaurant responses and reading order events.
+ * The mapper is built the way Spring Boot builds the application's, so modules and features match.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class JsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int size;
+
+    private ObjectWriter restaurantWriter;
+    private ObjectReader orderEventReader;
+    private RestaurantResponse restaurantResponse;
+    private byte[] orderEventJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        restaurantWriter = objectMapper.writerFor(RestaurantResponse.class);
+        orderEventReader = objectMapper.readerFor(OrderPlacedEvent.class);
+
+        Restaurant restaurant = BenchmarkData.restaurant(size, true);
+        restaurantResponse = RestaurantResponse.builder()
+                .id(restaurant.getId())
+                .name(restaurant.getName())
+                .address(restaurant.getAddress())
+                .phoneNumber(restaurant.getPhoneNumber())
+                .email(restaurant.getEmail())
+                .ownerId(restaurant.getOwnerId())
+                .menuItems(restaurant.getMenuItems().stream().map(JsonBenchmark::toResponse).toList())
+                .build();
+        // Orders are far smaller than menus; scale item count down so sizes stay realistic.
+        orderEventJson = objectMapper.writeValueAsBytes(BenchmarkData.orderPlacedEvent(Math.max(1, size / 10)));
+    }
+
+    @Benchmark
+    public byte[] serializeRestaurantResponse() throws IOException {
+        return restaurantWriter.writeValueAsBytes(restaurantResponse);
+    }
+
+    @Benchmark
+    public OrderPlacedEvent deserializeOrderPlacedEvent() throws IOException {
+        return orderEventReader.readValue(orderEventJson);
+    }
+
+    private static MenuItemResponse toResponse(MenuItem menuItem) {
+        return MenuItemResponse.builder()
+                .id(menuItem.getId())
+                .name(menuItem.getName())
+                .description(menuItem.getDescription())
+                .price(menuItem.getPrice())
+                .available(menuItem.isAvailable())
+                .restaurantId(menuItem.getRestaurant().getId())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.bytebites.restaurantservice.benchmark;
+
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.SearchResponse;
+import com.bytebites.restaurantservice.search.MenuSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Query latency of the in-memory menu search index, with 50 items per restaurant built from a
+ * shared vocabulary so common terms have long posting lists, as they do in real menus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MenuSearchBenchmark {
+
+    private static final int ITEMS_PER_RESTAURANT = 50;
+    private static final String[] DISHES = {"jollof", "waakye", "kelewele", "banku", "fufu", "kenkey",
+            "pizza", "burger", "shawarma", "noodles", "curry", "salad", "soup", "pasta", "tacos", "wrap"};
+    private static final String[] INGREDIENTS = {"chicken", "beef", "goat", "tilapia", "shrimp", "plantain",
+            "tomato", "pepper", "onion", "garlic", "ginger", "cheese", "avocado", "mushroom", "spinach", "egg"};
+    private static final String[] STYLES = {"spicy", "grilled", "smoky", "crispy", "creamy", "roasted",
+            "fried", "steamed", "house", "classic"};
+
+    @Param({"100", "1000"})
+    public int restaurants;
+
+    private MenuSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new MenuSearchIndex();
+        Random random = new Random(42);
+        for (int r = 0; r < restaurants; r++) {
+            UUID restaurantId = UUID.randomUUID();
+            index.upsertRestaurant(restaurantId, pick(random, STYLES) + " " + pick(random, DISHES) + " Kitchen " + r);
+            for (int i = 0; i < ITEMS_PER_RESTAURANT; i++) {
+                index.upsertMenuItem(MenuItemResponse.builder()
+                        .id(UUID.randomUUID())
+                        .restaurantId(restaurantId)
+                        .name(pick(random, STYLES) + " " + pick(random, INGREDIENTS) + " " + pick(random, DISHES))
+                        .description("Made with " + pick(random, INGREDIENTS) + ", " + pick(random, INGREDIENTS)
+                                + " and " + pick(random, INGREDIENTS))
+                        .price(BigDecimal.valueOf(500 + random.nextInt(4500), 2))
+                        .available(true)
+                        .build());
+            }
+        }
+    }
+
+    @Benchmark
+    public SearchResponse exactTerm() {
+        return index.search("tilapia", 10);
+    }
+
+    @Benchmark
+    public SearchResponse prefix() {
+        return index.search("shaw", 10);
+    }
+
+    @Benchmark
+    public SearchResponse typo() {
+        return index.search("kelawele", 10);
+    }
+
+    @Benchmark
+    public SearchResponse multiTerm() {
+        return index.search("spicy chiken jollof", 10);
+    }
+
+    private static String pick(Random random, String[] words) {
+        return words[random.nextInt(words.length)];
+    }
+}
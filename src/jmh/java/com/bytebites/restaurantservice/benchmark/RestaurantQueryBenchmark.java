@@ -0,0 +1,138 @@
+package com.bytebites.restaurantservice.benchmark;
+
+import com.bytebites.restaurantservice.analytics.MenuItemPopularity;
+import com.bytebites.restaurantservice.config.OptimisticRetryProperties;
+import com.bytebites.restaurantservice.config.PaginationProperties;
+import com.bytebites.restaurantservice.config.PopularityProperties;
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.RestaurantPageResponse;
+import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.dto.RestaurantSummary;
+import com.bytebites.restaurantservice.model.Restaurant;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import com.bytebites.restaurantservice.service.MenuItemService;
+import com.bytebites.restaurantservice.service.RestaurantService;
+import com.bytebites.restaurantservice.service.impl.MenuItemServiceImpl;
+import com.bytebites.restaurantservice.service.impl.OptimisticLockRetrier;
+import com.bytebites.restaurantservice.service.impl.RestaurantServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service reads end to end against an in-memory H2 catalogue: query, hydration and mapping.
+ * Kafka, discovery and the web layer are left out so only the persistence path is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RestaurantQueryBenchmark {
+
+    private static final String QUERY_CONTEXT_PROPERTY = "benchmark.query-context";
+
+    /** Guarded so the application's component scan skips it when a benchmark boots the full service. */
+    @SpringBootConfiguration
+    @ConditionalOnProperty(QUERY_CONTEXT_PROPERTY)
+    @EnableAutoConfiguration(exclude = KafkaAutoConfiguration.class)
+    @EntityScan("com.bytebites.restaurantservice.model")
+    @EnableJpaRepositories("com.bytebites.restaurantservice.repository")
+    @Import({RestaurantServiceImpl.class, MenuItemServiceImpl.class, OptimisticLockRetrier.class,
+            MenuItemPopularity.class, PaginationProperties.class, OptimisticRetryProperties.class,
+            PopularityProperties.class})
+    static class BenchmarkApplication {
+    }
+
+    @Param({"1000"})
+    public int restaurants;
+
+    @Param({"50"})
+    public int menuSize;
+
+    private ConfigurableApplicationContext context;
+    private RestaurantService restaurantService;
+    private MenuItemService menuItemService;
+    private List<UUID> restaurantIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                // Command-line arguments, so they take precedence over application.yml.
+                .run(
+                        "--" + QUERY_CONTEXT_PROPERTY + "=true",
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.cloud.config.enabled=false",
+                        "--spring.cloud.discovery.enabled=false",
+                        "--eureka.client.enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework.security=WARN");
+        restaurantService = context.getBean(RestaurantService.class);
+        menuItemService = context.getBean(MenuItemService.class);
+
+        RestaurantRepository restaurantRepository = context.getBean(RestaurantRepository.class);
+        restaurantIds = new ArrayList<>(restaurants);
+        for (int i = 0; i < restaurants; i++) {
+            Restaurant restaurant = restaurantRepository.save(BenchmarkData.restaurant(menuSize, false));
+            restaurantIds.add(restaurant.getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public RestaurantResponse getRestaurantById() {
+        return restaurantService.getRestaurantById(randomRestaurantId());
+    }
+
+    @Benchmark
+    public RestaurantPageResponse<RestaurantResponse> getRestaurantsPage() {
+        return restaurantService.getRestaurantsPage(null, 20);
+    }
+
+    @Benchmark
+    public RestaurantPageResponse<RestaurantSummary> getRestaurantSummariesPage() {
+        return restaurantService.getRestaurantSummariesPage(null, 20);
+    }
+
+    @Benchmark
+    public List<MenuItemResponse> getMenuItemsByRestaurant() {
+        return menuItemService.getMenuItemsByRestaurant(randomRestaurantId());
+    }
+
+    private UUID randomRestaurantId() {
+        return restaurantIds.get(ThreadLocalRandom.current().nextInt(restaurantIds.size()));
+    }
+}
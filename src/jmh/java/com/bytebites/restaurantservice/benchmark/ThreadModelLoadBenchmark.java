@@ -0,0 +1,178 @@
+package com.bytebites.restaurantservice.benchmark;
+
+import com.bytebites.restaurantservice.RestaurantServiceApplication;
+import com.bytebites.restaurantservice.model.Restaurant;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.classreading.MetadataReader;
+import org.springframework.core.type.classreading.MetadataReaderFactory;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Load test of the full service over HTTP, once on platform request threads and once in
+ * virtual-thread mode. Every SQL statement is delayed by {@code dbLatencyMs} so requests are
+ * dominated by blocking JDBC time, and the client keeps more requests in flight than Tomcat's
+ * default 200 platform threads. The connection pool is sized identically in both runs so the
+ * thread model is the only variable.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(400)
+public class ThreadModelLoadBenchmark {
+
+    private static final String LATENCY_PROPERTY = "benchmark.db-latency-ms";
+
+    @Configuration
+    static class LoadTestConfig {
+
+        /** Accepts any bearer token as a restaurant owner, so no auth server is needed. */
+        @Bean
+        @Primary
+        JwtDecoder loadTestJwtDecoder() {
+            return token -> Jwt.withTokenValue(token)
+                    .header("alg", "none")
+                    .subject(UUID.randomUUID().toString())
+                    .claim("roles", List.of("RESTAURANT_OWNER"))
+                    .build();
+        }
+
+        @Bean
+        static BeanPostProcessor latencyInjectingDataSourcePostProcessor(Environment environment) {
+            long latency = environment.getProperty(LATENCY_PROPERTY, Long.class, 0L);
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof LatencyInjectingDataSource)
+                            ? new LatencyInjectingDataSource(dataSource, latency)
+                            : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * The benchmark classpath also carries the unit tests, whose nested configurations would
+     * otherwise be picked up by the application's component scan.
+     */
+    static class TestClassExcludeFilter extends TypeExcludeFilter {
+
+        @Override
+        public boolean match(MetadataReader metadataReader, MetadataReaderFactory metadataReaderFactory) {
+            String className = metadataReader.getClassMetadata().getClassName();
+            String topLevelName = className.contains("$") ? className.substring(0, className.indexOf('$')) : className;
+            return topLevelName.endsWith("Test")
+                    || metadataReader.getAnnotationMetadata().hasAnnotation(TestConfiguration.class.getName());
+        }
+    }
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"5"})
+    public int dbLatencyMs;
+
+    @Param({"400"})
+    public int poolSize;
+
+    @Param({"500"})
+    public int restaurants;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private List<UUID> restaurantIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(RestaurantServiceApplication.class, LoadTestConfig.class)
+                .initializers(ctx -> ctx.getBeanFactory()
+                        .registerSingleton("testClassExcludeFilter", new TestClassExcludeFilter()))
+                // Command-line arguments, so they take precedence over application.yml.
+                .run(
+                        "--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--" + LATENCY_PROPERTY + "=" + dbLatencyMs,
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.hikari.maximum-pool-size=" + poolSize,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.cloud.config.enabled=false",
+                        "--spring.cloud.discovery.enabled=false",
+                        "--eureka.client.enabled=false",
+                        "--spring.kafka.admin.auto-create=false",
+                        "--bytebites.restaurant.kitchen.snapshot-enabled=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.apache.kafka=ERROR",
+                        "--logging.level.org.springframework.kafka=ERROR",
+                        "--logging.level.org.springframework.security=WARN");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+        baseUrl = "http://localhost:" + port + "/api/restaurants/";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        RestaurantRepository restaurantRepository = context.getBean(RestaurantRepository.class);
+        restaurantIds = new ArrayList<>(restaurants);
+        for (int i = 0; i < restaurants; i++) {
+            Restaurant restaurant = restaurantRepository.save(BenchmarkData.restaurant(20, false));
+            restaurantIds.add(restaurant.getId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        client.close();
+        context.close();
+    }
+
+    @Benchmark
+    public int getRestaurantById() throws IOException, InterruptedException {
+        UUID id = restaurantIds.get(ThreadLocalRandom.current().nextInt(restaurantIds.size()));
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + id))
+                .header("Authorization", "Bearer load-test")
+                .GET()
+                .build();
+        HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode());
+        }
+        return response.statusCode();
+    }
+}
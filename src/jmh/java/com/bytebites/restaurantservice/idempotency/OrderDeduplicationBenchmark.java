@@ -0,0 +1,62 @@
+package com.bytebites.restaurantservice.idempotency;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The in-memory duplicate check on a filter holding a million processed orders: a new order id
+ * (the common case, answered "never seen") and a processed one (which would go on to the table).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OrderDeduplicationBenchmark {
+
+    private static final int PROCESSED = 1_000_000;
+
+    private BloomFilter filter;
+    private String[] newIds;
+    private String[] processedIds;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        filter = new BloomFilter(PROCESSED, 0.01);
+        processedIds = new String[1024];
+        for (int i = 0; i < PROCESSED; i++) {
+            String orderId = UUID.randomUUID().toString();
+            filter.put(orderId);
+            if (i < processedIds.length) {
+                processedIds[i] = orderId;
+            }
+        }
+        newIds = new String[1024];
+        for (int i = 0; i < newIds.length; i++) {
+            newIds[i] = UUID.randomUUID().toString();
+        }
+    }
+
+    @Benchmark
+    public boolean checkNewOrder() {
+        return filter.mightContain(newIds[next++ & 1023]);
+    }
+
+    @Benchmark
+    public boolean checkProcessedOrder() {
+        return filter.mightContain(processedIds[next++ & 1023]);
+    }
+}
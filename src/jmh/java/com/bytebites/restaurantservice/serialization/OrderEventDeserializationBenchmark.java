@@ -0,0 +1,67 @@
+package com.bytebites.restaurantservice.serialization;
+
+import com.bytebites.restaurantservice.benchmark.BenchmarkData;
+import com.bytebites.restaurantservice.config.OrderEventsProperties;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-event cost of reading an order off the order topic in each wire format, through the same
+ * deserializer the listener's consumers use. Payload sizes are printed at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class OrderEventDeserializationBenchmark {
+
+    @Param({"1", "5", "20"})
+    public int items;
+
+    private OrderPlacedEventDeserializer deserializer;
+    private byte[] json;
+    private byte[] avro;
+
+    @Setup
+    public void setUp() throws IOException {
+        OrderEventAvroCodec codec = new OrderEventAvroCodec(
+                new OrderEventSchemaRegistry(new OrderEventsProperties(), new PathMatchingResourcePatternResolver()));
+        deserializer = new OrderPlacedEventDeserializer(codec);
+        OrderPlacedEvent event = BenchmarkData.orderPlacedEvent(items);
+        json = new OrderPlacedEventSerializer(WireFormat.JSON, codec).serialize("order-events-topic", event);
+        avro = new OrderPlacedEventSerializer(WireFormat.AVRO, codec).serialize("order-events-topic", event);
+        System.out.printf("%n%d items: %d bytes as JSON, %d bytes as Avro%n", items, json.length, avro.length);
+    }
+
+    @TearDown
+    public void tearDown() {
+        deserializer.close();
+    }
+
+    @Benchmark
+    public OrderPlacedEvent deserializeJson() {
+        return deserializer.deserialize("order-events-topic", json);
+    }
+
+    @Benchmark
+    public OrderPlacedEvent deserializeAvro() {
+        return deserializer.deserialize("order-events-topic", avro);
+    }
+}
@@ -0,0 +1,60 @@
+package com.bytebites.restaurantservice.service.impl;
+
+import com.bytebites.restaurantservice.benchmark.BenchmarkData;
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping on its own, without persistence or serialization.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+public class MappingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int menuSize;
+
+    private Restaurant restaurant;
+    private RestaurantServiceImpl restaurantService;
+    private MenuItemServiceImpl menuItemService;
+
+    @Setup
+    public void setUp() {
+        restaurant = BenchmarkData.restaurant(menuSize, true);
+        restaurantService = new RestaurantServiceImpl(null, null, null, null, null);
+        menuItemService = new MenuItemServiceImpl(null, null, null, null, null);
+    }
+
+    @Benchmark
+    public RestaurantResponse mapToRestaurantResponse() {
+        return restaurantService.mapToRestaurantResponse(restaurant);
+    }
+
+    @Benchmark
+    public void mapToMenuItemResponse(Blackhole blackhole) {
+        for (MenuItem menuItem : restaurant.getMenuItems()) {
+            MenuItemResponse response = menuItemService.mapToMenuItemResponse(menuItem);
+            blackhole.consume(response);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.bytebites.restaurantservice.analytics;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * The rolling windows order analytics are kept for. Each window is a ring of equal buckets, so it
+ * slides in steps of one bucket and covers between {@code span - bucket} and {@code span} of time.
+ */
+public enum AnalyticsWindow {
+    FIVE_MINUTES("5m", Duration.ofMinutes(5), Duration.ofSeconds(30)),
+    ONE_HOUR("1h", Duration.ofHours(1), Duration.ofMinutes(1)),
+    ONE_DAY("1d", Duration.ofDays(1), Duration.ofMinutes(15));
+
+    private final String label;
+    private final Duration span;
+    private final Duration bucketWidth;
+
+    AnalyticsWindow(String label, Duration span, Duration bucketWidth) {
+        this.label = label;
+        this.span = span;
+        this.bucketWidth = bucketWidth;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Duration getSpan() {
+        return span;
+    }
+
+    int bucketCount() {
+        return (int) (span.toMillis() / bucketWidth.toMillis());
+    }
+
+    long bucketWidthMillis() {
+        return bucketWidth.toMillis();
+    }
+
+    public static AnalyticsWindow fromLabel(String label) {
+        return Arrays.stream(values())
+                .filter(window -> window.label.equalsIgnoreCase(label))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown analytics window: " + label
+                        + ". Expected one of 5m, 1h, 1d"));
+    }
+}
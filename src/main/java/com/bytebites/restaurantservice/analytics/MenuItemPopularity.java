@@ -0,0 +1,162 @@
+package com.bytebites.restaurantservice.analytics;
+
+import com.bytebites.restaurantservice.config.PopularityProperties;
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.event.MenuItemsChangedEvent;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Recent order volume per menu item, decaying exponentially with the configured half-life, so an
+ * item sold a hundred times last month ranks below one sold twenty times today.
+ *
+ * <p>Each counter is a single {@link AtomicLong} holding the decayed quantity as a float in the
+ * low half and the second it was last brought up to date in the high half. An order decays the
+ * value to now and adds its quantity in one compare-and-set, so recording takes no lock and
+ * allocates nothing once the item has a counter, and there is no global rescaling pass.
+ *
+ * <p>Orders are keyed by restaurant, so each replica's consumers see only some restaurants'
+ * orders. The replica that counts an order shares it through {@link MenuItemPopularityPublisher}
+ * and every other replica adds it with the time it was counted, so all replicas hold the same
+ * counts, apart from the moment the shared order is in flight, and a rebalance loses nothing. A
+ * starting replica replays the orders still retained on the topic.
+ */
+@Component
+@Slf4j
+public class MenuItemPopularity {
+
+    /** Scores below this (roughly "one sale, many half-lives ago") are dropped by the sweep. */
+    private static final double NEGLIGIBLE_SCORE = 0.01;
+
+    private final Map<UUID, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final double decayPerSecond;
+
+    @Autowired
+    public MenuItemPopularity(PopularityProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    MenuItemPopularity(PopularityProperties properties, Clock clock) {
+        this.clock = clock;
+        this.decayPerSecond = Math.log(2) / Math.max(1, properties.getHalfLife().toSeconds());
+    }
+
+    /**
+     * @throws IllegalArgumentException if a menu item ID is not a UUID
+     */
+    public void record(OrderPlacedEvent event) {
+        List<OrderItemDetails> items = event.orderItems();
+        if (items == null) {
+            return;
+        }
+        int now = nowSeconds();
+        for (int i = 0; i < items.size(); i++) {
+            OrderItemDetails item = items.get(i);
+            if (item == null || item.menuItemId() == null) {
+                continue;
+            }
+            int quantity = item.quantity() == null ? 1 : item.quantity();
+            increment(UUID.fromString(item.menuItemId()), now, quantity);
+        }
+    }
+
+    /**
+     * Adds an order another replica counted at {@code countedAtMillis}, decayed by the time
+     * since, so a replayed order weighs what it would had it been counted here at the time.
+     */
+    public void record(UUID menuItemId, int quantity, long countedAtMillis) {
+        long nowMillis = clock.millis();
+        double age = Math.max(0, nowMillis - countedAtMillis) / 1000.0;
+        increment(menuItemId, (int) (nowMillis / 1000), quantity * Math.exp(-decayPerSecond * age));
+    }
+
+    /** The item's decayed order volume as of now; 0 for an item with no recent orders. */
+    public double score(UUID menuItemId) {
+        AtomicLong counter = counters.get(menuItemId);
+        return counter == null ? 0 : decayed(counter.get(), nowSeconds());
+    }
+
+    /**
+     * Returns the items most ordered first. The sort is stable, so items with equal scores,
+     * typically ones never ordered, keep the order they were given in.
+     */
+    public List<MenuItemResponse> rank(List<MenuItemResponse> items) {
+        int now = nowSeconds();
+        Map<UUID, Double> scores = new HashMap<>(items.size() * 2);
+        for (MenuItemResponse item : items) {
+            AtomicLong counter = counters.get(item.getId());
+            scores.put(item.getId(), counter == null ? 0 : decayed(counter.get(), now));
+        }
+        return items.stream()
+                .sorted(Comparator.comparingDouble((MenuItemResponse item) -> scores.get(item.getId())).reversed())
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuItemsChanged(MenuItemsChangedEvent event) {
+        event.deletedIds().forEach(counters::remove);
+    }
+
+    /** Drops counters that have decayed to nothing, including those of deleted restaurants. */
+    @Scheduled(fixedDelayString = "${bytebites.restaurant.popularity.sweep-interval-ms:600000}")
+    public void sweep() {
+        int now = nowSeconds();
+        int before = counters.size();
+        for (UUID menuItemId : counters.keySet()) {
+            // Checked and removed atomically, so a counter an order has just added to is kept.
+            counters.computeIfPresent(menuItemId,
+                    (id, counter) -> decayed(counter.get(), now) < NEGLIGIBLE_SCORE ? null : counter);
+        }
+        log.debug("Popularity sweep kept {} of {} menu item counters", counters.size(), before);
+    }
+
+    private void increment(UUID menuItemId, int now, double amount) {
+        AtomicLong counter;
+        do {
+            counter = counters.computeIfAbsent(menuItemId, id -> new AtomicLong(pack(now, 0f)));
+            add(counter, now, amount);
+            // The sweep may have dropped the counter just before the add; add to its replacement instead.
+        } while (counters.get(menuItemId) != counter);
+    }
+
+    private void add(AtomicLong counter, int now, double amount) {
+        long current;
+        long updated;
+        do {
+            current = counter.get();
+            updated = pack(now, (float) (decayed(current, now) + amount));
+        } while (!counter.compareAndSet(current, updated));
+    }
+
+    private double decayed(long packed, int now) {
+        int updatedAt = (int) (packed >>> 32);
+        float value = Float.intBitsToFloat((int) packed);
+        // A writer with a slightly later clock may have stamped the counter ahead of this reader.
+        int elapsed = Math.max(0, now - updatedAt);
+        return value * Math.exp(-decayPerSecond * elapsed);
+    }
+
+    private static long pack(int seconds, float value) {
+        return ((long) seconds << 32) | (Float.floatToRawIntBits(value) & 0xFFFFFFFFL);
+    }
+
+    private int nowSeconds() {
+        // Truncated to 32 bits; only differences of two stamps are used, and those survive the wrap.
+        return (int) (clock.millis() / 1000);
+    }
+}
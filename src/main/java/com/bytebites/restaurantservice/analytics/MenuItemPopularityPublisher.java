@@ -0,0 +1,75 @@
+package com.bytebites.restaurantservice.analytics;
+
+import com.bytebites.restaurantservice.config.PopularityProperties;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Shares the orders this replica counted with the other replicas, which only see the orders of
+ * their own partitions. Each message names the instance that sent it, so that instance can skip
+ * its own orders; it counted them before publishing.
+ */
+@Component
+@Slf4j
+public class MenuItemPopularityPublisher {
+
+    public static final String ORIGIN_HEADER = "bytebites-popularity-origin";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topic;
+    private final byte[] instanceId = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+
+    public MenuItemPopularityPublisher(@Qualifier("popularityKafkaTemplate") KafkaTemplate<String, String> kafkaTemplate,
+                                       PopularityProperties popularityProperties) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = popularityProperties.getTopic();
+    }
+
+    /**
+     * Keyed by restaurant id; the value is the order's items as comma-separated
+     * {@code menuItemId:quantity} pairs, and the record timestamp is when the order was counted.
+     */
+    public void publish(OrderPlacedEvent event) {
+        if (event.orderItems() == null) {
+            return;
+        }
+        StringBuilder message = new StringBuilder();
+        for (OrderItemDetails item : event.orderItems()) {
+            if (item == null || item.menuItemId() == null) {
+                continue;
+            }
+            if (!message.isEmpty()) {
+                message.append(',');
+            }
+            message.append(item.menuItemId()).append(':').append(item.quantity() == null ? 1 : item.quantity());
+        }
+        if (message.isEmpty()) {
+            return;
+        }
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic, event.restaurantId(), message.toString());
+        record.headers().add(ORIGIN_HEADER, instanceId);
+        kafkaTemplate.send(record).whenComplete((result, ex) -> {
+            if (ex != null) {
+                // Other replicas rank without this order; it decays out of this replica's counts in time.
+                log.warn("Failed to share popularity of order {}. Error: {}", event.orderId(), ex.getMessage());
+            }
+        });
+    }
+
+    /** True for an order this instance published itself. */
+    public boolean isOwn(ConsumerRecord<?, ?> record) {
+        Header origin = record.headers().lastHeader(ORIGIN_HEADER);
+        return origin != null && Arrays.equals(origin.value(), instanceId);
+    }
+}
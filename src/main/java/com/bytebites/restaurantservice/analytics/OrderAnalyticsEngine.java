@@ -0,0 +1,98 @@
+package com.bytebites.restaurantservice.analytics;
+
+import com.bytebites.restaurantservice.dto.OrderAnalyticsResponse;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.event.RestaurantDeletedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Rolling order counts, revenue and best sellers per restaurant, fed incrementally from the order
+ * event stream. Orders are bucketed by the time they are received, not by {@code orderDate}, so a
+ * late or redelivered event counts towards the current buckets. Kept in memory only; the figures
+ * start from zero when the service restarts.
+ *
+ * <p>Figures are kept per replica, from the orders its own consumers handle. Orders are keyed by
+ * restaurant, so the replica consuming a restaurant's partition holds all of its figures and any
+ * other replica reads zeros; a rebalance starts the new owner from zero. A restaurant with no
+ * orders for longer than the longest window is swept out, as all of its figures are zero anyway.
+ */
+@Component
+@Slf4j
+public class OrderAnalyticsEngine {
+
+    private static final long LONGEST_SPAN_MILLIS = Arrays.stream(AnalyticsWindow.values())
+            .map(AnalyticsWindow::getSpan)
+            .max(Duration::compareTo)
+            .orElseThrow()
+            .toMillis();
+
+    private final Map<UUID, RestaurantOrderStats> restaurants = new ConcurrentHashMap<>();
+    private final Clock clock;
+
+    @Autowired
+    public OrderAnalyticsEngine() {
+        this(Clock.systemUTC());
+    }
+
+    OrderAnalyticsEngine(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * @throws IllegalArgumentException if the event's restaurant ID is not a UUID
+     */
+    public void record(OrderPlacedEvent event) {
+        UUID restaurantId = UUID.fromString(event.restaurantId());
+        long amountCents = toCents(event.totalAmount());
+        // Recorded inside the compute, so the sweep cannot drop the stats between lookup and record.
+        restaurants.compute(restaurantId, (id, stats) -> {
+            RestaurantOrderStats target = stats == null ? new RestaurantOrderStats(id) : stats;
+            target.record(clock.millis(), amountCents, event.orderItems());
+            return target;
+        });
+    }
+
+    public OrderAnalyticsResponse getAnalytics(UUID restaurantId, AnalyticsWindow window, int topItems) {
+        RestaurantOrderStats stats = restaurants.get(restaurantId);
+        // A restaurant without orders yet reads as all zeros rather than as missing.
+        return (stats == null ? new RestaurantOrderStats(restaurantId) : stats)
+                .snapshot(window, clock.millis(), topItems);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantDeleted(RestaurantDeletedEvent event) {
+        restaurants.remove(event.restaurantId());
+    }
+
+    /** Drops restaurants that have had no orders for longer than the longest window. */
+    @Scheduled(fixedDelayString = "${bytebites.restaurant.analytics.sweep-interval-ms:600000}")
+    public void sweep() {
+        long cutoff = clock.millis() - LONGEST_SPAN_MILLIS;
+        int before = restaurants.size();
+        for (UUID restaurantId : restaurants.keySet()) {
+            restaurants.computeIfPresent(restaurantId, (id, stats) -> stats.idleSince(cutoff) ? null : stats);
+        }
+        log.debug("Analytics sweep kept {} of {} restaurants", restaurants.size(), before);
+    }
+
+    int trackedRestaurants() {
+        return restaurants.size();
+    }
+
+    /** Amounts are kept as whole cents; going through a double avoids a BigDecimal per order. */
+    private static long toCents(BigDecimal amount) {
+        return amount == null ? 0 : Math.round(amount.doubleValue() * 100);
+    }
+}
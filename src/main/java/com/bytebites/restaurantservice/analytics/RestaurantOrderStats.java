@@ -0,0 +1,139 @@
+package com.bytebites.restaurantservice.analytics;
+
+import com.bytebites.restaurantservice.dto.OrderAnalyticsResponse;
+import com.bytebites.restaurantservice.dto.TopSellingItemResponse;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The rolling counters of a single restaurant. Menu items are numbered in the order they are first
+ * sold and every window counts quantities by that number, so steady-state recording only touches
+ * primitive arrays. Writers and readers serialise on this restaurant's own lock only.
+ */
+class RestaurantOrderStats {
+
+    private static final int INITIAL_ITEM_CAPACITY = 16;
+
+    private final UUID restaurantId;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Integer> itemSlots = new HashMap<>();
+    private final List<String> itemIds = new ArrayList<>();
+    private final List<String> itemNames = new ArrayList<>();
+    private final Map<AnalyticsWindow, SlidingWindow> windows = new EnumMap<>(AnalyticsWindow.class);
+    private final SlidingWindow[] windowArray;
+    private int itemCapacity = INITIAL_ITEM_CAPACITY;
+    private long lastRecordedMillis;
+
+    RestaurantOrderStats(UUID restaurantId) {
+        this.restaurantId = restaurantId;
+        for (AnalyticsWindow window : AnalyticsWindow.values()) {
+            windows.put(window, new SlidingWindow(window, INITIAL_ITEM_CAPACITY));
+        }
+        this.windowArray = windows.values().toArray(SlidingWindow[]::new);
+    }
+
+    void record(long nowMillis, long amountCents, List<OrderItemDetails> items) {
+        lock.lock();
+        try {
+            lastRecordedMillis = nowMillis;
+            for (SlidingWindow window : windowArray) {
+                int bucket = window.bucketAt(nowMillis);
+                window.addOrder(bucket, amountCents);
+                if (items == null) {
+                    continue;
+                }
+                for (int i = 0; i < items.size(); i++) {
+                    OrderItemDetails item = items.get(i);
+                    if (item == null || item.menuItemId() == null) {
+                        continue;
+                    }
+                    int quantity = item.quantity() == null ? 1 : item.quantity();
+                    window.addQuantity(bucket, slotOf(item), quantity);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** True if no order was recorded at or after the given time, so every window reads zero from then on. */
+    boolean idleSince(long cutoffMillis) {
+        lock.lock();
+        try {
+            return lastRecordedMillis < cutoffMillis;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    OrderAnalyticsResponse snapshot(AnalyticsWindow window, long nowMillis, int topItems) {
+        lock.lock();
+        try {
+            long[] itemTotals = new long[itemIds.size()];
+            SlidingWindow.WindowTotals totals = windows.get(window).sum(nowMillis, itemTotals);
+            double minutes = Math.max(1, nowMillis - totals.fromMillis()) / 60_000.0;
+            return OrderAnalyticsResponse.builder()
+                    .restaurantId(restaurantId)
+                    .window(window.getLabel())
+                    .from(Instant.ofEpochMilli(totals.fromMillis()))
+                    .to(Instant.ofEpochMilli(nowMillis))
+                    .orderCount(totals.orders())
+                    .ordersPerMinute(totals.orders() / minutes)
+                    .revenue(BigDecimal.valueOf(totals.revenueCents(), 2))
+                    .topItems(topItems(itemTotals, topItems))
+                    .build();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int slotOf(OrderItemDetails item) {
+        Integer slot = itemSlots.get(item.menuItemId());
+        if (slot != null) {
+            return slot;
+        }
+        int newSlot = itemIds.size();
+        if (newSlot == itemCapacity) {
+            itemCapacity *= 2;
+            for (SlidingWindow window : windowArray) {
+                window.growItemCapacity(itemCapacity);
+            }
+        }
+        itemSlots.put(item.menuItemId(), newSlot);
+        itemIds.add(item.menuItemId());
+        itemNames.add(item.menuItemName());
+        return newSlot;
+    }
+
+    /** Picks the best sellers by repeated selection; menus are small, so this beats sorting every slot. */
+    private List<TopSellingItemResponse> topItems(long[] itemTotals, int limit) {
+        List<TopSellingItemResponse> top = new ArrayList<>(limit);
+        while (top.size() < limit) {
+            int best = -1;
+            for (int slot = 0; slot < itemTotals.length; slot++) {
+                if (itemTotals[slot] > 0 && (best < 0 || itemTotals[slot] > itemTotals[best])) {
+                    best = slot;
+                }
+            }
+            if (best < 0) {
+                break;
+            }
+            top.add(TopSellingItemResponse.builder()
+                    .menuItemId(itemIds.get(best))
+                    .menuItemName(itemNames.get(best))
+                    .quantity(itemTotals[best])
+                    .build());
+            itemTotals[best] = 0;
+        }
+        return top;
+    }
+}
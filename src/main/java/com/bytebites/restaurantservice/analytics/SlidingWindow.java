@@ -0,0 +1,97 @@
+package com.bytebites.restaurantservice.analytics;
+
+import java.util.Arrays;
+
+/**
+ * One window of a restaurant's counters as parallel primitive arrays indexed by bucket. A bucket's
+ * item quantities are allocated the first time an order lands in it and reused in place when the
+ * ring comes round to it again, so a quiet restaurant holds only the buckets it has used, and
+ * recording never allocates in steady state unless a menu item is seen for the first time.
+ * Not thread-safe; {@link RestaurantOrderStats} guards it.
+ */
+class SlidingWindow {
+
+    private final AnalyticsWindow window;
+    private final int bucketCount;
+    private final long bucketWidthMillis;
+    /** The bucket number (time / width) each slot currently holds; -1 for never used. */
+    private final long[] epochs;
+    private final long[] orders;
+    private final long[] revenueCents;
+    /** Quantity sold per bucket and menu item slot, see {@link RestaurantOrderStats}; null for never used. */
+    private final long[][] quantities;
+    private int itemCapacity;
+
+    SlidingWindow(AnalyticsWindow window, int itemCapacity) {
+        this.window = window;
+        this.bucketCount = window.bucketCount();
+        this.bucketWidthMillis = window.bucketWidthMillis();
+        this.epochs = new long[bucketCount];
+        this.orders = new long[bucketCount];
+        this.revenueCents = new long[bucketCount];
+        this.quantities = new long[bucketCount][];
+        this.itemCapacity = itemCapacity;
+        Arrays.fill(epochs, -1);
+    }
+
+    /** Opens the bucket for the given time, clearing whatever it held a full turn ago. */
+    int bucketAt(long nowMillis) {
+        long epoch = nowMillis / bucketWidthMillis;
+        int index = (int) (epoch % bucketCount);
+        if (epochs[index] != epoch) {
+            epochs[index] = epoch;
+            orders[index] = 0;
+            revenueCents[index] = 0;
+            if (quantities[index] == null) {
+                quantities[index] = new long[itemCapacity];
+            } else {
+                Arrays.fill(quantities[index], 0);
+            }
+        }
+        return index;
+    }
+
+    void addOrder(int bucket, long amountCents) {
+        orders[bucket]++;
+        revenueCents[bucket] += amountCents;
+    }
+
+    void addQuantity(int bucket, int itemSlot, int quantity) {
+        quantities[bucket][itemSlot] += quantity;
+    }
+
+    void growItemCapacity(int itemCapacity) {
+        this.itemCapacity = itemCapacity;
+        for (int i = 0; i < bucketCount; i++) {
+            if (quantities[i] != null) {
+                quantities[i] = Arrays.copyOf(quantities[i], itemCapacity);
+            }
+        }
+    }
+
+    /**
+     * Sums the buckets still inside the window at {@code nowMillis}; {@code itemTotals} receives the
+     * quantity per item slot. Work is proportional to the bucket count, not to the orders seen.
+     */
+    WindowTotals sum(long nowMillis, long[] itemTotals) {
+        long currentEpoch = nowMillis / bucketWidthMillis;
+        long oldestEpoch = currentEpoch - bucketCount + 1;
+        long orderTotal = 0;
+        long revenueTotal = 0;
+        for (int i = 0; i < bucketCount; i++) {
+            if (epochs[i] < oldestEpoch || epochs[i] > currentEpoch) {
+                continue;
+            }
+            orderTotal += orders[i];
+            revenueTotal += revenueCents[i];
+            long[] bucketQuantities = quantities[i];
+            for (int slot = 0; slot < itemTotals.length; slot++) {
+                itemTotals[slot] += bucketQuantities[slot];
+            }
+        }
+        return new WindowTotals(window, oldestEpoch * bucketWidthMillis, orderTotal, revenueTotal);
+    }
+
+    record WindowTotals(AnalyticsWindow window, long fromMillis, long orders, long revenueCents) {
+    }
+}
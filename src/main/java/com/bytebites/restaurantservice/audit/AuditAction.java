@@ -0,0 +1,8 @@
+package com.bytebites.restaurantservice.audit;
+
+public enum AuditAction {
+    RESTAURANT_UPDATED,
+    RESTAURANT_DELETED,
+    MENU_ITEM_UPDATED,
+    MENU_ITEM_DELETED
+}
@@ -0,0 +1,23 @@
+package com.bytebites.restaurantservice.audit;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One audited change, published as an application event by the service that made it.
+ * {@code before} and {@code after} are the DTOs describing the changed fields; {@code after} is
+ * null for deletions. They are only serialised when the entry is written, off the request thread.
+ */
+public record AuditEntry(Instant occurredAt,
+                         UUID actorId,
+                         AuditAction action,
+                         UUID restaurantId,
+                         UUID entityId,
+                         Object before,
+                         Object after) {
+
+    public static AuditEntry of(UUID actorId, AuditAction action, UUID restaurantId, UUID entityId,
+                                Object before, Object after) {
+        return new AuditEntry(Instant.now(), actorId, action, restaurantId, entityId, before, after);
+    }
+}
@@ -0,0 +1,123 @@
+package com.bytebites.restaurantservice.audit;
+
+import com.bytebites.restaurantservice.config.AuditProperties;
+import com.bytebites.restaurantservice.model.AuditRecord;
+import com.bytebites.restaurantservice.repository.AuditRecordRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Write-behind audit trail. Committed changes are put into a bounded ring buffer on the request
+ * thread, which never waits: when the buffer is full the entry is dropped and counted. A
+ * scheduled flush drains the buffer in batches into the append-only audit table, at most
+ * {@code max-batches-per-flush} at a time so a backlog cannot hold the scheduler's thread.
+ */
+@Component
+@Slf4j
+public class AuditLogWriter {
+
+    private final AuditRecordRepository auditRecordRepository;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int maxBatchesPerFlush;
+    private final BlockingQueue<AuditEntry> buffer;
+    private final Counter written;
+    private final Counter dropped;
+    private final Counter failed;
+
+    public AuditLogWriter(AuditRecordRepository auditRecordRepository, ObjectMapper objectMapper,
+                          AuditProperties auditProperties, MeterRegistry meterRegistry) {
+        this.auditRecordRepository = auditRecordRepository;
+        this.objectMapper = objectMapper;
+        this.batchSize = auditProperties.getBatchSize();
+        this.maxBatchesPerFlush = auditProperties.getMaxBatchesPerFlush();
+        this.buffer = new ArrayBlockingQueue<>(auditProperties.getBufferCapacity());
+        Gauge.builder("bytebites.audit.buffer.size", buffer, BlockingQueue::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+        Gauge.builder("bytebites.audit.buffer.remaining", buffer, BlockingQueue::remainingCapacity)
+                .description("Free slots before audit entries start being dropped")
+                .register(meterRegistry);
+        this.written = entriesCounter(meterRegistry, "written");
+        this.dropped = entriesCounter(meterRegistry, "dropped");
+        this.failed = entriesCounter(meterRegistry, "failed");
+    }
+
+    private static Counter entriesCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("bytebites.audit.entries")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /** Only committed changes are audited; a rolled-back write never reaches the buffer. */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAuditEntry(AuditEntry entry) {
+        if (!buffer.offer(entry)) {
+            dropped.increment();
+            log.warn("Audit buffer full, dropped {} on {} ID: {} by {}",
+                    entry.action(), entry.restaurantId(), entry.entityId(), entry.actorId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bytebites.restaurant.audit.flush-interval-ms:1000}")
+    public void flush() {
+        flush(maxBatchesPerFlush);
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush(Integer.MAX_VALUE);
+    }
+
+    private void flush(int maxBatches) {
+        List<AuditEntry> batch = new ArrayList<>(batchSize);
+        for (int batches = 0; batches < maxBatches && buffer.drainTo(batch, batchSize) > 0; batches++) {
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<AuditEntry> batch) {
+        List<AuditRecord> records = new ArrayList<>(batch.size());
+        for (AuditEntry entry : batch) {
+            try {
+                records.add(toRecord(entry));
+            } catch (JsonProcessingException e) {
+                failed.increment();
+                log.error("Failed to serialise audit entry {} for ID: {}", entry.action(), entry.entityId(), e);
+            }
+        }
+        try {
+            auditRecordRepository.saveAll(records);
+            written.increment(records.size());
+        } catch (RuntimeException e) {
+            failed.increment(records.size());
+            log.error("Failed to write {} audit entries", records.size(), e);
+        }
+    }
+
+    private AuditRecord toRecord(AuditEntry entry) throws JsonProcessingException {
+        return AuditRecord.builder()
+                .occurredAt(entry.occurredAt())
+                .actorId(entry.actorId())
+                .action(entry.action())
+                .restaurantId(entry.restaurantId())
+                .entityId(entry.entityId())
+                .beforeValue(entry.before() == null ? null : objectMapper.writeValueAsString(entry.before()))
+                .afterValue(entry.after() == null ? null : objectMapper.writeValueAsString(entry.after()))
+                .build();
+    }
+}
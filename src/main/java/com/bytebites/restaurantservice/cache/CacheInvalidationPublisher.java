@@ -0,0 +1,62 @@
+package com.bytebites.restaurantservice.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.header.Header;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Broadcasts local cache evictions to the other replicas. Each message names the instance that
+ * sent it, so that instance can skip its own invalidations; it evicted before publishing.
+ */
+@Component
+@Slf4j
+public class CacheInvalidationPublisher {
+
+    public static final String ORIGIN_HEADER = "bytebites-cache-origin";
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final String topic;
+    private final byte[] instanceId = UUID.randomUUID().toString().getBytes(StandardCharsets.UTF_8);
+
+    public CacheInvalidationPublisher(@Qualifier("cacheInvalidationKafkaTemplate") KafkaTemplate<String, String> kafkaTemplate,
+                                      @Value("${bytebites.restaurant.cache.invalidation-topic}") String topic) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = topic;
+    }
+
+    /**
+     * Keyed by restaurant id; the value is the restaurant id followed by the ids of the changed
+     * menu items, comma-separated, so a message for the restaurant alone is just its id.
+     */
+    public void publish(UUID restaurantId, List<UUID> menuItemIds) {
+        String key = restaurantId.toString();
+        StringBuilder message = new StringBuilder(key);
+        for (UUID menuItemId : menuItemIds) {
+            message.append(',').append(menuItemId);
+        }
+        ProducerRecord<String, String> record = new ProducerRecord<>(topic, key, message.toString());
+        record.headers().add(ORIGIN_HEADER, instanceId);
+        kafkaTemplate.send(record).whenComplete((result, ex) -> {
+            if (ex != null) {
+                // Peers fall back to the cache TTL for this entry.
+                log.warn("Failed to publish cache invalidation for restaurant ID: {}. Error: {}", restaurantId, ex.getMessage());
+            }
+        });
+    }
+
+    /** True for an invalidation this instance published itself. */
+    public boolean isOwn(ConsumerRecord<?, ?> record) {
+        Header origin = record.headers().lastHeader(ORIGIN_HEADER);
+        return origin != null && Arrays.equals(origin.value(), instanceId);
+    }
+}
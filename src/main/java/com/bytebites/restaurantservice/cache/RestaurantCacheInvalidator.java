@@ -0,0 +1,45 @@
+package com.bytebites.restaurantservice.cache;
+
+import com.bytebites.restaurantservice.config.CacheConfig;
+import com.bytebites.restaurantservice.event.RestaurantChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RestaurantCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    /**
+     * Evicts only after the write has committed; evicting earlier would let a concurrent
+     * reader repopulate the entry from the not-yet-committed (old) rows. The other replicas
+     * are told through the invalidation topic.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantChanged(RestaurantChangedEvent event) {
+        evictLocal(event.restaurantId(), event.menuItemIds());
+        invalidationPublisher.publish(event.restaurantId(), event.menuItemIds());
+    }
+
+    public void evictLocal(UUID restaurantId, Collection<UUID> menuItemIds) {
+        for (String cacheName : CacheConfig.RESTAURANT_KEYED_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.evict(restaurantId);
+            }
+        }
+        secondLevelCacheEvictor.evictRestaurant(restaurantId, menuItemIds);
+        log.debug("Evicted cached entries for restaurant ID: {}", restaurantId);
+    }
+}
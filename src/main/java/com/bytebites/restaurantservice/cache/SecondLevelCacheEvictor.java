@@ -0,0 +1,40 @@
+package com.bytebites.restaurantservice.cache;
+
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Drops a restaurant's entries from the Hibernate second-level cache. Hibernate keeps the
+ * cache in step with writes made through this instance, except for the version bump forced by
+ * menu changes; entries written by other replicas are only learnt about through the
+ * invalidation topic, which names the menu items that changed.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SecondLevelCacheEvictor {
+
+    private static final String MENU_ITEMS_ROLE = Restaurant.class.getName() + ".menuItems";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictRestaurant(UUID restaurantId, Collection<UUID> menuItemIds) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(Restaurant.class, restaurantId);
+        cache.evictCollectionData(MENU_ITEMS_ROLE, restaurantId);
+        for (UUID menuItemId : menuItemIds) {
+            cache.evictEntityData(MenuItem.class, menuItemId);
+        }
+        log.debug("Evicted second-level cache entries for restaurant ID: {} and {} menu items",
+                restaurantId, menuItemIds.size());
+    }
+}
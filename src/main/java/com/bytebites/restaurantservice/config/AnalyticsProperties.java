@@ -0,0 +1,15 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.analytics")
+@Data
+public class AnalyticsProperties {
+    /** Number of best-selling menu items returned per window. */
+    private int topItems = 5;
+    /** Delay between sweeps that drop restaurants idle for longer than the longest window, in milliseconds. */
+    private long sweepIntervalMs = 600000;
+}
@@ -0,0 +1,19 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.audit")
+@Data
+public class AuditProperties {
+    /** Entries held in memory awaiting a flush; entries arriving when it is full are dropped. */
+    private int bufferCapacity = 10000;
+    /** Most entries written in one transaction. */
+    private int batchSize = 500;
+    /** Most batches one flush writes; the rest of a backlog waits for the next flush. */
+    private int maxBatchesPerFlush = 10;
+    /** Delay between the end of one flush and the start of the next, in milliseconds. */
+    private long flushIntervalMs = 1000;
+}
@@ -0,0 +1,21 @@
+package com.bytebites.restaurantservice.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.util.List;
+
+/**
+ * Caches are built by Spring Boot from the spring.cache.* properties. The caching advice runs
+ * ahead of the transactional advice so that a cache hit never opens a transaction or borrows a connection.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+    public static final String MENUS_CACHE = "menus";
+
+    /** Caches keyed by restaurant id; all of them are evicted when a restaurant or its menu changes. */
+    public static final List<String> RESTAURANT_KEYED_CACHES = List.of(MENUS_CACHE);
+}
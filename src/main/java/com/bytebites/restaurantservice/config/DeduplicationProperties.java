@@ -0,0 +1,23 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.order-events.dedup")
+@Data
+public class DeduplicationProperties {
+    /** Orders the Bloom filter is sized for; beyond this its false-positive rate climbs. */
+    private long expectedOrders = 1_000_000;
+    /** Share of new orders the Bloom filter may wrongly flag, each costing one database lookup. */
+    private double falsePositiveRate = 0.01;
+    /** Most recently processed order ids held exactly in memory. */
+    private long recentCapacity = 100_000;
+    /** How long processed orders are remembered; must exceed any realistic redelivery delay. */
+    private Duration retention = Duration.ofDays(7);
+    /** Delay between purges of expired processed orders, in milliseconds. */
+    private long purgeIntervalMs = 3_600_000;
+}
@@ -0,0 +1,27 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.security.jwt")
+@Data
+public class JwtCacheProperties {
+    /** Upper bound on verified tokens held in memory. */
+    private long tokenCacheMaxSize = 10000;
+    /** Longest a verified token is reused, even if it expires later. */
+    private Duration tokenCacheMaxTtl = Duration.ofMinutes(5);
+    /** How long a fetched key set is used before it must be fetched again. */
+    private Duration jwksTimeToLive = Duration.ofMinutes(15);
+    /** How long before expiry the key set is refreshed in the background. */
+    private Duration jwksRefreshAhead = Duration.ofMinutes(1);
+    /** How long a request waits for a key set fetch that another request already started. */
+    private Duration jwksRefreshTimeout = Duration.ofSeconds(5);
+    private Duration jwksConnectTimeout = Duration.ofSeconds(2);
+    private Duration jwksReadTimeout = Duration.ofSeconds(2);
+    /** How long the last fetched key set keeps being served while the auth service is unreachable. */
+    private Duration jwksOutageTolerance = Duration.ofHours(4);
+}
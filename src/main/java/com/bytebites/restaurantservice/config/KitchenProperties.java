@@ -0,0 +1,21 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.kitchen")
+@Data
+public class KitchenProperties {
+    /** Whether kitchen queues are periodically written to the database and restored on startup. */
+    private boolean snapshotEnabled = true;
+    /** Delay between the end of one snapshot run and the start of the next, in milliseconds. */
+    private long snapshotIntervalMs = 5000;
+    /** Open orders kept per restaurant; adding one beyond this drops the oldest. */
+    private int maxOrdersPerRestaurant = 1000;
+    /** Orders placed longer ago than this are dropped from the queue when the next order arrives. */
+    private Duration maxOrderAge = Duration.ofHours(12);
+}
@@ -0,0 +1,13 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.menu-import")
+@Data
+public class MenuImportProperties {
+    /** Imports with more rows are rejected before anything is written. */
+    private int maxRows = 5000;
+}
@@ -0,0 +1,15 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.optimistic-retry")
+@Data
+public class OptimisticRetryProperties {
+    /** Attempts, including the first, before a version conflict is reported to the client. */
+    private int maxAttempts = 3;
+    /** Base pause before a retry, in milliseconds; grows with each attempt and is jittered. */
+    private long backoffMs = 20;
+}
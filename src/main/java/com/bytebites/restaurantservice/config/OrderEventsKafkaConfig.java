@@ -0,0 +1,146 @@
+package com.bytebites.restaurantservice.config;
+
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.event.OrderRejectedEvent;
+import com.bytebites.restaurantservice.kitchen.KitchenSnapshotWriter;
+import com.bytebites.restaurantservice.retry.OrderRetryPublisher;
+import com.bytebites.restaurantservice.serialization.OrderEventAvroCodec;
+import com.bytebites.restaurantservice.serialization.OrderPlacedEventDeserializer;
+import com.bytebites.restaurantservice.serialization.OrderPlacedEventSerializer;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerConsumerListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.Map;
+
+@Configuration
+public class OrderEventsKafkaConfig {
+
+    @Bean
+    public ConsumerFactory<String, OrderPlacedEvent> orderEventsConsumerFactory(KafkaProperties kafkaProperties,
+                                                                              OrderEventsProperties orderEventsProperties,
+                                                                              ObjectProvider<MeterRegistry> meterRegistry,
+                                                                              OrderEventAvroCodec orderEventAvroCodec) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties();
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, orderEventsProperties.getMaxBatchSize());
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        // Accepts JSON and Avro alike; records that are neither arrive with a null value.
+        DefaultKafkaConsumerFactory<String, OrderPlacedEvent> factory = new DefaultKafkaConsumerFactory<>(props,
+                new StringDeserializer(),
+                new ErrorHandlingDeserializer<>(new OrderPlacedEventDeserializer(orderEventAvroCodec)));
+        // Publishes the client's own metrics, including kafka.consumer.fetch.manager.records.lag(.max).
+        meterRegistry.ifAvailable(registry -> factory.addListener(new MicrometerConsumerListener<>(registry)));
+        return factory;
+    }
+
+    /**
+     * Batch container: each poll is handed to the listener as one list and its offsets are
+     * committed only when the listener acknowledges the whole batch. A batch that fails as a
+     * whole, such as on a database outage, is redelivered a few times and then parked record by
+     * record on the retry topic rather than skipped.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderPlacedEvent> orderEventsListenerContainerFactory(
+            ConsumerFactory<String, OrderPlacedEvent> orderEventsConsumerFactory,
+            OrderEventsProperties orderEventsProperties,
+            OrderRetryProperties orderRetryProperties,
+            OrderRetryPublisher orderRetryPublisher,
+            ObjectProvider<KitchenSnapshotWriter> kitchenSnapshotWriter) {
+        ConcurrentKafkaListenerContainerFactory<String, OrderPlacedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderEventsConsumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(orderEventsProperties.getConcurrency());
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        // Kitchen snapshots follow partition ownership, so only the replica consuming a restaurant's orders writes its queue.
+        kitchenSnapshotWriter.ifAvailable(factory.getContainerProperties()::setConsumerRebalanceListener);
+        factory.setCommonErrorHandler(new DefaultErrorHandler(orderRetryPublisher::recover,
+                new FixedBackOff(orderRetryProperties.getInitialDelayMs(), orderRetryProperties.getBatchAttempts() - 1L)));
+        return factory;
+    }
+
+    /**
+     * Record container for the retry topics. Each record is retried on its own, and the retry
+     * topic infrastructure pauses a partition only until its head record is due.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, OrderPlacedEvent> orderRetryListenerContainerFactory(
+            ConsumerFactory<String, OrderPlacedEvent> orderEventsConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, OrderPlacedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(orderEventsConsumerFactory);
+        return factory;
+    }
+
+    /**
+     * Forwards failed orders to the retry topics and from there on to the dead-letter topic, in
+     * the configured wire format. A record that never deserialized is forwarded as its raw bytes.
+     */
+    @Bean
+    public KafkaTemplate<String, Object> orderRetryKafkaTemplate(KafkaProperties kafkaProperties,
+                                                                 OrderEventsProperties orderEventsProperties,
+                                                                 OrderEventAvroCodec orderEventAvroCodec) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties();
+        DelegatingByTypeSerializer valueSerializer = new DelegatingByTypeSerializer(Map.of(
+                OrderPlacedEvent.class, new OrderPlacedEventSerializer(orderEventsProperties.getWireFormat(), orderEventAvroCodec),
+                byte[].class, new ByteArraySerializer()));
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props, new StringSerializer(), valueSerializer));
+    }
+
+    /**
+     * Raw bytes in both directions: dead-lettered records are replayed exactly as they were
+     * parked, including records that never deserialized.
+     */
+    @Bean
+    public KafkaTemplate<String, byte[]> orderDeadLetterKafkaTemplate(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties();
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    @Bean
+    public ConsumerFactory<String, byte[]> orderDeadLetterConsumerFactory(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildConsumerProperties();
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ByteArrayDeserializer.class);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean
+    public NewTopic orderRejectionTopic(OrderEventsProperties orderEventsProperties) {
+        return TopicBuilder.name(orderEventsProperties.getRejectionTopic()).build();
+    }
+
+    @Bean
+    public KafkaTemplate<String, OrderRejectedEvent> orderRejectionKafkaTemplate(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = kafkaProperties.buildProducerProperties();
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        // Consumers outside this service bind to their own types.
+        props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+}
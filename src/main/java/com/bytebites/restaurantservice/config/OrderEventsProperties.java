@@ -0,0 +1,23 @@
+package com.bytebites.restaurantservice.config;
+
+import com.bytebites.restaurantservice.serialization.WireFormat;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.order-events")
+@Data
+public class OrderEventsProperties {
+    private String topic = "order-events-topic";
+    /** Orders that fail menu verification are published here instead of reaching the kitchen. */
+    private String rejectionTopic = "order-rejections-topic";
+    /** Upper bound on records handed to the listener per poll (max.poll.records). */
+    private int maxBatchSize = 500;
+    /** Listener threads; effective parallelism is capped by the topic's partition count. */
+    private int concurrency = 3;
+    /** Encoding of the order events this service writes; both encodings are always accepted on read. */
+    private WireFormat wireFormat = WireFormat.JSON;
+    /** Directory holding the versioned order event schemas, {@code v1.avsc}, {@code v2.avsc}, ... */
+    private String schemaLocation = "classpath:schemas/order-placed-event";
+}
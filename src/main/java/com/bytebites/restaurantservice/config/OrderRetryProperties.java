@@ -0,0 +1,32 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.order-events.retry")
+@Data
+public class OrderRetryProperties {
+    /** Suffix of the dead-letter topic derived from {@link #topic}. */
+    public static final String DEAD_LETTER_SUFFIX = "-dlt";
+
+    /** Orders whose handling failed are parked here, off the main topic, to be retried. */
+    private String topic = "order-events-retry";
+    /** Handling attempts on the retry topics before an order is dead-lettered. */
+    private int attempts = 4;
+    /** Deliveries of a main-topic batch that fails as a whole before its records are parked. */
+    private int batchAttempts = 3;
+    /** Delay before the first delayed retry, in milliseconds. */
+    private long initialDelayMs = 1_000;
+    /** Factor applied to the delay for each further retry. */
+    private double multiplier = 4.0;
+    /** Upper bound on the delay between retries, in milliseconds. */
+    private long maxDelayMs = 60_000;
+    /** Most dead-lettered records one replay request may republish. */
+    private int maxReplayRecords = 10_000;
+
+    public String getDeadLetterTopic() {
+        return topic + DEAD_LETTER_SUFFIX;
+    }
+}
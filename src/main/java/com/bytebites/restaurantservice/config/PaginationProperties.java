@@ -0,0 +1,13 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.pagination")
+@Data
+public class PaginationProperties {
+    private int defaultPageSize = 20;
+    private int maxPageSize = 100;
+}
@@ -0,0 +1,21 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.popularity")
+@Data
+public class PopularityProperties {
+    /** Time after which an order counts half as much towards an item's popularity. */
+    private Duration halfLife = Duration.ofHours(6);
+    /** Delay between sweeps that drop counters which have decayed to nothing, in milliseconds. */
+    private long sweepIntervalMs = 600000;
+    /** Topic on which replicas share the orders they counted, so every replica ranks menus alike. */
+    private String topic = "menu-item-popularity";
+    /** Retention of the shared orders, and so how much history a starting replica replays. */
+    private Duration replay = Duration.ofDays(1);
+}
@@ -0,0 +1,16 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.search")
+@Data
+public class SearchProperties {
+    /** Hits returned per result type when the client does not ask for a limit. */
+    private int defaultLimit = 10;
+    private int maxLimit = 50;
+    /** Longer queries are rejected rather than tokenized. */
+    private int maxQueryLength = 200;
+}
@@ -0,0 +1,63 @@
+package com.bytebites.restaurantservice.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Hibernate second-level cache for restaurants and menu items, held in-process by Caffeine
+ * through JCache. Regions are created here with explicit bounds; Hibernate is told to fail
+ * rather than silently create an unbounded cache for any region not listed.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    public static final String RESTAURANTS_REGION = "restaurants";
+    public static final String MENU_ITEMS_REGION = "menu-items";
+    public static final String RESTAURANT_MENU_ITEMS_REGION = "restaurant-menu-items";
+
+    static final List<String> REGIONS = List.of(RESTAURANTS_REGION, MENU_ITEMS_REGION, RESTAURANT_MENU_ITEMS_REGION);
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheHibernateCustomizer(SecondLevelCacheProperties cacheProperties) {
+        CacheManager cacheManager = regionCacheManager(cacheProperties);
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            // Menu items are saved through their own repository, not through Restaurant.menuItems;
+            // this makes Hibernate evict the cached collection whenever an item's restaurant side changes.
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            // Feeds the hibernate.second.level.cache.* meters (hits, misses, puts per region).
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+        };
+    }
+
+    /**
+     * The provider's default manager is shared per class loader, so regions that already exist
+     * (another application context in the same JVM) are reused rather than created twice.
+     */
+    private static CacheManager regionCacheManager(SecondLevelCacheProperties cacheProperties) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        for (String region : REGIONS) {
+            if (cacheManager.getCache(region) == null) {
+                CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+                configuration.setMaximumSize(OptionalLong.of(cacheProperties.getMaxEntries()));
+                configuration.setExpireAfterWrite(OptionalLong.of(cacheProperties.getTimeToLive().toNanos()));
+                configuration.setStatisticsEnabled(true);
+                cacheManager.createCache(region, configuration);
+            }
+        }
+        return cacheManager;
+    }
+}
@@ -0,0 +1,17 @@
+package com.bytebites.restaurantservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "bytebites.restaurant.second-level-cache")
+@Data
+public class SecondLevelCacheProperties {
+    /** Upper bound on the entries held by each Hibernate cache region. */
+    private long maxEntries = 10000;
+    /** How long an entry may live; bounds staleness if a cross-instance invalidation is lost. */
+    private Duration timeToLive = Duration.ofMinutes(10);
+}
@@ -1,15 +1,33 @@
 package com.bytebites.restaurantservice.config;
 
+import com.bytebites.restaurantservice.security.CachingGrantedAuthoritiesConverter;
+import com.bytebites.restaurantservice.security.CachingJwtDecoder;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jose.util.DefaultResourceRetriever;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
+import java.net.MalformedURLException;
+import java.net.URI;
+
 import static org.springframework.security.config.Customizer.withDefaults;
 
 @Configuration
@@ -31,6 +49,41 @@ public class SecurityConfig {
         return http.build();
     }
 
+    /**
+     * Verifies bearer tokens against the auth service's key set, reusing earlier verifications
+     * of the same token until it expires.
+     * <p>
+     * The key set is cached and refreshed in the background ahead of expiry, so request threads
+     * only wait on the auth service for the very first fetch or for a token signed with a key
+     * not seen before. If the auth service is down, the last key set keeps being served for
+     * the configured outage tolerance.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(@Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}") String jwkSetUri,
+                                 JwtCacheProperties jwtProperties,
+                                 ObjectProvider<MeterRegistry> meterRegistry) throws MalformedURLException {
+        DefaultResourceRetriever retriever = new DefaultResourceRetriever(
+                (int) jwtProperties.getJwksConnectTimeout().toMillis(),
+                (int) jwtProperties.getJwksReadTimeout().toMillis(),
+                JWKSourceBuilder.DEFAULT_HTTP_SIZE_LIMIT);
+        JWKSource<SecurityContext> jwkSource = JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL(), retriever)
+                .cache(jwtProperties.getJwksTimeToLive().toMillis(), jwtProperties.getJwksRefreshTimeout().toMillis())
+                .refreshAheadCache(jwtProperties.getJwksRefreshAhead().toMillis(), true)
+                .outageTolerant(jwtProperties.getJwksOutageTolerance().toMillis())
+                .build();
+
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims are checked by Spring's validators inside NimbusJwtDecoder, as with the default decoder.
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> {
+        });
+
+        CachingJwtDecoder decoder = new CachingJwtDecoder(new NimbusJwtDecoder(jwtProcessor),
+                jwtProperties.getTokenCacheMaxSize(), jwtProperties.getTokenCacheMaxTtl());
+        meterRegistry.ifAvailable(registry -> CaffeineCacheMetrics.monitor(registry, decoder.getCache(), "jwt-tokens"));
+        return decoder;
+    }
+
     /**
      * Configures a JwtAuthenticationConverter to extract authorities from JWT claims.
      * It looks for a "roles" claim and maps them as GrantedAuthorities.
@@ -43,7 +96,7 @@ public class SecurityConfig {
         grantedAuthoritiesConverter.setAuthorityPrefix("ROLE_");
 
         JwtAuthenticationConverter jwtConverter = new JwtAuthenticationConverter();
-        jwtConverter.setJwtGrantedAuthoritiesConverter(grantedAuthoritiesConverter);
+        jwtConverter.setJwtGrantedAuthoritiesConverter(new CachingGrantedAuthoritiesConverter(grantedAuthoritiesConverter));
         return jwtConverter;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.bytebites.restaurantservice.controller;
+
+/**
+ * Reads the version out of an {@code If-Match} header. ETags in this service are entity versions,
+ * sent quoted. {@code If-Match} uses strong comparison (RFC 9110, section 13.1.1), so a weak tag
+ * never matches and the write fails with 412.
+ */
+final class IfMatch {
+
+    /** Versions start at 0, so this matches no stored version. */
+    private static final long NO_VERSION = -1;
+
+    private IfMatch() {
+    }
+
+    /**
+     * The expected version, or null when there is no header or it is {@code *} (any version).
+     * A weak tag yields a version no resource has.
+     */
+    static Long expectedVersion(String header) {
+        if (header == null || header.isBlank() || header.trim().equals("*")) {
+            return null;
+        }
+        String tag = header.trim();
+        if (tag.startsWith("W/")) {
+            return NO_VERSION;
+        }
+        if (tag.length() >= 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+            tag = tag.substring(1, tag.length() - 1);
+        }
+        try {
+            return Long.parseLong(tag);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid If-Match header: " + header + ". Expected a single ETag from a previous response");
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.bytebites.restaurantservice.controller;
+
+import com.bytebites.restaurantservice.dto.KitchenItemStatusRequest;
+import com.bytebites.restaurantservice.dto.KitchenOrderResponse;
+import com.bytebites.restaurantservice.service.KitchenService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/restaurants/{restaurantId}/kitchen/orders")
+@RequiredArgsConstructor
+public class KitchenController {
+
+    private static final Logger log = LoggerFactory.getLogger(KitchenController.class);
+
+    private final KitchenService kitchenService;
+
+    private UUID getOwnerIdFromJwt(Jwt jwt) {
+        return UUID.fromString(jwt.getSubject());
+    }
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
+    public List<KitchenOrderResponse> getKitchenQueue(@PathVariable UUID restaurantId,
+                                                      @AuthenticationPrincipal Jwt jwt) {
+        UUID ownerId = getOwnerIdFromJwt(jwt);
+        MDC.put("ownerId", ownerId.toString());
+        MDC.put("restaurantId", restaurantId.toString());
+
+        log.info("Received request to get kitchen queue for restaurant ID: {}", restaurantId);
+        try {
+            List<KitchenOrderResponse> queue = kitchenService.getKitchenQueue(restaurantId, ownerId);
+            log.info("Successfully retrieved {} queued orders for restaurant ID: {}", queue.size(), restaurantId);
+            return queue;
+        } catch (Exception e) {
+            log.error("Failed to retrieve kitchen queue for restaurant ID: {}. Error: {}", restaurantId, e.getMessage(), e);
+            throw e;
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @PutMapping("/{orderId}/items/{menuItemId}")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
+    public KitchenOrderResponse updateItemStatus(@PathVariable UUID restaurantId,
+                                                 @PathVariable String orderId,
+                                                 @PathVariable String menuItemId,
+                                                 @Valid @RequestBody KitchenItemStatusRequest request,
+                                                 @AuthenticationPrincipal Jwt jwt) {
+        UUID ownerId = getOwnerIdFromJwt(jwt);
+        MDC.put("ownerId", ownerId.toString());
+        MDC.put("restaurantId", restaurantId.toString());
+        MDC.put("orderId", orderId);
+
+        log.info("Received request to set menu item ID: {} of order ID: {} to {}", menuItemId, orderId, request.getStatus());
+        try {
+            KitchenOrderResponse response = kitchenService.updateItemStatus(
+                    restaurantId, orderId, menuItemId, request.getStatus(), ownerId);
+            log.info("Order ID: {} is now {}", orderId, response.getStatus());
+            return response;
+        } catch (Exception e) {
+            log.error("Failed to update order ID: {} for restaurant ID: {}. Error: {}", orderId, restaurantId, e.getMessage(), e);
+            throw e;
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @DeleteMapping("/{orderId}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
+    public void completeOrder(@PathVariable UUID restaurantId,
+                              @PathVariable String orderId,
+                              @AuthenticationPrincipal Jwt jwt) {
+        UUID ownerId = getOwnerIdFromJwt(jwt);
+        MDC.put("ownerId", ownerId.toString());
+        MDC.put("restaurantId", restaurantId.toString());
+        MDC.put("orderId", orderId);
+
+        log.info("Received request to complete order ID: {} for restaurant ID: {}", orderId, restaurantId);
+        try {
+            kitchenService.completeOrder(restaurantId, orderId, ownerId);
+            log.info("Successfully completed order ID: {} for restaurant ID: {}", orderId, restaurantId);
+        } catch (Exception e) {
+            log.error("Failed to complete order ID: {} for restaurant ID: {}. Error: {}", orderId, restaurantId, e.getMessage(), e);
+            throw e;
+        } finally {
+            MDC.clear();
+        }
+    }
+}
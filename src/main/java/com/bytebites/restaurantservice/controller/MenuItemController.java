@@ -1,7 +1,13 @@
 package com.bytebites.restaurantservice.controller;
 
+import com.bytebites.restaurantservice.dto.MenuImportResponse;
+import com.bytebites.restaurantservice.dto.MenuItemAvailabilityRequest;
+import com.bytebites.restaurantservice.dto.MenuItemFilter;
 import com.bytebites.restaurantservice.dto.MenuItemRequest;
 import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.MenuSnapshot;
+import com.bytebites.restaurantservice.menuimport.MenuImportParser;
+import com.bytebites.restaurantservice.menuimport.MenuImportRow;
 import com.bytebites.restaurantservice.service.MenuItemService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -9,14 +15,21 @@ import lombok.extern.slf4j.Slf4j;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.InputStream;
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Function;
 
 @RestController
 @RequestMapping("/api/restaurants/{restaurantId}/menu-items")
@@ -26,6 +39,7 @@ public class MenuItemController {
     private static final Logger log = LoggerFactory.getLogger(MenuItemController.class);
 
     private final MenuItemService menuItemService;
+    private final MenuImportParser menuImportParser;
 
     private UUID getOwnerIdFromJwt(Jwt jwt) {
         return UUID.fromString(jwt.getSubject());
@@ -54,17 +68,77 @@ public class MenuItemController {
         }
     }
 
-    @GetMapping
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
+    public MenuImportResponse importMenuItemsJson(@PathVariable UUID restaurantId,
+                                                  InputStream body,
+                                                  @AuthenticationPrincipal Jwt jwt) {
+        return importMenuItems(restaurantId, body, jwt, menuImportParser::parseJson);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
     @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
+    public MenuImportResponse importMenuItemsCsv(@PathVariable UUID restaurantId,
+                                                 InputStream body,
+                                                 @AuthenticationPrincipal Jwt jwt) {
+        return importMenuItems(restaurantId, body, jwt, menuImportParser::parseCsv);
+    }
+
+    private MenuImportResponse importMenuItems(UUID restaurantId, InputStream body, Jwt jwt,
+                                               Function<InputStream, List<MenuImportRow>> parser) {
+        UUID ownerId = getOwnerIdFromJwt(jwt);
+        MDC.put("ownerId", ownerId.toString());
+        MDC.put("restaurantId", restaurantId.toString());
+
+        log.info("Received request to bulk import menu items for restaurant ID: {}", restaurantId);
+        try {
+            List<MenuImportRow> rows = parser.apply(body);
+            MenuImportResponse response = menuItemService.importMenuItems(restaurantId, rows, ownerId);
+            log.info("Bulk import for restaurant ID: {} finished: {} created, {} updated, {} invalid",
+                    restaurantId, response.getCreated(), response.getUpdated(), response.getInvalid());
+            return response;
+        } catch (Exception e) {
+            log.error("Failed to bulk import menu items for restaurant ID: {}. Error: {}", restaurantId, e.getMessage(), e);
+            throw e;
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public List<MenuItemResponse> getMenuItemsByRestaurant(@PathVariable UUID restaurantId) {
+    public ResponseEntity<List<MenuItemResponse>> getMenuItemsByRestaurant(@PathVariable UUID restaurantId,
+                                                                           @RequestParam(required = false) Boolean available,
+                                                                           @RequestParam(required = false) BigDecimal minPrice,
+                                                                           @RequestParam(required = false) BigDecimal maxPrice,
+                                                                           @RequestParam(required = false) String sort,
+                                                                           WebRequest webRequest) {
         MDC.put("restaurantId", restaurantId.toString());
 
-        log.info("Received request to get all menu items for restaurant ID: {}", restaurantId);
+        log.info("Received request to get menu items for restaurant ID: {}. Available: {}, price: {} to {}, sort: {}",
+                restaurantId, available, minPrice, maxPrice, sort);
         try {
-            List<MenuItemResponse> menuItems = menuItemService.getMenuItemsByRestaurant(restaurantId);
-            log.info("Successfully retrieved {} menu items for restaurant ID: {}", menuItems.size(), restaurantId);
-            return menuItems;
+            MenuItemFilter filter = MenuItemFilter.of(available, minPrice, maxPrice, sort);
+            // The ETag is the restaurant version either way: a filtered view can only change when
+            // the menu does, and caches key the tag by the full URL including the query string.
+            MenuSnapshot menu = filter.isUnfiltered()
+                    ? menuItemService.getMenuSnapshot(restaurantId)
+                    : menuItemService.getFilteredMenu(restaurantId, filter);
+            if (filter.popular()) {
+                // The ranking moves with every order, not with the menu version, so it has no ETag.
+                List<MenuItemResponse> ranked = menuItemService.rankByPopularity(menu.items());
+                log.info("Successfully ranked {} menu items by popularity for restaurant ID: {}", ranked.size(), restaurantId);
+                return ResponseEntity.ok().body(ranked);
+            }
+            String etag = String.valueOf(menu.version());
+            if (webRequest.checkNotModified(etag)) {
+                log.info("Menu for restaurant ID: {} not modified since ETag {}", restaurantId, etag);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
+            log.info("Successfully retrieved {} menu items for restaurant ID: {}", menu.items().size(), restaurantId);
+            return ResponseEntity.ok().eTag(etag).body(menu.items());
         } catch (Exception e) {
             log.error("Failed to retrieve menu items for restaurant ID: {}. Error: {}", restaurantId, e.getMessage(), e);
             throw e;
@@ -73,11 +147,11 @@ public class MenuItemController {
         }
     }
 
+    /** The ETag is the item's own version, which {@code If-Match} on PUT is checked against. */
     @GetMapping("/{menuItemId}")
-    @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("isAuthenticated()")
-    public MenuItemResponse getMenuItemById(@PathVariable UUID restaurantId,
-                                            @PathVariable UUID menuItemId) {
+    public ResponseEntity<MenuItemResponse> getMenuItemById(@PathVariable UUID restaurantId,
+                                                            @PathVariable UUID menuItemId) {
         MDC.put("restaurantId", restaurantId.toString());
         MDC.put("menuItemId", menuItemId.toString());
 
@@ -85,7 +159,7 @@ public class MenuItemController {
         try {
             MenuItemResponse menuItem = menuItemService.getMenuItemById(restaurantId, menuItemId);
             log.info("Successfully retrieved menu item ID: {} for restaurant ID: {}", menuItemId, restaurantId);
-            return menuItem;
+            return withETag(ResponseEntity.ok(), menuItem);
         } catch (Exception e) {
             log.error("Failed to retrieve menu item ID: {} for restaurant ID: {}. Error: {}", menuItemId, restaurantId, e.getMessage(), e);
             throw e;
@@ -94,23 +168,28 @@ public class MenuItemController {
         }
     }
 
+    /**
+     * With {@code If-Match}, the update only applies if the item is still at that version and
+     * fails with 412 otherwise. Without it, the last writer wins.
+     */
     @PutMapping("/{menuItemId}")
-    @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
-    public MenuItemResponse updateMenuItem(@PathVariable UUID restaurantId,
-                                           @PathVariable UUID menuItemId,
-                                           @Valid @RequestBody MenuItemRequest request,
-                                           @AuthenticationPrincipal Jwt jwt) {
+    public ResponseEntity<MenuItemResponse> updateMenuItem(@PathVariable UUID restaurantId,
+                                                           @PathVariable UUID menuItemId,
+                                                           @Valid @RequestBody MenuItemRequest request,
+                                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                           @AuthenticationPrincipal Jwt jwt) {
         UUID ownerId = getOwnerIdFromJwt(jwt);
         MDC.put("ownerId", ownerId.toString());
         MDC.put("restaurantId", restaurantId.toString());
         MDC.put("menuItemId", menuItemId.toString());
 
-        log.info("Received request to update menu item ID: {} for restaurant ID: {}", menuItemId, restaurantId);
+        log.info("Received request to update menu item ID: {} for restaurant ID: {}. If-Match: {}", menuItemId, restaurantId, ifMatch);
         try {
-            MenuItemResponse response = menuItemService.updateMenuItem(restaurantId, menuItemId, request, ownerId);
+            MenuItemResponse response = menuItemService.updateMenuItem(restaurantId, menuItemId, request, ownerId,
+                    IfMatch.expectedVersion(ifMatch));
             log.info("Successfully updated menu item with ID: {} for restaurant ID: {}", response.getId(), restaurantId);
-            return response;
+            return withETag(ResponseEntity.ok(), response);
         } catch (Exception e) {
             log.error("Failed to update menu item ID: {} for restaurant ID: {}. Error: {}", menuItemId, restaurantId, e.getMessage(), e);
             throw e;
@@ -119,6 +198,33 @@ public class MenuItemController {
         }
     }
 
+    /** Sets only the availability; concurrent edits to the item or its menu are retried on the server. */
+    @PatchMapping("/{menuItemId}/availability")
+    @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
+    public ResponseEntity<MenuItemResponse> setMenuItemAvailability(@PathVariable UUID restaurantId,
+                                                                    @PathVariable UUID menuItemId,
+                                                                    @Valid @RequestBody MenuItemAvailabilityRequest request,
+                                                                    @AuthenticationPrincipal Jwt jwt) {
+        UUID ownerId = getOwnerIdFromJwt(jwt);
+        MDC.put("ownerId", ownerId.toString());
+        MDC.put("restaurantId", restaurantId.toString());
+        MDC.put("menuItemId", menuItemId.toString());
+
+        log.info("Received request to set availability of menu item ID: {} for restaurant ID: {} to {}",
+                menuItemId, restaurantId, request.getAvailable());
+        try {
+            MenuItemResponse response = menuItemService.setMenuItemAvailability(restaurantId, menuItemId,
+                    request.getAvailable(), ownerId);
+            log.info("Successfully set availability of menu item ID: {} for restaurant ID: {}", menuItemId, restaurantId);
+            return withETag(ResponseEntity.ok(), response);
+        } catch (Exception e) {
+            log.error("Failed to set availability of menu item ID: {} for restaurant ID: {}. Error: {}", menuItemId, restaurantId, e.getMessage(), e);
+            throw e;
+        } finally {
+            MDC.clear();
+        }
+    }
+
     @DeleteMapping("/{menuItemId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
@@ -141,4 +247,11 @@ public class MenuItemController {
             MDC.clear();
         }
     }
-}
\ No newline at end of file
+
+    private static ResponseEntity<MenuItemResponse> withETag(ResponseEntity.BodyBuilder builder, MenuItemResponse menuItem) {
+        if (menuItem.getVersion() != null) {
+            builder.eTag(String.valueOf(menuItem.getVersion()));
+        }
+        return builder.body(menuItem);
+    }
+}
@@ -0,0 +1,43 @@
+package com.bytebites.restaurantservice.controller;
+
+import com.bytebites.restaurantservice.dto.DeadLetterReplayResponse;
+import com.bytebites.restaurantservice.service.OrderDeadLetterService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/admin/order-events")
+@RequiredArgsConstructor
+public class OrderEventAdminController {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderEventAdminController.class);
+
+    private final OrderDeadLetterService orderDeadLetterService;
+
+    @PostMapping("/dead-letters/replay")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ROLE_ADMIN')")
+    public DeadLetterReplayResponse replayDeadLetters(@RequestParam(defaultValue = "1000") int limit,
+                                                      @AuthenticationPrincipal Jwt jwt) {
+        MDC.put("adminId", jwt.getSubject());
+
+        log.info("Received request to replay up to {} dead-lettered order events", limit);
+        try {
+            DeadLetterReplayResponse response = orderDeadLetterService.replay(limit);
+            log.info("Successfully replayed {} dead-lettered order events", response.getReplayed());
+            return response;
+        } catch (Exception e) {
+            log.error("Failed to replay dead-lettered order events. Error: {}", e.getMessage(), e);
+            throw e;
+        } finally {
+            MDC.clear();
+        }
+    }
+}
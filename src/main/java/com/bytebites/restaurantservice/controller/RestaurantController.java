@@ -1,20 +1,35 @@
 package com.bytebites.restaurantservice.controller;
 
+import com.bytebites.restaurantservice.analytics.AnalyticsWindow;
+import com.bytebites.restaurantservice.dto.OrderAnalyticsResponse;
+import com.bytebites.restaurantservice.dto.RestaurantPageResponse;
 import com.bytebites.restaurantservice.dto.RestaurantRequest;
 import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.dto.RestaurantView;
 import com.bytebites.restaurantservice.listener.OrderPlacedEventListener;
+import com.bytebites.restaurantservice.service.OrderAnalyticsService;
 import com.bytebites.restaurantservice.service.RestaurantService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,7 +39,11 @@ import java.util.UUID;
 public class RestaurantController {
 
     private static final Logger log = LoggerFactory.getLogger(RestaurantController.class);
+    private static final String NDJSON = "application/x-ndjson";
+
     private final RestaurantService restaurantService;
+    private final OrderAnalyticsService orderAnalyticsService;
+    private final ObjectMapper objectMapper;
 
     private UUID getOwnerIdFromJwt(Jwt jwt) {
         return UUID.fromString(jwt.getSubject());
@@ -52,32 +71,71 @@ public class RestaurantController {
         }
     }
 
+    /**
+     * Lists restaurants as summaries (id, name, address) unless {@code view=full} asks for the
+     * complete restaurants with their menus embedded.
+     */
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("isAuthenticated()")
-    public List<RestaurantResponse> getAllRestaurants() {
-        log.info("Received request to get all restaurants.");
+    public RestaurantPageResponse<?> getAllRestaurants(@RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) Integer size,
+                                                       @RequestParam(defaultValue = "summary") String view) {
+        log.info("Received request to get restaurants page. Cursor: {}, size: {}, view: {}", cursor, size, view);
         try {
-            List<RestaurantResponse> restaurants = restaurantService.getAllRestaurants();
-            log.info("Successfully retrieved {} restaurants.", restaurants.size());
-            return restaurants;
+            RestaurantPageResponse<?> page = RestaurantView.from(view) == RestaurantView.FULL
+                    ? restaurantService.getRestaurantsPage(cursor, size)
+                    : restaurantService.getRestaurantSummariesPage(cursor, size);
+            log.info("Successfully retrieved {} restaurants. Has next page: {}", page.getSize(), page.isHasNext());
+            return page;
+        } catch (Exception e) {
+            log.error("Failed to retrieve restaurants page. Error: {}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
+    @GetMapping(value = "/export", produces = NDJSON)
+    @PreAuthorize("isAuthenticated()")
+    public void exportRestaurants(HttpServletResponse response) throws IOException {
+        log.info("Received request to export all restaurants");
+        response.setContentType(NDJSON);
+        ObjectWriter writer = objectMapper.writerFor(RestaurantResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        OutputStream out = response.getOutputStream();
+        try {
+            long exported = restaurantService.exportRestaurants(restaurant -> {
+                try {
+                    writer.writeValue(out, restaurant);
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+            log.info("Successfully exported {} restaurants", exported);
         } catch (Exception e) {
-            log.error("Failed to retrieve all restaurants. Error: {}", e.getMessage(), e);
+            log.error("Failed to export restaurants. Error: {}", e.getMessage(), e);
             throw e;
         }
     }
 
     @GetMapping("/{id}")
-    @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("isAuthenticated()")
-    public RestaurantResponse getRestaurantById(@PathVariable UUID id) {
+    public ResponseEntity<RestaurantResponse> getRestaurantById(@PathVariable UUID id, WebRequest webRequest) {
         MDC.put("restaurantId", id.toString());
 
         log.info("Received request to get restaurant by ID: {}", id);
         try {
+            // The version lookup is a single-column read; the restaurant and its menu are only
+            // loaded when the client's copy is out of date.
+            String etag = String.valueOf(restaurantService.getRestaurantVersion(id));
+            if (webRequest.checkNotModified(etag)) {
+                log.info("Restaurant ID: {} not modified since ETag {}", id, etag);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+            }
             RestaurantResponse restaurant = restaurantService.getRestaurantById(id);
             log.info("Successfully retrieved restaurant by ID: {}", id);
-            return restaurant;
+            return ResponseEntity.ok().eTag(etag).body(restaurant);
         } catch (Exception e) {
             log.error("Failed to retrieve restaurant by ID: {}. Error: {}", id, e.getMessage(), e);
             throw e;
@@ -86,19 +144,24 @@ public class RestaurantController {
         }
     }
 
+    /**
+     * With {@code If-Match}, the update only applies if the restaurant is still at that version
+     * (the ETag from GET) and fails with 412 otherwise. Without it, the last writer wins.
+     */
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
     public RestaurantResponse updateRestaurant(@PathVariable UUID id,
                                                @Valid @RequestBody RestaurantRequest request,
+                                               @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
                                                @AuthenticationPrincipal Jwt jwt) {
         UUID ownerId = getOwnerIdFromJwt(jwt);
         MDC.put("ownerId", ownerId.toString());
         MDC.put("restaurantId", id.toString());
 
-        log.info("Received request to update restaurant ID: {} by owner ID: {}", id, ownerId);
+        log.info("Received request to update restaurant ID: {} by owner ID: {}. If-Match: {}", id, ownerId, ifMatch);
         try {
-            RestaurantResponse response = restaurantService.updateRestaurant(id, request, ownerId);
+            RestaurantResponse response = restaurantService.updateRestaurant(id, request, ownerId, IfMatch.expectedVersion(ifMatch));
             log.info("Successfully updated restaurant with ID: {} by owner ID: {}", response.getId(), ownerId);
             return response;
         } catch (Exception e) {
@@ -133,13 +196,16 @@ public class RestaurantController {
     @GetMapping("/owner")
     @ResponseStatus(HttpStatus.OK)
     @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
-    public List<RestaurantResponse> getRestaurantsOwnedByUser(@AuthenticationPrincipal Jwt jwt) {
+    public List<?> getRestaurantsOwnedByUser(@RequestParam(defaultValue = "summary") String view,
+                                             @AuthenticationPrincipal Jwt jwt) {
         UUID ownerId = getOwnerIdFromJwt(jwt);
         MDC.put("ownerId", ownerId.toString());
 
-        log.info("Received request to get restaurants owned by owner ID: {}", ownerId);
+        log.info("Received request to get restaurants owned by owner ID: {}. View: {}", ownerId, view);
         try {
-            List<RestaurantResponse> restaurants = restaurantService.getRestaurantsByOwner(ownerId);
+            List<?> restaurants = RestaurantView.from(view) == RestaurantView.FULL
+                    ? restaurantService.getRestaurantsByOwner(ownerId)
+                    : restaurantService.getRestaurantSummariesByOwner(ownerId);
             log.info("Successfully retrieved {} restaurants owned by owner ID: {}", restaurants.size(), ownerId);
             return restaurants;
         } catch (Exception e) {
@@ -149,4 +215,55 @@ public class RestaurantController {
             MDC.clear();
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Orders, revenue and best sellers over the last 5 minutes, hour and day. Figures come from the
+     * replica that serves the request and cover only the order partitions it consumes; with several
+     * replicas, one that does not own this restaurant's partition returns zeros.
+     */
+    @GetMapping("/{id}/analytics")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
+    public List<OrderAnalyticsResponse> getOrderAnalytics(@PathVariable UUID id,
+                                                          @AuthenticationPrincipal Jwt jwt) {
+        UUID ownerId = getOwnerIdFromJwt(jwt);
+        MDC.put("ownerId", ownerId.toString());
+        MDC.put("restaurantId", id.toString());
+
+        log.info("Received request to get order analytics for restaurant ID: {}", id);
+        try {
+            List<OrderAnalyticsResponse> analytics = orderAnalyticsService.getAnalytics(id, ownerId);
+            log.info("Successfully retrieved order analytics for restaurant ID: {}", id);
+            return analytics;
+        } catch (Exception e) {
+            log.error("Failed to retrieve order analytics for restaurant ID: {}. Error: {}", id, e.getMessage(), e);
+            throw e;
+        } finally {
+            MDC.clear();
+        }
+    }
+
+    /** As above for a single window: {@code 5m}, {@code 1h} or {@code 1d}. */
+    @GetMapping("/{id}/analytics/{window}")
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("hasRole('ROLE_RESTAURANT_OWNER')")
+    public OrderAnalyticsResponse getOrderAnalyticsForWindow(@PathVariable UUID id,
+                                                             @PathVariable String window,
+                                                             @AuthenticationPrincipal Jwt jwt) {
+        UUID ownerId = getOwnerIdFromJwt(jwt);
+        MDC.put("ownerId", ownerId.toString());
+        MDC.put("restaurantId", id.toString());
+
+        log.info("Received request to get {} order analytics for restaurant ID: {}", window, id);
+        try {
+            OrderAnalyticsResponse analytics = orderAnalyticsService.getAnalytics(id, AnalyticsWindow.fromLabel(window), ownerId);
+            log.info("Successfully retrieved {} order analytics for restaurant ID: {}: {} orders", window, id, analytics.getOrderCount());
+            return analytics;
+        } catch (Exception e) {
+            log.error("Failed to retrieve {} order analytics for restaurant ID: {}. Error: {}", window, id, e.getMessage(), e);
+            throw e;
+        } finally {
+            MDC.clear();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.bytebites.restaurantservice.controller;
+
+import com.bytebites.restaurantservice.dto.SearchResponse;
+import com.bytebites.restaurantservice.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchController.class);
+
+    private final SearchService searchService;
+
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    @PreAuthorize("isAuthenticated()")
+    public SearchResponse search(@RequestParam("q") String query,
+                                 @RequestParam(required = false) Integer limit) {
+        log.info("Received search request. Query: '{}', limit: {}", query, limit);
+        try {
+            SearchResponse response = searchService.search(query, limit);
+            log.info("Search for '{}' matched {} restaurants and {} menu items",
+                    query, response.getRestaurants().size(), response.getMenuItems().size());
+            return response;
+        } catch (Exception e) {
+            log.error("Failed to search for '{}'. Error: {}", query, e.getMessage(), e);
+            throw e;
+        }
+    }
+}
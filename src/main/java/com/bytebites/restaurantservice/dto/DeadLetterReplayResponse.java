@@ -0,0 +1,16 @@
+package com.bytebites.restaurantservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DeadLetterReplayResponse {
+    private String deadLetterTopic;
+    private String replayedTo;
+    private int replayed;
+}
@@ -0,0 +1,18 @@
+package com.bytebites.restaurantservice.dto;
+
+import com.bytebites.restaurantservice.kitchen.PrepStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KitchenItemResponse {
+    private String menuItemId;
+    private String menuItemName;
+    private int quantity;
+    private PrepStatus status;
+}
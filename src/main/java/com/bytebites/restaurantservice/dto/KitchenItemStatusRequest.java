@@ -0,0 +1,17 @@
+package com.bytebites.restaurantservice.dto;
+
+import com.bytebites.restaurantservice.kitchen.PrepStatus;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KitchenItemStatusRequest {
+    @NotNull(message = "Status cannot be null")
+    private PrepStatus status;
+}
@@ -0,0 +1,23 @@
+package com.bytebites.restaurantservice.dto;
+
+import com.bytebites.restaurantservice.kitchen.PrepStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KitchenOrderResponse {
+    private String orderId;
+    private UUID restaurantId;
+    private LocalDateTime placedAt;
+    private PrepStatus status;
+    private List<KitchenItemResponse> items;
+}
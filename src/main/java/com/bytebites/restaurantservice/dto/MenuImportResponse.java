@@ -0,0 +1,19 @@
+package com.bytebites.restaurantservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuImportResponse {
+    private int created;
+    private int updated;
+    private int invalid;
+    private List<MenuItemImportResult> results;
+}
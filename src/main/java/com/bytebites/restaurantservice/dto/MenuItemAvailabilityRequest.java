@@ -0,0 +1,16 @@
+package com.bytebites.restaurantservice.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuItemAvailabilityRequest {
+    @NotNull(message = "Availability cannot be null")
+    private Boolean available;
+}
@@ -0,0 +1,59 @@
+package com.bytebites.restaurantservice.dto;
+
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Optional criteria for listing a restaurant's menu. Sort is given as {@code property[,asc|desc]}
+ * over a fixed set of properties; the item id is always appended so equal keys order stably.
+ * {@code popular} is not a column: it leaves {@link #sort()} empty and sets {@link #popular()},
+ * and the listing is then reordered in memory by recent order volume.
+ */
+public record MenuItemFilter(Boolean available, BigDecimal minPrice, BigDecimal maxPrice, Sort sort, boolean popular) {
+
+    private static final String POPULAR = "popular";
+    private static final Set<String> SORTABLE_PROPERTIES = Set.of("name", "price");
+    private static final Sort DEFAULT_SORT = Sort.by("name");
+
+    public static MenuItemFilter of(Boolean available, BigDecimal minPrice, BigDecimal maxPrice, String sort) {
+        if ((minPrice != null && minPrice.signum() < 0) || (maxPrice != null && maxPrice.signum() < 0)) {
+            throw new IllegalArgumentException("Price bounds must not be negative");
+        }
+        if (minPrice != null && maxPrice != null && minPrice.compareTo(maxPrice) > 0) {
+            throw new IllegalArgumentException("minPrice must not be greater than maxPrice");
+        }
+        if (sort != null && POPULAR.equals(sort.trim())) {
+            return new MenuItemFilter(available, minPrice, maxPrice, null, true);
+        }
+        return new MenuItemFilter(available, minPrice, maxPrice, parseSort(sort), false);
+    }
+
+    /** True when nothing was asked for but perhaps popularity, so the full cached menu can answer. */
+    public boolean isUnfiltered() {
+        return available == null && minPrice == null && maxPrice == null && sort == null;
+    }
+
+    public Sort sortOrDefault() {
+        return (sort == null ? DEFAULT_SORT : sort).and(Sort.by("id"));
+    }
+
+    private static Sort parseSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return null;
+        }
+        String[] parts = sort.split(",", -1);
+        String property = parts[0].trim();
+        if (!SORTABLE_PROPERTIES.contains(property) || parts.length > 2) {
+            throw new IllegalArgumentException("Invalid sort: " + sort + ". Use popular, or name or price optionally followed by ,asc or ,desc");
+        }
+        if (parts.length == 1) {
+            return Sort.by(property);
+        }
+        Sort.Direction direction = Sort.Direction.fromOptionalString(parts[1].trim().toUpperCase(Locale.ROOT))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid sort direction: " + parts[1]));
+        return Sort.by(direction, property);
+    }
+}
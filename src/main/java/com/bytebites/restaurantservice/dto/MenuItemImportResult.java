@@ -0,0 +1,28 @@
+package com.bytebites.restaurantservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuItemImportResult {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        INVALID
+    }
+
+    private int row;
+    private Status status;
+    private UUID id;
+    private String name;
+    private List<String> errors;
+}
@@ -0,0 +1,10 @@
+package com.bytebites.restaurantservice.dto;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The columns order verification needs, selected without loading the owning restaurant.
+ */
+public record MenuItemPriceView(UUID id, UUID restaurantId, BigDecimal price, boolean available) {
+}
@@ -19,4 +19,6 @@ public class MenuItemResponse {
     private BigDecimal price;
     private boolean available;
     private UUID restaurantId;
+    /** Sent back in {@code If-Match} to update this item only if nobody else has since. */
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.bytebites.restaurantservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MenuItemSearchHit {
+    private UUID id;
+    private UUID restaurantId;
+    private String restaurantName;
+    private String name;
+    private String description;
+    private BigDecimal price;
+    private boolean available;
+    private double score;
+}
@@ -0,0 +1,10 @@
+package com.bytebites.restaurantservice.dto;
+
+import java.util.List;
+
+/**
+ * A restaurant's menu together with the restaurant version it was read at. The version doubles
+ * as the menu's ETag, so a cached snapshot can answer conditional requests on its own.
+ */
+public record MenuSnapshot(long version, List<MenuItemResponse> items) {
+}
@@ -0,0 +1,26 @@
+package com.bytebites.restaurantservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderAnalyticsResponse {
+    private UUID restaurantId;
+    private String window;
+    private Instant from;
+    private Instant to;
+    private long orderCount;
+    private double ordersPerMinute;
+    private BigDecimal revenue;
+    private List<TopSellingItemResponse> topItems;
+}
@@ -0,0 +1,10 @@
+package com.bytebites.restaurantservice.dto;
+
+import java.util.UUID;
+
+/**
+ * The columns list views show, read straight into this record by constructor queries so
+ * neither the restaurant entity nor its menu is ever loaded for them.
+ */
+public record RestaurantSummary(UUID id, String name, String address) {
+}
@@ -0,0 +1,19 @@
+package com.bytebites.restaurantservice.dto;
+
+import java.util.Locale;
+
+/** Shape of the restaurants returned by list endpoints, chosen with {@code ?view=}. */
+public enum RestaurantView {
+    /** Id, name and address only. */
+    SUMMARY,
+    /** Every field, with the full menu embedded. */
+    FULL;
+
+    public static RestaurantView from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid view: " + value + ". Use summary or full");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.bytebites.restaurantservice.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SearchResponse {
+    private String query;
+    private List<RestaurantSearchHit> restaurants;
+    private List<MenuItemSearchHit> menuItems;
+}
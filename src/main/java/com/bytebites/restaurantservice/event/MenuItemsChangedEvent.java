@@ -0,0 +1,18 @@
+package com.bytebites.restaurantservice.event;
+
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Item-level view of a committed menu write, for consumers that apply changes incrementally. */
+public record MenuItemsChangedEvent(UUID restaurantId, List<MenuItemResponse> saved, List<UUID> deletedIds) {
+
+    public static MenuItemsChangedEvent saved(UUID restaurantId, List<MenuItemResponse> saved) {
+        return new MenuItemsChangedEvent(restaurantId, saved, List.of());
+    }
+
+    public static MenuItemsChangedEvent deleted(UUID restaurantId, UUID menuItemId) {
+        return new MenuItemsChangedEvent(restaurantId, List.of(), List.of(menuItemId));
+    }
+}
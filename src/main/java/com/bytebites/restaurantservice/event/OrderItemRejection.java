@@ -0,0 +1,17 @@
+package com.bytebites.restaurantservice.event;
+
+import java.math.BigDecimal;
+
+public record OrderItemRejection(String menuItemId,
+                                 String menuItemName,
+                                 Reason reason,
+                                 BigDecimal orderedPrice,
+                                 BigDecimal menuPrice) {
+
+    public enum Reason {
+        /** The id is malformed, unknown, or belongs to another restaurant. */
+        UNKNOWN_ITEM,
+        UNAVAILABLE,
+        PRICE_MISMATCH
+    }
+}
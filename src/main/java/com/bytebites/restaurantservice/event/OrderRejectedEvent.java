@@ -0,0 +1,8 @@
+package com.bytebites.restaurantservice.event;
+
+import java.util.List;
+
+public record OrderRejectedEvent(String orderId,
+                                 String restaurantId,
+                                 List<OrderItemRejection> rejections) {
+}
@@ -0,0 +1,16 @@
+package com.bytebites.restaurantservice.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A restaurant or some of its menu items changed. {@code menuItemIds} names the items written or
+ * deleted, so caches of single items can drop just those.
+ */
+public record RestaurantChangedEvent(UUID restaurantId, List<UUID> menuItemIds) {
+
+    /** A change to the restaurant itself that leaves its menu items as they were. */
+    public RestaurantChangedEvent(UUID restaurantId) {
+        this(restaurantId, List.of());
+    }
+}
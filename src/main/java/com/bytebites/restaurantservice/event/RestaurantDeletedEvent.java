@@ -0,0 +1,6 @@
+package com.bytebites.restaurantservice.event;
+
+import java.util.UUID;
+
+public record RestaurantDeletedEvent(UUID restaurantId) {
+}
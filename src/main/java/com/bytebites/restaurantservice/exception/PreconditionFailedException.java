@@ -0,0 +1,19 @@
+package com.bytebites.restaurantservice.exception;
+
+/**
+ * The client's {@code If-Match} version no longer matches the stored one: someone else changed
+ * the resource since the client read it.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    private final long currentVersion;
+
+    public PreconditionFailedException(String message, long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+}
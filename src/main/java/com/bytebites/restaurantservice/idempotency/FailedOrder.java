@@ -0,0 +1,8 @@
+package com.bytebites.restaurantservice.idempotency;
+
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+/** An order whose handling threw; it was not marked as processed and can be retried. */
+public record FailedOrder(ConsumerRecord<String, OrderPlacedEvent> record, RuntimeException cause) {
+}
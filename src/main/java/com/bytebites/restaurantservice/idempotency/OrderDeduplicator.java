@@ -0,0 +1,281 @@
+package com.bytebites.restaurantservice.idempotency;
+
+import com.bytebites.restaurantservice.config.DeduplicationProperties;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.model.ProcessedOrder;
+import com.bytebites.restaurantservice.repository.ProcessedOrderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Makes order event handling idempotent by order id, so a batch redelivered after a rebalance or
+ * a failed commit is not handled twice.
+ *
+ * <p>Lookups go from cheapest to dearest. The exact set of recently processed ids answers most
+ * redeliveries, which arrive within moments of the original. A Bloom filter over every id still
+ * retained answers "never seen" for almost all new orders without touching the database. Only
+ * the ids it flags, real duplicates and about {@code false-positive-rate} of new orders, are
+ * looked up in the {@code processed_orders} table, once per batch.
+ *
+ * <p>The table is written in the same transaction as the batch's side effects and is the
+ * authority; the in-memory structures are only updated after it commits.
+ */
+@Component
+@Slf4j
+public class OrderDeduplicator {
+
+    private final ProcessedOrderRepository processedOrderRepository;
+    private final TransactionOperations transactionOperations;
+    private final DeduplicationProperties properties;
+    private final Cache<String, Boolean> recent;
+    private final Counter fresh;
+    private final Counter duplicates;
+    private final Counter lookups;
+    private volatile BloomFilter seen;
+    /**
+     * While the filter is being rebuilt, ids processed meanwhile go into the new one as well. An id
+     * that still slips between the two is in {@link #recent}, which is checked first.
+     */
+    private volatile BloomFilter rebuilding;
+
+    public OrderDeduplicator(ProcessedOrderRepository processedOrderRepository,
+                             TransactionOperations transactionOperations,
+                             DeduplicationProperties properties,
+                             MeterRegistry meterRegistry) {
+        this.processedOrderRepository = processedOrderRepository;
+        this.transactionOperations = transactionOperations;
+        this.properties = properties;
+        this.recent = Caffeine.newBuilder().maximumSize(properties.getRecentCapacity()).build();
+        this.seen = newFilter();
+        this.fresh = checksCounter(meterRegistry, "new");
+        this.duplicates = checksCounter(meterRegistry, "duplicate");
+        this.lookups = checksCounter(meterRegistry, "database-lookup");
+    }
+
+    private static Counter checksCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("bytebites.orders.dedup.checks")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the records whose order has not been processed yet, in their original order and each
+     * order at most once. Records without an order id are passed through untouched.
+     */
+    public List<ConsumerRecord<String, OrderPlacedEvent>> filterNew(List<ConsumerRecord<String, OrderPlacedEvent>> records) {
+        List<ConsumerRecord<String, OrderPlacedEvent>> candidates = new ArrayList<>(records.size());
+        Set<String> batchIds = new HashSet<>();
+        List<String> suspects = new ArrayList<>();
+        BloomFilter filter = seen;
+        for (ConsumerRecord<String, OrderPlacedEvent> record : records) {
+            String orderId = record.value().orderId();
+            if (orderId == null) {
+                candidates.add(record);
+                continue;
+            }
+            if (!batchIds.add(orderId) || recent.getIfPresent(orderId) != null) {
+                duplicates.increment();
+                continue;
+            }
+            if (filter.mightContain(orderId)) {
+                suspects.add(orderId);
+            }
+            candidates.add(record);
+        }
+        if (suspects.isEmpty()) {
+            fresh.increment(candidates.size());
+            return candidates;
+        }
+
+        lookups.increment(suspects.size());
+        Set<String> processed = processedOrderRepository.findProcessedOrderIds(suspects);
+        List<ConsumerRecord<String, OrderPlacedEvent>> unprocessed = new ArrayList<>(candidates.size());
+        for (ConsumerRecord<String, OrderPlacedEvent> record : candidates) {
+            if (processed.contains(record.value().orderId())) {
+                duplicates.increment();
+                log.info("Skipping order {} already processed, redelivered from {}-{}@{}",
+                        record.value().orderId(), record.topic(), record.partition(), record.offset());
+            } else {
+                unprocessed.add(record);
+            }
+        }
+        fresh.increment(unprocessed.size());
+        return unprocessed;
+    }
+
+    /**
+     * Records the orders as processed and runs their side effects in one transaction, so the
+     * markers commit if and only if the database side effects do. The markers are flushed before
+     * the side effects run: an order another consumer committed in the meantime fails the insert
+     * before anything is applied. The orders already in the table are then dropped and the rest
+     * of the batch is applied again without them.
+     *
+     * <p>{@code batchEffects} run once with the records being applied, then {@code handler} once
+     * per record. A record whose handler throws does not fail the batch; its marker is removed in
+     * the same transaction and it is returned, so the caller can retry it elsewhere.
+     */
+    public List<FailedOrder> processOnce(List<ConsumerRecord<String, OrderPlacedEvent>> records,
+                                         Consumer<List<ConsumerRecord<String, OrderPlacedEvent>>> batchEffects,
+                                         Consumer<ConsumerRecord<String, OrderPlacedEvent>> handler) {
+        List<ConsumerRecord<String, OrderPlacedEvent>> pending = records;
+        while (!pending.isEmpty()) {
+            try {
+                return apply(pending, batchEffects, handler);
+            } catch (DataIntegrityViolationException e) {
+                // Each pass drops at least one order, so this ends.
+                pending = withoutClaimed(pending, e);
+            }
+        }
+        return List.of();
+    }
+
+    private List<FailedOrder> apply(List<ConsumerRecord<String, OrderPlacedEvent>> records,
+                                    Consumer<List<ConsumerRecord<String, OrderPlacedEvent>>> batchEffects,
+                                    Consumer<ConsumerRecord<String, OrderPlacedEvent>> handler) {
+        Instant now = Instant.now();
+        List<ProcessedOrder> markers = records.stream()
+                .filter(record -> record.value().orderId() != null)
+                .map(record -> ProcessedOrder.builder()
+                        .orderId(record.value().orderId())
+                        .topic(record.topic())
+                        .partition(record.partition())
+                        .offset(record.offset())
+                        .processedAt(now)
+                        .build())
+                .toList();
+        List<FailedOrder> failures = transactionOperations.execute(status -> {
+            if (!markers.isEmpty()) {
+                processedOrderRepository.saveAll(markers);
+                processedOrderRepository.flush();
+            }
+            batchEffects.accept(records);
+            List<FailedOrder> failed = new ArrayList<>();
+            for (ConsumerRecord<String, OrderPlacedEvent> record : records) {
+                try {
+                    handler.accept(record);
+                } catch (RuntimeException e) {
+                    failed.add(new FailedOrder(record, e));
+                }
+            }
+            Set<String> failedIds = failedOrderIds(failed);
+            if (!failedIds.isEmpty()) {
+                processedOrderRepository.deleteByOrderIds(failedIds);
+            }
+            return failed;
+        });
+        Set<String> failedIds = failedOrderIds(failures);
+        for (ProcessedOrder marker : markers) {
+            if (!failedIds.contains(marker.getOrderId())) {
+                remember(marker.getOrderId());
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * Drops the orders whose markers another consumer committed since {@link #filterNew}. A
+     * conflict that no committed marker explains is not a duplicate and is rethrown.
+     */
+    private List<ConsumerRecord<String, OrderPlacedEvent>> withoutClaimed(List<ConsumerRecord<String, OrderPlacedEvent>> records,
+                                                                          DataIntegrityViolationException conflict) {
+        Set<String> orderIds = new HashSet<>();
+        for (ConsumerRecord<String, OrderPlacedEvent> record : records) {
+            if (record.value().orderId() != null) {
+                orderIds.add(record.value().orderId());
+            }
+        }
+        Set<String> claimed = orderIds.isEmpty() ? Set.of() : processedOrderRepository.findProcessedOrderIds(orderIds);
+        if (claimed.isEmpty()) {
+            throw conflict;
+        }
+        List<ConsumerRecord<String, OrderPlacedEvent>> unclaimed = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, OrderPlacedEvent> record : records) {
+            if (claimed.contains(record.value().orderId())) {
+                duplicates.increment();
+                log.info("Skipping order {} processed concurrently by another consumer, delivered from {}-{}@{}",
+                        record.value().orderId(), record.topic(), record.partition(), record.offset());
+            } else {
+                unclaimed.add(record);
+            }
+        }
+        claimed.forEach(this::remember);
+        return unclaimed;
+    }
+
+    private static Set<String> failedOrderIds(List<FailedOrder> failures) {
+        Set<String> ids = new HashSet<>();
+        for (FailedOrder failure : failures) {
+            String orderId = failure.record().value().orderId();
+            if (orderId != null) {
+                ids.add(orderId);
+            }
+        }
+        return ids;
+    }
+
+    /** Fills the Bloom filter from the table, so ids processed before a restart are still caught. */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        BloomFilter next = newFilter();
+        rebuilding = next;
+        try {
+            Long count = transactionOperations.execute(status -> {
+                long loaded = 0;
+                try (Stream<String> orderIds = processedOrderRepository.streamOrderIds()) {
+                    for (Iterator<String> it = orderIds.iterator(); it.hasNext(); loaded++) {
+                        next.put(it.next());
+                    }
+                }
+                return loaded;
+            });
+            seen = next;
+            log.info("Order deduplication filter built from {} processed orders", count);
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    /**
+     * Forgets orders past the retention period and rebuilds the filter without them, so it does
+     * not fill up over time.
+     */
+    @Scheduled(fixedDelayString = "${bytebites.restaurant.order-events.dedup.purge-interval-ms:3600000}")
+    public void purgeExpired() {
+        Instant cutoff = Instant.now().minus(properties.getRetention());
+        Integer purged = transactionOperations.execute(status -> processedOrderRepository.deleteProcessedBefore(cutoff));
+        log.info("Purged {} processed orders older than {}", purged, cutoff);
+        rebuild();
+    }
+
+    private void remember(String orderId) {
+        recent.put(orderId, Boolean.TRUE);
+        seen.put(orderId);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(orderId);
+        }
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(properties.getExpectedOrders(), properties.getFalsePositiveRate());
+    }
+}
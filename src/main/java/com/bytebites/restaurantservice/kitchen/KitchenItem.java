@@ -0,0 +1,11 @@
+package com.bytebites.restaurantservice.kitchen;
+
+/**
+ * One order line as the kitchen sees it. Immutable; a status change produces a new instance.
+ */
+record KitchenItem(String menuItemId, String menuItemName, int quantity, PrepStatus status) {
+
+    KitchenItem withStatus(PrepStatus newStatus) {
+        return new KitchenItem(menuItemId, menuItemName, quantity, newStatus);
+    }
+}
@@ -0,0 +1,33 @@
+package com.bytebites.restaurantservice.kitchen;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * An order on a restaurant's kitchen queue. Immutable; item status changes produce a new instance.
+ */
+record KitchenOrder(String orderId, LocalDateTime placedAt, List<KitchenItem> items) {
+
+    PrepStatus status() {
+        boolean allQueued = true;
+        boolean allReady = true;
+        for (KitchenItem item : items) {
+            allQueued &= item.status() == PrepStatus.QUEUED;
+            allReady &= item.status() == PrepStatus.READY;
+        }
+        if (allReady) {
+            return PrepStatus.READY;
+        }
+        return allQueued ? PrepStatus.QUEUED : PrepStatus.PREPARING;
+    }
+
+    KitchenOrder withItemStatus(String menuItemId, PrepStatus status) {
+        return new KitchenOrder(orderId, placedAt, items.stream()
+                .map(item -> item.menuItemId().equals(menuItemId) ? item.withStatus(status) : item)
+                .toList());
+    }
+
+    boolean hasItem(String menuItemId) {
+        return items.stream().anyMatch(item -> item.menuItemId().equals(menuItemId));
+    }
+}
@@ -0,0 +1,144 @@
+package com.bytebites.restaurantservice.kitchen;
+
+import com.bytebites.restaurantservice.config.KitchenProperties;
+import com.bytebites.restaurantservice.dto.KitchenOrderResponse;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Predicate;
+
+/**
+ * In-memory preparation queues, one per restaurant. There is no global lock: the map only
+ * resolves a restaurant to its {@link RestaurantKitchen}, which guards its own orders.
+ */
+@Component
+@Slf4j
+public class KitchenQueueEngine {
+
+    private final Map<UUID, RestaurantKitchen> kitchens = new ConcurrentHashMap<>();
+    private final Clock clock;
+    private final int maxOrdersPerRestaurant;
+    private final Duration maxOrderAge;
+
+    @Autowired
+    public KitchenQueueEngine(KitchenProperties properties) {
+        this(properties, Clock.systemDefaultZone());
+    }
+
+    KitchenQueueEngine(KitchenProperties properties, Clock clock) {
+        this.clock = clock;
+        this.maxOrdersPerRestaurant = properties.getMaxOrdersPerRestaurant();
+        this.maxOrderAge = properties.getMaxOrderAge();
+    }
+
+    /**
+     * Queues the order with every item in {@link PrepStatus#QUEUED}.
+     *
+     * @return false if the order was already on the queue
+     */
+    public boolean enqueue(OrderPlacedEvent event) {
+        UUID restaurantId = UUID.fromString(event.restaurantId());
+        List<KitchenItem> items = event.orderItems() == null ? List.of() : event.orderItems().stream()
+                .map(this::toKitchenItem)
+                .toList();
+        KitchenOrder order = new KitchenOrder(event.orderId(), event.orderDate(), items);
+        boolean added = kitchen(restaurantId).add(order, expiryCutoff());
+        if (!added) {
+            log.debug("Order {} is already queued for restaurant {}", event.orderId(), restaurantId);
+        }
+        return added;
+    }
+
+    /**
+     * Returns the restaurant's queue in arrival order. Lock-free; the list is immutable.
+     */
+    public List<KitchenOrderResponse> getQueue(UUID restaurantId) {
+        RestaurantKitchen kitchen = kitchens.get(restaurantId);
+        return kitchen == null ? List.of() : kitchen.view();
+    }
+
+    public boolean hasItem(UUID restaurantId, String orderId, String menuItemId) {
+        RestaurantKitchen kitchen = kitchens.get(restaurantId);
+        return kitchen != null && kitchen.contains(orderId, menuItemId);
+    }
+
+    /**
+     * Sets the status of every line of the order for the given menu item.
+     *
+     * @return false if the order is not on the restaurant's queue
+     */
+    public boolean updateItemStatus(UUID restaurantId, String orderId, String menuItemId, PrepStatus status) {
+        RestaurantKitchen kitchen = kitchens.get(restaurantId);
+        return kitchen != null && kitchen.update(orderId, order -> order.withItemStatus(menuItemId, status));
+    }
+
+    /**
+     * Takes the order off the queue, typically once it has been handed over.
+     *
+     * @return false if the order is not on the restaurant's queue
+     */
+    public boolean remove(UUID restaurantId, String orderId) {
+        RestaurantKitchen kitchen = kitchens.get(restaurantId);
+        return kitchen != null && kitchen.remove(orderId);
+    }
+
+    /**
+     * Hands the view of every selected queue changed since the previous call to the consumer.
+     */
+    public void drainChanges(Predicate<UUID> restaurants, BiConsumer<UUID, List<KitchenOrderResponse>> consumer) {
+        kitchens.forEach((restaurantId, kitchen) -> {
+            if (!restaurants.test(restaurantId)) {
+                return;
+            }
+            List<KitchenOrderResponse> view = kitchen.takeDirtyView();
+            if (view != null) {
+                consumer.accept(restaurantId, view);
+            }
+        });
+    }
+
+    /**
+     * Re-queues orders from a persisted snapshot; orders already queued are left untouched.
+     */
+    public void restore(UUID restaurantId, List<KitchenOrderResponse> orders) {
+        RestaurantKitchen kitchen = kitchen(restaurantId);
+        LocalDateTime expiredBefore = expiryCutoff();
+        for (KitchenOrderResponse order : orders) {
+            kitchen.add(new KitchenOrder(order.getOrderId(), order.getPlacedAt(), order.getItems().stream()
+                    .map(item -> new KitchenItem(item.getMenuItemId(), item.getMenuItemName(),
+                            item.getQuantity(), item.getStatus()))
+                    .toList()), expiredBefore);
+        }
+    }
+
+    /**
+     * Drops the selected queues from memory, e.g. once their orders are consumed by another replica.
+     */
+    public void evict(Predicate<UUID> restaurants) {
+        kitchens.keySet().removeIf(restaurants);
+    }
+
+    private RestaurantKitchen kitchen(UUID restaurantId) {
+        return kitchens.computeIfAbsent(restaurantId, id -> new RestaurantKitchen(id, maxOrdersPerRestaurant));
+    }
+
+    private LocalDateTime expiryCutoff() {
+        return LocalDateTime.now(clock).minus(maxOrderAge);
+    }
+
+    private KitchenItem toKitchenItem(OrderItemDetails item) {
+        int quantity = item.quantity() == null ? 1 : item.quantity();
+        return new KitchenItem(item.menuItemId(), item.menuItemName(), quantity, PrepStatus.QUEUED);
+    }
+}
@@ -0,0 +1,171 @@
+package com.bytebites.restaurantservice.kitchen;
+
+import com.bytebites.restaurantservice.config.OrderEventsProperties;
+import com.bytebites.restaurantservice.dto.KitchenOrderResponse;
+import com.bytebites.restaurantservice.model.KitchenQueueSnapshot;
+import com.bytebites.restaurantservice.repository.KitchenQueueSnapshotRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Persists kitchen queues off the order-consumption path. Only queues that changed since the
+ * last run are written, so an idle kitchen costs nothing.
+ *
+ * <p>Orders are keyed by restaurant ID, so each kitchen belongs to the order topic partition the
+ * default partitioner assigns that key. Acting as the order listener's rebalance listener, a
+ * replica restores the snapshots of the partitions it is assigned, writes only the kitchens of
+ * partitions it holds, and on revocation writes them one last time and drops them, so replicas
+ * never overwrite each other's queues.
+ */
+@Component
+@ConditionalOnProperty(prefix = "bytebites.restaurant.kitchen", name = "snapshot-enabled", matchIfMissing = true)
+@Slf4j
+public class KitchenSnapshotWriter implements ConsumerAwareRebalanceListener {
+
+    private static final TypeReference<List<KitchenOrderResponse>> ORDERS_TYPE = new TypeReference<>() {
+    };
+
+    private final KitchenQueueEngine kitchenQueueEngine;
+    private final KitchenQueueSnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+    private final String orderTopic;
+    private final Set<Integer> ownedPartitions = ConcurrentHashMap.newKeySet();
+    /** Held while writing, so no write for a partition can land after it has been handed over. */
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile int partitionCount;
+
+    public KitchenSnapshotWriter(KitchenQueueEngine kitchenQueueEngine,
+                                 KitchenQueueSnapshotRepository snapshotRepository,
+                                 ObjectMapper objectMapper,
+                                 OrderEventsProperties orderEventsProperties) {
+        this.kitchenQueueEngine = kitchenQueueEngine;
+        this.snapshotRepository = snapshotRepository;
+        this.objectMapper = objectMapper;
+        this.orderTopic = orderEventsProperties.getTopic();
+    }
+
+    /** Runs on the consumer thread before the first poll, so restored queues precede new orders. */
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        Set<Integer> assigned = orderPartitions(partitions);
+        if (assigned.isEmpty()) {
+            return;
+        }
+        partitionCount = consumer.partitionsFor(orderTopic).size();
+        int restored = 0;
+        for (KitchenQueueSnapshot snapshot : snapshotRepository.findAll()) {
+            if (!assigned.contains(partitionOf(snapshot.getRestaurantId()))) {
+                continue;
+            }
+            try {
+                kitchenQueueEngine.restore(snapshot.getRestaurantId(),
+                        objectMapper.readValue(snapshot.getOrders(), ORDERS_TYPE));
+                restored++;
+            } catch (JsonProcessingException e) {
+                log.error("Skipping unreadable kitchen snapshot for restaurant ID: {}", snapshot.getRestaurantId(), e);
+            }
+        }
+        ownedPartitions.addAll(assigned);
+        log.info("Restored {} kitchen queues for order partitions {}", restored, assigned);
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        Set<Integer> revoked = orderPartitions(partitions);
+        if (revoked.isEmpty()) {
+            return;
+        }
+        Predicate<UUID> inRevoked = restaurantId -> revoked.contains(partitionOf(restaurantId));
+        writeLock.lock();
+        try {
+            write(inRevoked);
+        } catch (RuntimeException e) {
+            // The new owner restores the last snapshot written; later changes are lost either way.
+            log.error("Failed to write kitchen queues of revoked order partitions {}", revoked, e);
+        } finally {
+            ownedPartitions.removeAll(revoked);
+            kitchenQueueEngine.evict(inRevoked);
+            writeLock.unlock();
+        }
+    }
+
+    /** Another consumer may already own lost partitions, so their queues are dropped unwritten. */
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        Set<Integer> lost = orderPartitions(partitions);
+        writeLock.lock();
+        try {
+            ownedPartitions.removeAll(lost);
+            kitchenQueueEngine.evict(restaurantId -> lost.contains(partitionOf(restaurantId)));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${bytebites.restaurant.kitchen.snapshot-interval-ms:5000}")
+    public void snapshot() {
+        writeLock.lock();
+        try {
+            write(restaurantId -> ownedPartitions.contains(partitionOf(restaurantId)));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void write(Predicate<UUID> restaurants) {
+        Instant takenAt = Instant.now();
+        List<KitchenQueueSnapshot> snapshots = new ArrayList<>();
+        kitchenQueueEngine.drainChanges(restaurants, (restaurantId, orders) -> {
+            try {
+                snapshots.add(KitchenQueueSnapshot.builder()
+                        .restaurantId(restaurantId)
+                        .orders(objectMapper.writeValueAsString(orders))
+                        .takenAt(takenAt)
+                        .build());
+            } catch (JsonProcessingException e) {
+                log.error("Failed to serialise kitchen queue for restaurant ID: {}", restaurantId, e);
+            }
+        });
+        if (!snapshots.isEmpty()) {
+            snapshotRepository.saveAll(snapshots);
+            log.debug("Snapshotted {} kitchen queues", snapshots.size());
+        }
+    }
+
+    private Set<Integer> orderPartitions(Collection<TopicPartition> partitions) {
+        return partitions.stream()
+                .filter(partition -> partition.topic().equals(orderTopic))
+                .map(TopicPartition::partition)
+                .collect(Collectors.toSet());
+    }
+
+    /** The partition Kafka's default partitioner picks for the restaurant's orders; -1 before any assignment. */
+    private int partitionOf(UUID restaurantId) {
+        int partitions = partitionCount;
+        if (partitions == 0) {
+            return -1;
+        }
+        return Utils.toPositive(Utils.murmur2(restaurantId.toString().getBytes(StandardCharsets.UTF_8))) % partitions;
+    }
+}
@@ -0,0 +1,7 @@
+package com.bytebites.restaurantservice.kitchen;
+
+public enum PrepStatus {
+    QUEUED,
+    PREPARING,
+    READY
+}
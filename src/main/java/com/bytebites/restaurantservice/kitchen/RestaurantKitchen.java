@@ -0,0 +1,154 @@
+package com.bytebites.restaurantservice.kitchen;
+
+import com.bytebites.restaurantservice.dto.KitchenItemResponse;
+import com.bytebites.restaurantservice.dto.KitchenOrderResponse;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * The queue of a single restaurant. Writers serialise on this restaurant's own lock only, so
+ * kitchens never contend with each other; readers get the last published immutable view without locking.
+ * The queue is bounded: adding an order first drops those placed before the expiry cutoff and, if
+ * the queue is still full, the oldest ones, so a kitchen that never completes orders cannot grow
+ * without limit.
+ */
+@Slf4j
+class RestaurantKitchen {
+
+    private final UUID restaurantId;
+    private final int maxOrders;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, KitchenOrder> orders = new LinkedHashMap<>();
+    private volatile List<KitchenOrderResponse> view = List.of();
+    private volatile boolean dirty;
+
+    RestaurantKitchen(UUID restaurantId, int maxOrders) {
+        this.restaurantId = restaurantId;
+        this.maxOrders = Math.max(1, maxOrders);
+    }
+
+    List<KitchenOrderResponse> view() {
+        return view;
+    }
+
+    /** @return false if the order was already queued, e.g. on a redelivered event */
+    boolean add(KitchenOrder order, LocalDateTime expiredBefore) {
+        lock.lock();
+        try {
+            if (orders.containsKey(order.orderId())) {
+                return false;
+            }
+            dropStale(expiredBefore);
+            orders.put(order.orderId(), order);
+            publish();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** @return false if the order is not on this queue */
+    boolean update(String orderId, UnaryOperator<KitchenOrder> change) {
+        lock.lock();
+        try {
+            KitchenOrder order = orders.get(orderId);
+            if (order == null) {
+                return false;
+            }
+            orders.put(orderId, change.apply(order));
+            publish();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean contains(String orderId, String menuItemId) {
+        lock.lock();
+        try {
+            KitchenOrder order = orders.get(orderId);
+            return order != null && order.hasItem(menuItemId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean remove(String orderId) {
+        lock.lock();
+        try {
+            if (orders.remove(orderId) == null) {
+                return false;
+            }
+            publish();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current view if it changed since the last call, otherwise null.
+     */
+    List<KitchenOrderResponse> takeDirtyView() {
+        if (!dirty) {
+            return null;
+        }
+        lock.lock();
+        try {
+            dirty = false;
+            return view;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Orders are held in arrival order, so stale ones are found at the head of the queue. */
+    private void dropStale(LocalDateTime expiredBefore) {
+        int dropped = 0;
+        Iterator<KitchenOrder> oldest = orders.values().iterator();
+        while (oldest.hasNext()) {
+            KitchenOrder order = oldest.next();
+            boolean expired = order.placedAt() != null && order.placedAt().isBefore(expiredBefore);
+            if (!expired && orders.size() < maxOrders) {
+                break;
+            }
+            oldest.remove();
+            dropped++;
+        }
+        if (dropped > 0) {
+            log.warn("Dropped {} stale orders from the kitchen queue of restaurant {}", dropped, restaurantId);
+        }
+    }
+
+    private void publish() {
+        view = orders.values().stream()
+                .map(this::toResponse)
+                .toList();
+        dirty = true;
+    }
+
+    private KitchenOrderResponse toResponse(KitchenOrder order) {
+        return KitchenOrderResponse.builder()
+                .orderId(order.orderId())
+                .restaurantId(restaurantId)
+                .placedAt(order.placedAt())
+                .status(order.status())
+                .items(order.items().stream()
+                        .map(item -> KitchenItemResponse.builder()
+                                .menuItemId(item.menuItemId())
+                                .menuItemName(item.menuItemName())
+                                .quantity(item.quantity())
+                                .status(item.status())
+                                .build())
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.bytebites.restaurantservice.listener;
+
+import com.bytebites.restaurantservice.cache.CacheInvalidationPublisher;
+import com.bytebites.restaurantservice.cache.RestaurantCacheInvalidator;
+import com.bytebites.restaurantservice.search.MenuSearchIndexUpdater;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationListener.class);
+
+    private final RestaurantCacheInvalidator cacheInvalidator;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final MenuSearchIndexUpdater menuSearchIndexUpdater;
+
+    /**
+     * Every replica must see every invalidation, so each instance joins with its own random consumer group.
+     * Its own invalidations come back too; they were applied before publishing and are skipped.
+     */
+    @KafkaListener(topics = "${bytebites.restaurant.cache.invalidation-topic}",
+            groupId = "restaurant-cache-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = "cacheInvalidationListenerContainerFactory")
+    public void listenCacheInvalidation(ConsumerRecord<String, String> record) {
+        if (invalidationPublisher.isOwn(record)) {
+            return;
+        }
+        String message = record.value();
+        log.debug("Received cache invalidation: {}", message);
+        // The restaurant id, then the ids of its changed menu items; see CacheInvalidationPublisher.
+        String[] ids = message.split(",");
+        try {
+            List<UUID> menuItemIds = new ArrayList<>(ids.length - 1);
+            for (int i = 1; i < ids.length; i++) {
+                menuItemIds.add(UUID.fromString(ids[i]));
+            }
+            UUID restaurantId = UUID.fromString(ids[0]);
+            cacheInvalidator.evictLocal(restaurantId, menuItemIds);
+            // Reloaded after the eviction, so the read cannot be served from the stale entries.
+            menuSearchIndexUpdater.reload(restaurantId);
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed cache invalidation message: {}", message);
+        }
+    }
+}
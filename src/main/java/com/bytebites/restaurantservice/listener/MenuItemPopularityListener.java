@@ -0,0 +1,55 @@
+package com.bytebites.restaurantservice.listener;
+
+import com.bytebites.restaurantservice.analytics.MenuItemPopularity;
+import com.bytebites.restaurantservice.analytics.MenuItemPopularityPublisher;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class MenuItemPopularityListener {
+
+    private static final Logger log = LoggerFactory.getLogger(MenuItemPopularityListener.class);
+
+    private final MenuItemPopularity menuItemPopularity;
+    private final MenuItemPopularityPublisher popularityPublisher;
+
+    /**
+     * Every replica must count every order, so each instance joins with its own random consumer group.
+     * Its own orders come back too; they were counted before publishing and are skipped.
+     */
+    @KafkaListener(topics = "${bytebites.restaurant.popularity.topic}",
+            groupId = "restaurant-popularity-#{T(java.util.UUID).randomUUID()}",
+            containerFactory = "popularityListenerContainerFactory")
+    public void listenPopularity(ConsumerRecord<String, String> record) {
+        if (popularityPublisher.isOwn(record)) {
+            return;
+        }
+        // menuItemId:quantity pairs; see MenuItemPopularityPublisher. Parsed in full before any is counted.
+        String[] entries = record.value().split(",");
+        UUID[] menuItemIds = new UUID[entries.length];
+        int[] quantities = new int[entries.length];
+        try {
+            for (int i = 0; i < entries.length; i++) {
+                int separator = entries[i].indexOf(':');
+                if (separator < 0) {
+                    throw new IllegalArgumentException("Missing quantity");
+                }
+                menuItemIds[i] = UUID.fromString(entries[i].substring(0, separator));
+                quantities[i] = Integer.parseInt(entries[i].substring(separator + 1));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("Ignoring malformed popularity message: {}", record.value());
+            return;
+        }
+        for (int i = 0; i < entries.length; i++) {
+            menuItemPopularity.record(menuItemIds[i], quantities[i], record.timestamp());
+        }
+    }
+}
@@ -1,28 +1,169 @@
 package com.bytebites.restaurantservice.listener;
 
 
+import com.bytebites.restaurantservice.analytics.MenuItemPopularity;
+import com.bytebites.restaurantservice.analytics.MenuItemPopularityPublisher;
+import com.bytebites.restaurantservice.analytics.OrderAnalyticsEngine;
+import com.bytebites.restaurantservice.config.OrderRetryProperties;
 import com.bytebites.restaurantservice.event.OrderItemDetails;
 import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.event.OrderRejectedEvent;
+import com.bytebites.restaurantservice.idempotency.FailedOrder;
+import com.bytebites.restaurantservice.idempotency.OrderDeduplicator;
+import com.bytebites.restaurantservice.kitchen.KitchenQueueEngine;
+import com.bytebites.restaurantservice.retry.OrderRetryPublisher;
+import com.bytebites.restaurantservice.verification.OrderEventVerifier;
+import com.bytebites.restaurantservice.verification.OrderRejectionPublisher;
+import com.bytebites.restaurantservice.verification.OrderVerificationResult;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.kafka.annotation.DltHandler;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.annotation.RetryableTopic;
+import org.springframework.kafka.retrytopic.DltStrategy;
+import org.springframework.kafka.retrytopic.TopicSuffixingStrategy;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.retry.annotation.Backoff;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
 @Component
+@RequiredArgsConstructor
 public class OrderPlacedEventListener {
 
     private static final Logger log = LoggerFactory.getLogger(OrderPlacedEventListener.class);
 
-    @KafkaListener(topics = "order-events-topic", groupId = "${spring.kafka.consumer.group-id}")
-    public void listenOrderPlacedEvent(OrderPlacedEvent event) {
-        log.info("Restaurant Service received OrderPlacedEvent for Order ID: {}", event.orderId());
-        log.info("Order placed for Restaurant: {} ({})", event.restaurantName(), event.restaurantId());
-        log.info("Delivery Address: {}", event.deliveryAddress());
+    private final OrderDeduplicator orderDeduplicator;
+    private final OrderEventVerifier orderEventVerifier;
+    private final OrderRejectionPublisher orderRejectionPublisher;
+    private final KitchenQueueEngine kitchenQueueEngine;
+    private final OrderAnalyticsEngine orderAnalyticsEngine;
+    private final MenuItemPopularity menuItemPopularity;
+    private final MenuItemPopularityPublisher menuItemPopularityPublisher;
+    private final OrderRetryPublisher orderRetryPublisher;
+
+    @KafkaListener(id = "orderPlacedEvents",
+            topics = "${bytebites.restaurant.order-events.topic}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "orderEventsListenerContainerFactory")
+    public void listenOrderPlacedEvents(List<ConsumerRecord<String, OrderPlacedEvent>> records, Acknowledgment acknowledgment) {
+        log.info("Restaurant Service received batch of {} OrderPlacedEvents", records.size());
+        // Records that failed to deserialize arrive with null values.
+        Map<Boolean, List<ConsumerRecord<String, OrderPlacedEvent>>> byValue = records.stream()
+                .collect(Collectors.partitioningBy(record -> record.value() != null));
+        List<FailedOrder> failures = handle(byValue.get(true));
+        // Failed orders are parked instead of retried in place, so one bad order cannot stall the partition.
+        orderRetryPublisher.park(failures, byValue.get(false));
+        // Offsets are committed only once every order in the poll has been handled or parked.
+        acknowledgment.acknowledge();
+    }
+
+    /**
+     * Retries an order parked by {@link #listenOrderPlacedEvents}. Each further failure moves it
+     * to the next, longer-delayed retry topic until the attempts run out and it is dead-lettered.
+     * Failures that no retry can fix are dead-lettered at once.
+     */
+    @RetryableTopic(
+            attempts = "${bytebites.restaurant.order-events.retry.attempts:4}",
+            backoff = @Backoff(
+                    delayExpression = "${bytebites.restaurant.order-events.retry.initial-delay-ms:1000}",
+                    multiplierExpression = "${bytebites.restaurant.order-events.retry.multiplier:4.0}",
+                    maxDelayExpression = "${bytebites.restaurant.order-events.retry.max-delay-ms:60000}"),
+            exclude = {IllegalArgumentException.class, NullPointerException.class},
+            dltTopicSuffix = OrderRetryProperties.DEAD_LETTER_SUFFIX,
+            // A dead-lettered record that cannot even be read must not be sent around the DLT again.
+            dltStrategy = DltStrategy.FAIL_ON_ERROR,
+            topicSuffixingStrategy = TopicSuffixingStrategy.SUFFIX_WITH_INDEX_VALUE,
+            kafkaTemplate = "orderRetryKafkaTemplate",
+            listenerContainerFactory = "orderRetryListenerContainerFactory")
+    @KafkaListener(id = "orderRetries",
+            topics = "${bytebites.restaurant.order-events.retry.topic:order-events-retry}",
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "orderRetryListenerContainerFactory")
+    public void retryOrderPlacedEvent(ConsumerRecord<String, OrderPlacedEvent> record) {
+        List<FailedOrder> failures = handle(List.of(record));
+        if (!failures.isEmpty()) {
+            throw failures.get(0).cause();
+        }
+    }
+
+    @DltHandler
+    public void deadLetterOrderPlacedEvent(ConsumerRecord<String, OrderPlacedEvent> record,
+                                           @Header(name = KafkaHeaders.EXCEPTION_MESSAGE, required = false) String reason) {
+        orderRetryPublisher.deadLettered(record, reason);
+    }
+
+    /**
+     * Handles the orders not processed before and returns those whose handling threw. Malformed
+     * orders are returned straight away with an {@link IllegalArgumentException}, so they cannot
+     * fail the rest of the batch and are dead-lettered without retries.
+     */
+    private List<FailedOrder> handle(List<ConsumerRecord<String, OrderPlacedEvent>> records) {
+        List<FailedOrder> failures = new ArrayList<>();
+        List<ConsumerRecord<String, OrderPlacedEvent>> wellFormed = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, OrderPlacedEvent> record : records) {
+            String malformation = orderEventVerifier.malformation(record.value());
+            if (malformation == null) {
+                wellFormed.add(record);
+            } else {
+                failures.add(new FailedOrder(record, new IllegalArgumentException("Malformed OrderPlacedEvent: " + malformation)));
+            }
+        }
+        List<ConsumerRecord<String, OrderPlacedEvent>> fresh = orderDeduplicator.filterNew(wellFormed);
+        if (fresh.isEmpty()) {
+            return failures;
+        }
+        OrderVerificationResult result = orderEventVerifier.verify(fresh.stream().map(ConsumerRecord::value).toList());
+        Set<OrderPlacedEvent> accepted = Collections.newSetFromMap(new IdentityHashMap<>());
+        accepted.addAll(result.accepted());
+        failures.addAll(orderDeduplicator.processOnce(fresh,
+                applied -> orderRejectionPublisher.publish(rejectionsOf(applied, result.rejected())),
+                record -> {
+                    if (accepted.contains(record.value())) {
+                        startPreparation(record.value());
+                    }
+                }));
+        return failures;
+    }
+
+    /** Leaves out the rejections of orders another consumer processed while this batch was verified. */
+    private static List<OrderRejectedEvent> rejectionsOf(List<ConsumerRecord<String, OrderPlacedEvent>> applied,
+                                                         List<OrderRejectedEvent> rejected) {
+        if (rejected.isEmpty()) {
+            return rejected;
+        }
+        Set<String> orderIds = applied.stream().map(record -> record.value().orderId()).collect(Collectors.toSet());
+        return rejected.stream().filter(rejection -> orderIds.contains(rejection.orderId())).toList();
+    }
 
-        log.info("--- Starting preparation for Order #{} ---", event.orderId());
-        for (OrderItemDetails item : event.orderItems()) {
-            log.info("  - Preparing: {} (x{})", item.menuItemName(), item.quantity());
+    /**
+     * Called for verified orders only, so the restaurant ID and every menu item ID are UUIDs;
+     * malformed orders were already dead-lettered by {@link #handle}.
+     */
+    private void startPreparation(OrderPlacedEvent event) {
+        // Counted only when newly queued, so an order already restored from a kitchen snapshot is not counted again.
+        if (kitchenQueueEngine.enqueue(event)) {
+            orderAnalyticsEngine.record(event);
+            menuItemPopularity.record(event);
+            menuItemPopularityPublisher.publish(event);
+        }
+        log.debug("Order {} placed for Restaurant: {} ({}), delivery to: {}",
+                event.orderId(), event.restaurantName(), event.restaurantId(), event.deliveryAddress());
+        if (log.isDebugEnabled()) {
+            for (OrderItemDetails item : event.orderItems()) {
+                log.debug("  - Preparing: {} (x{})", item.menuItemName(), item.quantity());
+            }
         }
-        log.info("--- Order preparation started for Order #{} ---", event.orderId());
     }
 }
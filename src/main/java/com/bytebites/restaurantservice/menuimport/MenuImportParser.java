@@ -0,0 +1,211 @@
+package com.bytebites.restaurantservice.menuimport;
+
+import com.bytebites.restaurantservice.config.MenuImportProperties;
+import com.bytebites.restaurantservice.dto.MenuItemRequest;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads menu imports row by row straight from the request stream, so a large upload is never
+ * bound as a whole document. Every row is validated here, outside the write transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class MenuImportParser {
+
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("name", "price", "available");
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final MenuImportProperties menuImportProperties;
+
+    /**
+     * Parses a JSON array of menu item objects.
+     *
+     * @throws IllegalArgumentException if the document is not a well-formed array or has too many rows
+     */
+    public List<MenuImportRow> parseJson(InputStream in) {
+        List<MenuImportRow> rows = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalArgumentException("Menu import must be a JSON array");
+            }
+            JsonToken token;
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                if (token == null) {
+                    throw new IllegalArgumentException("Menu import ended before the JSON array was closed");
+                }
+                int rowNumber = nextRowNumber(rows);
+                JsonNode node = parser.readValueAsTree();
+                if (node == null || node.isNull()) {
+                    rows.add(new MenuImportRow(rowNumber, null, List.of("row must be a menu item object, not null")));
+                    continue;
+                }
+                try {
+                    rows.add(validate(rowNumber, objectMapper.treeToValue(node, MenuItemRequest.class)));
+                } catch (JsonProcessingException e) {
+                    rows.add(new MenuImportRow(rowNumber, null, List.of(e.getOriginalMessage())));
+                }
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed menu import: " + e.getOriginalMessage());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    /**
+     * Parses CSV with a header row naming the columns name, description, price and available,
+     * in any order. Fields may be quoted with double quotes; a doubled quote is a literal quote.
+     *
+     * @throws IllegalArgumentException if the header is missing required columns or there are too many rows
+     */
+    public List<MenuImportRow> parseCsv(InputStream in) {
+        List<MenuImportRow> rows = new ArrayList<>();
+        try (Reader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            Map<String, Integer> columns = readHeader(readCsvRecord(reader));
+            List<String> record;
+            while ((record = readCsvRecord(reader)) != null) {
+                if (record.size() == 1 && record.get(0).isBlank()) {
+                    continue;
+                }
+                rows.add(toRow(nextRowNumber(rows), record, columns));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return rows;
+    }
+
+    private int nextRowNumber(List<MenuImportRow> rows) {
+        if (rows.size() >= menuImportProperties.getMaxRows()) {
+            throw new IllegalArgumentException("Menu import exceeds the limit of " + menuImportProperties.getMaxRows() + " rows");
+        }
+        return rows.size() + 1;
+    }
+
+    private MenuImportRow validate(int rowNumber, MenuItemRequest request) {
+        List<String> errors = validator.validate(request).stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .toList();
+        return new MenuImportRow(rowNumber, request, errors);
+    }
+
+    private Map<String, Integer> readHeader(List<String> header) {
+        if (header == null) {
+            throw new IllegalArgumentException("Menu import CSV is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String column : REQUIRED_CSV_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException("Menu import CSV header is missing the '" + column + "' column");
+            }
+        }
+        return columns;
+    }
+
+    private MenuImportRow toRow(int rowNumber, List<String> record, Map<String, Integer> columns) {
+        List<String> errors = new ArrayList<>();
+        MenuItemRequest request = new MenuItemRequest();
+        request.setName(emptyToNull(field(record, columns, "name")));
+        request.setDescription(emptyToNull(field(record, columns, "description")));
+
+        String price = emptyToNull(field(record, columns, "price"));
+        if (price != null) {
+            try {
+                request.setPrice(new BigDecimal(price));
+            } catch (NumberFormatException e) {
+                errors.add("price: '" + price + "' is not a number");
+            }
+        }
+
+        String available = field(record, columns, "available").toLowerCase(Locale.ROOT);
+        if (available.equals("true") || available.equals("false")) {
+            request.setAvailable(Boolean.parseBoolean(available));
+        } else {
+            errors.add("available: must be true or false");
+        }
+
+        if (!errors.isEmpty()) {
+            return new MenuImportRow(rowNumber, null, errors);
+        }
+        return validate(rowNumber, request);
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= record.size() ? "" : record.get(index).trim();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Reads one CSV record, honouring quoted fields that contain commas or line breaks.
+     *
+     * @return the fields of the record, or null at end of input
+     */
+    private static List<String> readCsvRecord(Reader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (c != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    int next = reader.read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,18 @@
+package com.bytebites.restaurantservice.menuimport;
+
+import com.bytebites.restaurantservice.dto.MenuItemRequest;
+
+import java.util.List;
+
+/**
+ * One parsed row of a menu import. {@code request} is null when the row could not be bound at all.
+ *
+ * @param rowNumber 1-based position of the row in the import, excluding any CSV header
+ * @param errors parse and validation errors; empty for a row that can be written
+ */
+public record MenuImportRow(int rowNumber, MenuItemRequest request, List<String> errors) {
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+}
@@ -0,0 +1,61 @@
+package com.bytebites.restaurantservice.model;
+
+import com.bytebites.restaurantservice.audit.AuditAction;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Immutable
+@Table(name = "audit_log", indexes = @Index(name = "idx_audit_log_restaurant_occurred_at",
+        columnList = "restaurant_id, occurred_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AuditRecord {
+
+    // Assigned in memory on persist, so a batch of records goes out as one JDBC batch.
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false)
+    private UUID actorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private AuditAction action;
+
+    @Column(name = "restaurant_id", nullable = false)
+    private UUID restaurantId;
+
+    @Column(nullable = false)
+    private UUID entityId;
+
+    /** The changed fields before the change, as JSON. */
+    @Lob
+    private String beforeValue;
+
+    /** The changed fields after the change, as JSON; null for deletions. */
+    @Lob
+    private String afterValue;
+}
@@ -0,0 +1,34 @@
+package com.bytebites.restaurantservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "kitchen_queue_snapshots")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class KitchenQueueSnapshot {
+
+    @Id
+    private UUID restaurantId;
+
+    /** The restaurant's queue serialised as a JSON array of KitchenOrderResponse. */
+    @Lob
+    @Column(nullable = false)
+    private String orders;
+
+    @Column(nullable = false)
+    private Instant takenAt;
+}
@@ -1,22 +1,31 @@
 package com.bytebites.restaurantservice.model;
 
+import com.bytebites.restaurantservice.config.SecondLevelCacheConfig;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.math.BigDecimal;
 import java.util.UUID;
 
 @Entity
-@Table(name = "menu_items")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.MENU_ITEMS_REGION)
+@Table(name = "menu_items", indexes = @Index(name = "idx_menu_items_restaurant_available_price",
+        columnList = "restaurant_id, available, price"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -31,6 +40,9 @@ public class MenuItem {
     private BigDecimal price;
     private boolean available;
 
+    @Version
+    private Long version;
+
     @ManyToOne
     @JoinColumn(name = "restaurant_id", nullable = false)
     private Restaurant restaurant;
@@ -0,0 +1,56 @@
+package com.bytebites.restaurantservice.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * Marks an order event as handled, with the record it was read from. The primary key on the
+ * order id is what finally stops two consumers from both handling the same order.
+ */
+@Entity
+@Immutable
+@Table(name = "processed_orders", indexes = @Index(name = "idx_processed_orders_processed_at",
+        columnList = "processed_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProcessedOrder implements Persistable<String> {
+
+    @Id
+    private String orderId;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(name = "partition_id", nullable = false)
+    private int partition;
+
+    @Column(name = "record_offset", nullable = false)
+    private long offset;
+
+    @Column(name = "processed_at", nullable = false)
+    private Instant processedAt;
+
+    @Override
+    public String getId() {
+        return orderId;
+    }
+
+    /** Rows are only ever inserted, so saving never needs to look for an existing row first. */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -1,22 +1,31 @@
 package com.bytebites.restaurantservice.model;
 
+import com.bytebites.restaurantservice.config.SecondLevelCacheConfig;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "restaurants")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.RESTAURANTS_REGION)
+@Table(name = "restaurants", indexes = @Index(name = "idx_restaurants_name_id", columnList = "name, id"))
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -32,6 +41,14 @@ public class Restaurant {
     private String email;
     private UUID ownerId;
 
+    /** Bumped on every change to the restaurant or any of its menu items. */
+    @Version
+    private Long version;
+
+    // Keyset pages cannot fetch-join a collection under a LIMIT, so their menus are
+    // initialised in batches keyed by restaurant id instead of one SELECT per restaurant.
     @OneToMany(mappedBy = "restaurant", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.RESTAURANT_MENU_ITEMS_REGION)
     private List<MenuItem> menuItems;
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.bytebites.restaurantservice.repository;
+
+import com.bytebites.restaurantservice.model.AuditRecord;
+import org.springframework.data.repository.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+/** Append-only: records can be added and read, never changed or removed. */
+public interface AuditRecordRepository extends Repository<AuditRecord, UUID> {
+
+    <S extends AuditRecord> List<S> saveAll(Iterable<S> records);
+
+    List<AuditRecord> findByRestaurantIdOrderByOccurredAtAsc(UUID restaurantId);
+}
@@ -0,0 +1,11 @@
+package com.bytebites.restaurantservice.repository;
+
+import com.bytebites.restaurantservice.model.KitchenQueueSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+@Repository
+public interface KitchenQueueSnapshotRepository extends JpaRepository<KitchenQueueSnapshot, UUID> {
+}
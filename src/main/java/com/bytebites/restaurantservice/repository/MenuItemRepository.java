@@ -1,16 +1,24 @@
 package com.bytebites.restaurantservice.repository;
 
+import com.bytebites.restaurantservice.dto.MenuItemPriceView;
 import com.bytebites.restaurantservice.model.MenuItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface MenuItemRepository extends JpaRepository<MenuItem, UUID> {
+public interface MenuItemRepository extends JpaRepository<MenuItem, UUID>, JpaSpecificationExecutor<MenuItem> {
     List<MenuItem> findByRestaurantId(UUID restaurantId);
     Optional<MenuItem> findByIdAndRestaurantId(UUID menuItemId, UUID restaurantId);
     boolean existsByIdAndRestaurantId(UUID menuItemId, UUID restaurantId);
+
+    @Query("SELECT new com.bytebites.restaurantservice.dto.MenuItemPriceView(m.id, m.restaurant.id, m.price, m.available) " +
+            "FROM MenuItem m WHERE m.id IN :ids")
+    List<MenuItemPriceView> findPriceViewsByIdIn(Collection<UUID> ids);
 }
\ No newline at end of file
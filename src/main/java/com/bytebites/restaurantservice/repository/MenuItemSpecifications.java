@@ -0,0 +1,49 @@
+package com.bytebites.restaurantservice.repository;
+
+import com.bytebites.restaurantservice.dto.MenuItemFilter;
+import com.bytebites.restaurantservice.model.MenuItem;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Criteria for filtered menu listings. Restaurant, availability and price are applied in that
+ * order of the {@code (restaurant_id, available, price)} index, so the database can answer them
+ * with a single range scan.
+ */
+public final class MenuItemSpecifications {
+
+    private MenuItemSpecifications() {
+    }
+
+    public static Specification<MenuItem> matching(UUID restaurantId, MenuItemFilter filter) {
+        Specification<MenuItem> specification = belongsTo(restaurantId);
+        if (filter.available() != null) {
+            specification = specification.and(isAvailable(filter.available()));
+        }
+        if (filter.minPrice() != null) {
+            specification = specification.and(priceAtLeast(filter.minPrice()));
+        }
+        if (filter.maxPrice() != null) {
+            specification = specification.and(priceAtMost(filter.maxPrice()));
+        }
+        return specification;
+    }
+
+    public static Specification<MenuItem> belongsTo(UUID restaurantId) {
+        return (root, query, cb) -> cb.equal(root.get("restaurant").get("id"), restaurantId);
+    }
+
+    public static Specification<MenuItem> isAvailable(boolean available) {
+        return (root, query, cb) -> cb.equal(root.get("available"), available);
+    }
+
+    public static Specification<MenuItem> priceAtLeast(BigDecimal minPrice) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), minPrice);
+    }
+
+    public static Specification<MenuItem> priceAtMost(BigDecimal maxPrice) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), maxPrice);
+    }
+}
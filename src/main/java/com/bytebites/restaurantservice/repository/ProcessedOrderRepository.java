@@ -0,0 +1,39 @@
+package com.bytebites.restaurantservice.repository;
+
+import com.bytebites.restaurantservice.model.ProcessedOrder;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/** Insert-only apart from the retention purge and markers of orders whose handling failed. */
+public interface ProcessedOrderRepository extends Repository<ProcessedOrder, String> {
+
+    <S extends ProcessedOrder> List<S> saveAll(Iterable<S> processedOrders);
+
+    void flush();
+
+    @Query("select p.orderId from ProcessedOrder p where p.orderId in :orderIds")
+    Set<String> findProcessedOrderIds(@Param("orderIds") Collection<String> orderIds);
+
+    @Query("select p.orderId from ProcessedOrder p")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<String> streamOrderIds();
+
+    @Modifying
+    @Query("delete from ProcessedOrder p where p.orderId in :orderIds")
+    int deleteByOrderIds(@Param("orderIds") Collection<String> orderIds);
+
+    @Modifying
+    @Query("delete from ProcessedOrder p where p.processedAt < :cutoff")
+    int deleteProcessedBefore(@Param("cutoff") Instant cutoff);
+}
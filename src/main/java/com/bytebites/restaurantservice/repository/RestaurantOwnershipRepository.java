@@ -0,0 +1,23 @@
+package com.bytebites.restaurantservice.repository;
+
+import com.bytebites.restaurantservice.model.Restaurant;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Ownership lookups that go through the persistence context and the second-level cache
+ * instead of a query, so repeated checks on a hot restaurant do not reach the database.
+ */
+public interface RestaurantOwnershipRepository {
+
+    Optional<Restaurant> findByIdAndOwnerId(UUID id, UUID ownerId);
+
+    boolean existsByIdAndOwnerId(UUID id, UUID ownerId);
+
+    /**
+     * Loads an owned restaurant and forces its version up at commit, so the restaurant's
+     * version also moves whenever one of its menu items is created, updated or deleted.
+     */
+    Optional<Restaurant> findOwnedForMenuChange(UUID id, UUID ownerId);
+}
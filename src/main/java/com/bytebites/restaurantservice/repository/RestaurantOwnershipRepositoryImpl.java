@@ -0,0 +1,38 @@
+package com.bytebites.restaurantservice.repository;
+
+import com.bytebites.restaurantservice.model.Restaurant;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.Optional;
+import java.util.UUID;
+
+class RestaurantOwnershipRepositoryImpl implements RestaurantOwnershipRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public Optional<Restaurant> findByIdAndOwnerId(UUID id, UUID ownerId) {
+        return Optional.ofNullable(entityManager.find(Restaurant.class, id))
+                .filter(restaurant -> ownerId.equals(restaurant.getOwnerId()));
+    }
+
+    @Override
+    public boolean existsByIdAndOwnerId(UUID id, UUID ownerId) {
+        return findByIdAndOwnerId(id, ownerId).isPresent();
+    }
+
+    /**
+     * Finds first and locks afterwards: a find with a lock mode bypasses the second-level cache.
+     * The forced increment is written at commit, after which the cached copy holds the old version
+     * until {@code SecondLevelCacheEvictor} drops it.
+     */
+    @Override
+    public Optional<Restaurant> findOwnedForMenuChange(UUID id, UUID ownerId) {
+        Optional<Restaurant> restaurant = findByIdAndOwnerId(id, ownerId);
+        restaurant.ifPresent(owned -> entityManager.lock(owned, LockModeType.OPTIMISTIC_FORCE_INCREMENT));
+        return restaurant;
+    }
+}
@@ -1,16 +1,70 @@
 package com.bytebites.restaurantservice.repository;
 
+import com.bytebites.restaurantservice.dto.RestaurantSummary;
 import com.bytebites.restaurantservice.model.Restaurant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface RestaurantRepository extends JpaRepository<Restaurant, UUID> {
+public interface RestaurantRepository extends JpaRepository<Restaurant, UUID>, RestaurantOwnershipRepository {
+    int EXPORT_FETCH_SIZE = 500;
+
+    @Override
+    @EntityGraph(attributePaths = "menuItems")
+    List<Restaurant> findAll();
+
+    @EntityGraph(attributePaths = "menuItems")
     List<Restaurant> findByOwnerId(UUID ownerId);
-    Optional<Restaurant> findByIdAndOwnerId(UUID restaurantId, UUID ownerId);
-    boolean existsByIdAndOwnerId(UUID id, UUID ownerId);
-}
\ No newline at end of file
+
+    @Query("SELECT r.version FROM Restaurant r WHERE r.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    /** Reads the version and the menu in one statement, so both come from the same committed state. */
+    @Query("SELECT r FROM Restaurant r LEFT JOIN FETCH r.menuItems WHERE r.id = :id")
+    Optional<Restaurant> findWithMenuItemsById(@Param("id") UUID id);
+
+    List<Restaurant> findAllByOrderByNameAscIdAsc(Limit limit);
+
+    @Query("SELECT r FROM Restaurant r " +
+            "WHERE r.name > :name OR (r.name = :name AND r.id > :id) " +
+            "ORDER BY r.name ASC, r.id ASC")
+    List<Restaurant> findPageAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT new com.bytebites.restaurantservice.dto.RestaurantSummary(r.id, r.name, r.address) " +
+            "FROM Restaurant r ORDER BY r.name ASC, r.id ASC")
+    List<RestaurantSummary> findSummaries(Limit limit);
+
+    @Query("SELECT new com.bytebites.restaurantservice.dto.RestaurantSummary(r.id, r.name, r.address) " +
+            "FROM Restaurant r " +
+            "WHERE r.name > :name OR (r.name = :name AND r.id > :id) " +
+            "ORDER BY r.name ASC, r.id ASC")
+    List<RestaurantSummary> findSummaryPageAfter(@Param("name") String name, @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT new com.bytebites.restaurantservice.dto.RestaurantSummary(r.id, r.name, r.address) " +
+            "FROM Restaurant r WHERE r.ownerId = :ownerId ORDER BY r.name ASC, r.id ASC")
+    List<RestaurantSummary> findSummariesByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Streams every restaurant with its menu over one cursor, read-only so Hibernate keeps no
+     * snapshots. Rows arrive ordered by restaurant so each menu is complete before the next
+     * restaurant starts. Must be consumed inside a transaction and closed afterwards.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT r FROM Restaurant r LEFT JOIN FETCH r.menuItems ORDER BY r.id")
+    Stream<Restaurant> streamAllWithMenuItems();
+}
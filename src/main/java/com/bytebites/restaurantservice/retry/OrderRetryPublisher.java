@@ -0,0 +1,116 @@
+package com.bytebites.restaurantservice.retry;
+
+import com.bytebites.restaurantservice.config.OrderRetryProperties;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.idempotency.FailedOrder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Parks order events the main listener could not handle, so they stop holding up the partition
+ * they came from. Orders whose handling threw go to the retry topic; malformed orders and records
+ * that did not even deserialize can never succeed and go straight to the dead-letter topic.
+ */
+@Component
+@Slf4j
+public class OrderRetryPublisher {
+
+    private static final LogAccessor LOGGER = new LogAccessor(OrderRetryPublisher.class);
+
+    private final KafkaTemplate<String, Object> retryTemplate;
+    private final KafkaTemplate<String, byte[]> deadLetterTemplate;
+    private final OrderRetryProperties properties;
+    private final Counter retried;
+    private final Counter deadLettered;
+
+    public OrderRetryPublisher(@Qualifier("orderRetryKafkaTemplate") KafkaTemplate<String, Object> retryTemplate,
+                               @Qualifier("orderDeadLetterKafkaTemplate") KafkaTemplate<String, byte[]> deadLetterTemplate,
+                               OrderRetryProperties properties,
+                               MeterRegistry meterRegistry) {
+        this.retryTemplate = retryTemplate;
+        this.deadLetterTemplate = deadLetterTemplate;
+        this.properties = properties;
+        this.retried = parkedCounter(meterRegistry, "retry");
+        this.deadLettered = parkedCounter(meterRegistry, "dead-letter");
+    }
+
+    private static Counter parkedCounter(MeterRegistry meterRegistry, String destination) {
+        return Counter.builder("bytebites.orders.parked")
+                .tag("destination", destination)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Parks the records and waits for the broker to acknowledge all of them, so the consumed
+     * batch is only committed once none of them can be lost.
+     */
+    public void park(List<FailedOrder> failures, List<ConsumerRecord<String, OrderPlacedEvent>> undeserializable) {
+        if (failures.isEmpty() && undeserializable.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<?>> sends = new ArrayList<>(failures.size() + undeserializable.size());
+        int retryable = 0;
+        for (FailedOrder failure : failures) {
+            ConsumerRecord<String, OrderPlacedEvent> record = failure.record();
+            // Matches the retry listener's exclusions: waiting cannot fix a malformed order.
+            String destination = failure.cause() instanceof IllegalArgumentException
+                    ? properties.getDeadLetterTopic() : properties.getTopic();
+            log.warn("Order {} from {}-{}@{} failed, parking it on {}: {}", record.value().orderId(),
+                    record.topic(), record.partition(), record.offset(), destination, failure.cause().toString());
+            sends.add(retryTemplate.send(destination, record.key(), record.value()));
+            // Readable orders are counted by the dead-letter handler once they arrive there.
+            if (destination.equals(properties.getTopic())) {
+                retryable++;
+            }
+        }
+        for (ConsumerRecord<String, OrderPlacedEvent> record : undeserializable) {
+            DeserializationException cause = SerializationUtils.getExceptionFromHeader(
+                    record, SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOGGER);
+            if (cause == null) {
+                // A tombstone, not a malformed order; there is nothing to park.
+                continue;
+            }
+            log.warn("Record {}-{}@{} is not a valid OrderPlacedEvent, dead-lettering it on {}: {}",
+                    record.topic(), record.partition(), record.offset(), properties.getDeadLetterTopic(), cause.getMessage());
+            sends.add(deadLetterTemplate.send(properties.getDeadLetterTopic(), record.key(), cause.getData()));
+            deadLettered.increment();
+        }
+        retried.increment(retryable);
+        CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+    }
+
+    /**
+     * Recovers a record of a batch that kept failing as a whole, after the container's error
+     * handler ran out of retries: it is parked like an order whose handling threw, instead of
+     * being skipped.
+     */
+    public void recover(ConsumerRecord<?, ?> record, Exception cause) {
+        @SuppressWarnings("unchecked")
+        ConsumerRecord<String, OrderPlacedEvent> order = (ConsumerRecord<String, OrderPlacedEvent>) record;
+        if (order.value() == null) {
+            park(List.of(), List.of(order));
+        } else {
+            RuntimeException failure = cause instanceof RuntimeException runtime ? runtime : new IllegalStateException(cause);
+            park(List.of(new FailedOrder(order, failure)), List.of());
+        }
+    }
+
+    /** Counts an order that reached the dead-letter topic, out of retries or not worth retrying. */
+    public void deadLettered(ConsumerRecord<String, OrderPlacedEvent> record, String reason) {
+        deadLettered.increment();
+        log.error("Order {} was dead-lettered on {}: {}",
+                record.value() == null ? null : record.value().orderId(), record.topic(), reason);
+    }
+}
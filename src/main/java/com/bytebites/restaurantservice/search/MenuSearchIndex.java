@@ -0,0 +1,524 @@
+package com.bytebites.restaurantservice.search;
+
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.MenuItemSearchHit;
+import com.bytebites.restaurantservice.dto.RestaurantSearchHit;
+import com.bytebites.restaurantservice.dto.SearchResponse;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory inverted index over restaurant names and menu item names, descriptions and
+ * restaurant names. Each query term matches indexed terms exactly, by prefix, or within one
+ * typo (insertion, deletion, substitution or adjacent transposition); a document must match
+ * every query term and is ranked by the sum of its best match per term, weighted by field.
+ *
+ * <p>Typo candidates come from a deletion-neighbourhood map: every indexed term is reachable
+ * from each of its single-character deletions, so a lookup costs a few hash probes instead of
+ * an edit-distance scan over the whole dictionary. Multi-term queries walk the postings of the
+ * rarest term only and check the remaining terms against each candidate's own term map.
+ *
+ * <p>Writers are serialised by a lock; searches never block and read the concurrent maps
+ * directly, so a search racing a write may see that one write half-applied. The maps are held
+ * together so {@link #replaceWith} can swap in an index built elsewhere all at once.
+ */
+@Component
+public class MenuSearchIndex {
+
+    static final int MIN_PREFIX_LENGTH = 2;
+    static final int MIN_FUZZY_LENGTH = 4;
+    static final int MAX_PREFIX_EXPANSIONS = 64;
+    static final int MAX_QUERY_TERMS = 8;
+
+    private static final double EXACT_MATCH = 1.0;
+    private static final double PREFIX_MATCH = 0.6;
+    private static final double FUZZY_MATCH = 0.4;
+
+    private static final int NAME_WEIGHT = 4;
+    private static final int RESTAURANT_NAME_WEIGHT = 2;
+    private static final int DESCRIPTION_WEIGHT = 1;
+
+    /** Read once per search, so a search sees either the old or the new contents after a swap. */
+    private volatile Contents contents = new Contents();
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    private static final class Contents {
+        /** Term to document to field weight; sorted so prefixes are a range scan. */
+        final ConcurrentSkipListMap<String, Map<Document, Integer>> postings = new ConcurrentSkipListMap<>();
+        /** Single-character deletion of a term to the terms it was derived from. */
+        final Map<String, Set<String>> deletionNeighbours = new ConcurrentHashMap<>();
+        final Map<UUID, IndexedRestaurant> restaurants = new ConcurrentHashMap<>();
+        final Map<UUID, IndexedItem> items = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Deliberately identity-hashed: postings are keyed by the document object, so scoring a hit
+     * never hashes an id or the document's contents.
+     */
+    private abstract static sealed class Document permits IndexedRestaurant, IndexedItem {
+        final Map<String, Integer> terms = new HashMap<>();
+
+        abstract String name();
+    }
+
+    private static final class IndexedRestaurant extends Document {
+        final UUID id;
+        /** Null for a restaurant only known through its items so far. */
+        final String name;
+        final Set<UUID> itemIds;
+
+        IndexedRestaurant(UUID id, String name, Set<UUID> itemIds) {
+            this.id = id;
+            this.name = name;
+            this.itemIds = itemIds;
+        }
+
+        @Override
+        String name() {
+            return name;
+        }
+    }
+
+    private static final class IndexedItem extends Document {
+        final MenuItemResponse item;
+        final String restaurantName;
+
+        IndexedItem(MenuItemResponse item, String restaurantName) {
+            this.item = item;
+            this.restaurantName = restaurantName;
+        }
+
+        @Override
+        String name() {
+            return item.getName();
+        }
+    }
+
+    private record Scored<D extends Document>(D document, double score) {
+    }
+
+    @FunctionalInterface
+    private interface HitSink {
+        void accept(Document document, double score);
+    }
+
+    public void upsertRestaurant(UUID restaurantId, String name) {
+        writeLock.lock();
+        try {
+            Map<UUID, IndexedRestaurant> restaurants = contents.restaurants;
+            IndexedRestaurant existing = restaurants.get(restaurantId);
+            if (existing != null && name != null && name.equals(existing.name)) {
+                return;
+            }
+            Set<UUID> itemIds = new HashSet<>();
+            if (existing != null) {
+                unpost(existing);
+                itemIds = existing.itemIds;
+            }
+            IndexedRestaurant restaurant = new IndexedRestaurant(restaurantId, name, itemIds);
+            addTerms(restaurant, name, NAME_WEIGHT);
+            post(restaurant);
+            restaurants.put(restaurantId, restaurant);
+
+            // Items carry the restaurant name as a field, so a rename re-indexes them.
+            for (UUID itemId : List.copyOf(itemIds)) {
+                indexItem(contents.items.get(itemId).item);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void removeRestaurant(UUID restaurantId) {
+        writeLock.lock();
+        try {
+            IndexedRestaurant removed = contents.restaurants.remove(restaurantId);
+            if (removed == null) {
+                return;
+            }
+            unpost(removed);
+            for (UUID itemId : removed.itemIds) {
+                IndexedItem item = contents.items.remove(itemId);
+                if (item != null) {
+                    unpost(item);
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void upsertMenuItem(MenuItemResponse menuItem) {
+        writeLock.lock();
+        try {
+            indexItem(menuItem);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public void removeMenuItem(UUID menuItemId) {
+        writeLock.lock();
+        try {
+            removeItem(menuItemId);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Indexes the restaurant as it now is: its name, exactly these menu items, and none of the
+     * items it had before that are no longer among them.
+     */
+    public void replaceRestaurant(UUID restaurantId, String name, List<MenuItemResponse> menuItems) {
+        writeLock.lock();
+        try {
+            IndexedRestaurant existing = contents.restaurants.get(restaurantId);
+            if (existing != null) {
+                Set<UUID> current = new HashSet<>();
+                menuItems.forEach(menuItem -> current.add(menuItem.getId()));
+                for (UUID itemId : List.copyOf(existing.itemIds)) {
+                    if (!current.contains(itemId)) {
+                        removeItem(itemId);
+                    }
+                }
+            }
+            upsertRestaurant(restaurantId, name);
+            menuItems.forEach(this::indexItem);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Takes over the contents of {@code built} in one step, so searches go from the old contents
+     * straight to the new ones; {@code built} must not be written to afterwards.
+     */
+    public void replaceWith(MenuSearchIndex built) {
+        writeLock.lock();
+        try {
+            contents = built.contents;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    public int size() {
+        Contents current = contents;
+        return current.restaurants.size() + current.items.size();
+    }
+
+    /** Returns up to {@code limit} restaurants and up to {@code limit} menu items, best first. */
+    public SearchResponse search(String query, int limit) {
+        Contents current = contents;
+        List<Map<String, Double>> matches = new ArrayList<>();
+        for (String queryTerm : SearchTokenizer.tokenize(query).stream().distinct().limit(MAX_QUERY_TERMS).toList()) {
+            matches.add(matchingTerms(current, queryTerm));
+        }
+        matches.sort(Comparator.comparingLong(termMatches -> postingCount(current, termMatches)));
+
+        TopHits<IndexedRestaurant> restaurantHits = new TopHits<>(limit);
+        TopHits<IndexedItem> itemHits = new TopHits<>(limit);
+        if (!matches.isEmpty()) {
+            collect(current.postings, matches, (document, score) -> {
+                if (document instanceof IndexedItem item) {
+                    itemHits.offer(item, score);
+                } else {
+                    restaurantHits.offer((IndexedRestaurant) document, score);
+                }
+            });
+        }
+
+        return SearchResponse.builder()
+                .query(query)
+                .restaurants(restaurantHits.best().stream()
+                        .map(hit -> RestaurantSearchHit.builder()
+                                .id(hit.document().id)
+                                .name(hit.document().name)
+                                .score(hit.score())
+                                .build())
+                        .toList())
+                .menuItems(itemHits.best().stream()
+                        .map(hit -> toHit(hit.document(), hit.score()))
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Walks the candidates of the first (rarest) query term and hands on those that also contain
+     * a match for every other term, with their summed score.
+     */
+    private static void collect(Map<String, Map<Document, Integer>> postings, List<Map<String, Double>> matches,
+                                HitSink sink) {
+        Map<String, Double> first = matches.get(0);
+        List<Map<String, Double>> others = matches.subList(1, matches.size());
+        if (first.size() == 1) {
+            // One indexed term: its posting already holds each document once, so skip the score map.
+            Map.Entry<String, Double> match = first.entrySet().iterator().next();
+            postings.getOrDefault(match.getKey(), Map.of()).forEach((document, weight) ->
+                    offerIfAllMatch(document, match.getValue() * weight, others, sink));
+            return;
+        }
+        Map<Document, Double> firstScores = new IdentityHashMap<>();
+        first.forEach((term, quality) -> postings.getOrDefault(term, Map.of()).forEach((document, weight) ->
+                firstScores.merge(document, quality * weight, Math::max)));
+        firstScores.forEach((document, score) -> offerIfAllMatch(document, score, others, sink));
+    }
+
+    private static void offerIfAllMatch(Document document, double score, List<Map<String, Double>> others,
+                                        HitSink sink) {
+        for (Map<String, Double> termMatches : others) {
+            double best = bestMatch(document.terms, termMatches);
+            if (best == 0) {
+                return;
+            }
+            score += best;
+        }
+        sink.accept(document, score);
+    }
+
+    private static double bestMatch(Map<String, Integer> documentTerms, Map<String, Double> termMatches) {
+        double best = 0;
+        if (documentTerms.size() <= termMatches.size()) {
+            for (Map.Entry<String, Integer> term : documentTerms.entrySet()) {
+                Double quality = termMatches.get(term.getKey());
+                if (quality != null) {
+                    best = Math.max(best, quality * term.getValue());
+                }
+            }
+        } else {
+            for (Map.Entry<String, Double> match : termMatches.entrySet()) {
+                Integer weight = documentTerms.get(match.getKey());
+                if (weight != null) {
+                    best = Math.max(best, match.getValue() * weight);
+                }
+            }
+        }
+        return best;
+    }
+
+    /** Indexed terms that satisfy one query term, with the quality of each match. */
+    private static Map<String, Double> matchingTerms(Contents current, String queryTerm) {
+        ConcurrentSkipListMap<String, Map<Document, Integer>> postings = current.postings;
+        Map<String, Double> matches = new HashMap<>();
+        if (queryTerm.length() >= MIN_FUZZY_LENGTH) {
+            for (String candidate : typoCandidates(current, queryTerm)) {
+                matches.put(candidate, FUZZY_MATCH);
+            }
+        }
+        if (queryTerm.length() >= MIN_PREFIX_LENGTH) {
+            int expanded = 0;
+            for (String extension : postings.subMap(queryTerm, false, queryTerm + Character.MAX_VALUE, false).keySet()) {
+                if (++expanded > MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                matches.merge(extension, PREFIX_MATCH, Math::max);
+            }
+        }
+        if (postings.containsKey(queryTerm)) {
+            matches.put(queryTerm, EXACT_MATCH);
+        }
+        return matches;
+    }
+
+    private static Set<String> typoCandidates(Contents current, String queryTerm) {
+        Map<String, Set<String>> deletionNeighbours = current.deletionNeighbours;
+        Set<String> candidates = new HashSet<>(deletionNeighbours.getOrDefault(queryTerm, Set.of()));
+        for (String deletion : deletions(queryTerm)) {
+            if (current.postings.containsKey(deletion)) {
+                candidates.add(deletion);
+            }
+            candidates.addAll(deletionNeighbours.getOrDefault(deletion, Set.of()));
+        }
+        candidates.remove(queryTerm);
+        // Sharing a deletion only bounds the distance at two; keep the single-typo candidates.
+        candidates.removeIf(candidate -> !withinOneEdit(queryTerm, candidate));
+        return candidates;
+    }
+
+    private static long postingCount(Contents current, Map<String, Double> termMatches) {
+        long count = 0;
+        for (String term : termMatches.keySet()) {
+            Map<Document, Integer> posting = current.postings.get(term);
+            count += posting == null ? 0 : posting.size();
+        }
+        return count;
+    }
+
+    private static MenuItemSearchHit toHit(IndexedItem document, double score) {
+        MenuItemResponse item = document.item;
+        return MenuItemSearchHit.builder()
+                .id(item.getId())
+                .restaurantId(item.getRestaurantId())
+                .restaurantName(document.restaurantName)
+                .name(item.getName())
+                .description(item.getDescription())
+                .price(item.getPrice())
+                .available(item.isAvailable())
+                .score(score)
+                .build();
+    }
+
+    private void indexItem(MenuItemResponse menuItem) {
+        removeItem(menuItem.getId());
+        IndexedRestaurant restaurant = contents.restaurants.computeIfAbsent(menuItem.getRestaurantId(),
+                id -> new IndexedRestaurant(id, null, new HashSet<>()));
+
+        IndexedItem item = new IndexedItem(menuItem, restaurant.name);
+        addTerms(item, menuItem.getName(), NAME_WEIGHT);
+        addTerms(item, restaurant.name, RESTAURANT_NAME_WEIGHT);
+        addTerms(item, menuItem.getDescription(), DESCRIPTION_WEIGHT);
+        post(item);
+        contents.items.put(menuItem.getId(), item);
+        restaurant.itemIds.add(menuItem.getId());
+    }
+
+    private void removeItem(UUID menuItemId) {
+        IndexedItem removed = contents.items.remove(menuItemId);
+        if (removed == null) {
+            return;
+        }
+        unpost(removed);
+        IndexedRestaurant restaurant = contents.restaurants.get(removed.item.getRestaurantId());
+        if (restaurant != null) {
+            restaurant.itemIds.remove(menuItemId);
+        }
+    }
+
+    private static void addTerms(Document document, String text, int weight) {
+        for (String term : SearchTokenizer.tokenize(text)) {
+            document.terms.merge(term, weight, Math::max);
+        }
+    }
+
+    private void post(Document document) {
+        ConcurrentSkipListMap<String, Map<Document, Integer>> postings = contents.postings;
+        Map<String, Set<String>> deletionNeighbours = contents.deletionNeighbours;
+        document.terms.forEach((term, weight) -> {
+            Map<Document, Integer> posting = postings.get(term);
+            if (posting == null) {
+                posting = new ConcurrentHashMap<>();
+                postings.put(term, posting);
+                if (term.length() >= MIN_FUZZY_LENGTH) {
+                    for (String deletion : deletions(term)) {
+                        deletionNeighbours.computeIfAbsent(deletion, key -> ConcurrentHashMap.newKeySet()).add(term);
+                    }
+                }
+            }
+            posting.put(document, weight);
+        });
+    }
+
+    private void unpost(Document document) {
+        ConcurrentSkipListMap<String, Map<Document, Integer>> postings = contents.postings;
+        Map<String, Set<String>> deletionNeighbours = contents.deletionNeighbours;
+        for (String term : document.terms.keySet()) {
+            Map<Document, Integer> posting = postings.get(term);
+            if (posting == null) {
+                continue;
+            }
+            posting.remove(document);
+            if (posting.isEmpty()) {
+                postings.remove(term);
+                if (term.length() >= MIN_FUZZY_LENGTH) {
+                    for (String deletion : deletions(term)) {
+                        Set<String> neighbours = deletionNeighbours.get(deletion);
+                        if (neighbours != null && neighbours.remove(term) && neighbours.isEmpty()) {
+                            deletionNeighbours.remove(deletion);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static Set<String> deletions(String term) {
+        Set<String> deletions = new LinkedHashSet<>();
+        for (int i = 0; i < term.length(); i++) {
+            deletions.add(term.substring(0, i) + term.substring(i + 1));
+        }
+        return deletions;
+    }
+
+    /** Optimal string alignment distance of at most one, without building the full matrix. */
+    static boolean withinOneEdit(String a, String b) {
+        int lengthA = a.length();
+        int lengthB = b.length();
+        if (Math.abs(lengthA - lengthB) > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < Math.min(lengthA, lengthB) && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (lengthA == lengthB) {
+            if (i == lengthA || a.regionMatches(i + 1, b, i + 1, lengthA - i - 1)) {
+                return true;
+            }
+            return i + 1 < lengthA
+                    && a.charAt(i) == b.charAt(i + 1)
+                    && a.charAt(i + 1) == b.charAt(i)
+                    && a.regionMatches(i + 2, b, i + 2, lengthA - i - 2);
+        }
+        return lengthA > lengthB
+                ? a.regionMatches(i + 1, b, i, lengthB - i)
+                : b.regionMatches(i + 1, a, i, lengthA - i);
+    }
+
+    /**
+     * The best {@code limit} documents offered, highest score first and ties by name. The heap
+     * holds the current worst at its head, so most offers are rejected by one comparison.
+     */
+    private static final class TopHits<D extends Document> {
+
+        private static final Comparator<Scored<? extends Document>> RANKING =
+                Comparator.<Scored<? extends Document>>comparingDouble(Scored::score).reversed()
+                        .thenComparing(hit -> hit.document().name(),
+                                Comparator.nullsLast(String.CASE_INSENSITIVE_ORDER));
+
+        private final int limit;
+        private final PriorityQueue<Scored<D>> heap;
+
+        TopHits(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, RANKING.reversed());
+        }
+
+        void offer(D document, double score) {
+            if (heap.size() == limit) {
+                Scored<D> worst = heap.peek();
+                if (score < worst.score()) {
+                    return;
+                }
+                Scored<D> candidate = new Scored<>(document, score);
+                if (RANKING.compare(candidate, worst) >= 0) {
+                    return;
+                }
+                heap.poll();
+                heap.offer(candidate);
+                return;
+            }
+            heap.offer(new Scored<>(document, score));
+        }
+
+        List<Scored<D>> best() {
+            List<Scored<D>> best = new ArrayList<>(heap);
+            best.sort(RANKING);
+            return best;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.bytebites.restaurantservice.search;
+
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.event.MenuItemsChangedEvent;
+import com.bytebites.restaurantservice.event.RestaurantDeletedEvent;
+import com.bytebites.restaurantservice.event.RestaurantSavedEvent;
+import com.bytebites.restaurantservice.service.RestaurantService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Builds the search index from the database once on startup and then keeps it current from
+ * the write paths' events, applied only after their transaction commits so a rolled-back
+ * write never becomes searchable. Writes made on other replicas arrive through the cache
+ * invalidation topic and are applied by reloading the restaurant they touched.
+ *
+ * <p>The startup build runs on {@link ApplicationReadyEvent}, before Spring Boot reports the
+ * instance ready for traffic, and fills a separate index that is swapped in once complete, so
+ * searches never see a partly built index.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class MenuSearchIndexUpdater {
+
+    private final MenuSearchIndex searchIndex;
+    private final RestaurantService restaurantService;
+    /**
+     * Restaurants changed while a rebuild is exporting. The export may have read them before the
+     * change, and the change itself went to the index being replaced, so they are reloaded once
+     * the new index is in place.
+     */
+    private volatile Set<UUID> changedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        Set<UUID> changed = ConcurrentHashMap.newKeySet();
+        changedDuringRebuild = changed;
+        MenuSearchIndex built = new MenuSearchIndex();
+        long restaurants;
+        try {
+            restaurants = restaurantService.exportRestaurants(restaurant -> built.replaceRestaurant(
+                    restaurant.getId(), restaurant.getName(),
+                    restaurant.getMenuItems() == null ? List.of() : restaurant.getMenuItems()));
+            searchIndex.replaceWith(built);
+        } finally {
+            // Cleared only after the swap: a change marked until now is reloaded below, and one
+            // that finds no set applies to the new index.
+            changedDuringRebuild = null;
+        }
+        changed.forEach(this::reload);
+        log.info("Search index built from {} restaurants ({} documents)", restaurants, searchIndex.size());
+    }
+
+    /** Re-reads the restaurant and its menu, dropping it from the index if it no longer exists. */
+    public void reload(UUID restaurantId) {
+        try {
+            RestaurantResponse restaurant = restaurantService.getRestaurantById(restaurantId);
+            searchIndex.replaceRestaurant(restaurantId, restaurant.getName(),
+                    restaurant.getMenuItems() == null ? List.of() : restaurant.getMenuItems());
+        } catch (EntityNotFoundException e) {
+            searchIndex.removeRestaurant(restaurantId);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantSaved(RestaurantSavedEvent event) {
+        markChanged(event.restaurantId());
+        searchIndex.upsertRestaurant(event.restaurantId(), event.name());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRestaurantDeleted(RestaurantDeletedEvent event) {
+        markChanged(event.restaurantId());
+        searchIndex.removeRestaurant(event.restaurantId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuItemsChanged(MenuItemsChangedEvent event) {
+        markChanged(event.restaurantId());
+        for (MenuItemResponse menuItem : event.saved()) {
+            searchIndex.upsertMenuItem(menuItem);
+        }
+        for (UUID menuItemId : event.deletedIds()) {
+            searchIndex.removeMenuItem(menuItemId);
+        }
+        log.debug("Search index updated for restaurant ID: {}: {} saved, {} deleted",
+                event.restaurantId(), event.saved().size(), event.deletedIds().size());
+    }
+
+    /** Called before the change is applied, so a change that misses the set lands in the new index. */
+    private void markChanged(UUID restaurantId) {
+        Set<UUID> changed = changedDuringRebuild;
+        if (changed != null) {
+            changed.add(restaurantId);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.bytebites.restaurantservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Remembers the authorities derived from each {@link Jwt}. Keys are held weakly and compared by
+ * identity, so an entry lives exactly as long as {@link CachingJwtDecoder} keeps handing out the
+ * same {@code Jwt} instance.
+ * <p>
+ * The authentication token itself is still built per request: it carries mutable, per-request
+ * details and cannot be shared between threads.
+ */
+public class CachingGrantedAuthoritiesConverter implements Converter<Jwt, Collection<GrantedAuthority>> {
+
+    private final Converter<Jwt, Collection<GrantedAuthority>> delegate;
+    private final Cache<Jwt, Collection<GrantedAuthority>> authorities = Caffeine.newBuilder()
+            .weakKeys()
+            .build();
+
+    public CachingGrantedAuthoritiesConverter(Converter<Jwt, Collection<GrantedAuthority>> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Collection<GrantedAuthority> convert(Jwt jwt) {
+        return authorities.get(jwt, key -> List.copyOf(delegate.convert(key)));
+    }
+}
@@ -0,0 +1,96 @@
+package com.bytebites.restaurantservice.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Remembers tokens that the delegate has already verified, so a client repeating the same
+ * bearer token skips the signature check until the token expires. Rejected tokens are never
+ * cached.
+ * <p>
+ * Entries are keyed by the token's SHA-256 digest rather than the token itself: lookups compare
+ * keys byte by byte, and comparing attacker-supplied strings against cached tokens would leak
+ * how many leading characters match.
+ */
+public class CachingJwtDecoder implements JwtDecoder {
+
+    private final JwtDecoder delegate;
+    private final Cache<String, Jwt> verifiedTokens;
+
+    public CachingJwtDecoder(JwtDecoder delegate, long maxSize, Duration maxTimeToLive) {
+        this(delegate, maxSize, maxTimeToLive, Clock.systemUTC(), Ticker.systemTicker());
+    }
+
+    CachingJwtDecoder(JwtDecoder delegate, long maxSize, Duration maxTimeToLive, Clock clock, Ticker ticker) {
+        this.delegate = delegate;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new UntilTokenExpiry(maxTimeToLive, clock))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Jwt decode(String token) throws JwtException {
+        String key = digest(token);
+        Jwt cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        // Verified outside the cache's compute, which would hold a lock for the whole signature
+        // check or key fetch and pin a virtual thread; two first requests may both verify.
+        Jwt jwt = delegate.decode(token);
+        verifiedTokens.put(key, jwt);
+        return jwt;
+    }
+
+    public Cache<String, Jwt> getCache() {
+        return verifiedTokens;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private record UntilTokenExpiry(Duration maxTimeToLive, Clock clock) implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Instant expiresAt = jwt.getExpiresAt();
+            if (expiresAt == null) {
+                return maxTimeToLive.toNanos();
+            }
+            Duration remaining = Duration.between(clock.instant(), expiresAt);
+            return Math.max(0, Math.min(remaining.toNanos(), maxTimeToLive.toNanos()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
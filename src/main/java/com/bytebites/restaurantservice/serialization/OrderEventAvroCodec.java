@@ -0,0 +1,155 @@
+package com.bytebites.restaurantservice.serialization;
+
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import org.apache.avro.Conversions;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.data.TimeConversions;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converts order events to and from Avro single-object encoding. Each payload names its writer
+ * schema by fingerprint. Payloads written with the latest schema, the common case, are read
+ * directly by an {@link OrderEventBinaryReader}; those written with an earlier version in the
+ * {@link OrderEventSchemaRegistry} are resolved into the latest one through Avro's generic
+ * records. The codec is thread-safe.
+ */
+@Component
+public class OrderEventAvroCodec {
+
+    /** First two bytes of every single-object encoded payload; JSON cannot start with them. */
+    private static final byte MARKER_0 = (byte) 0xC3;
+    private static final byte MARKER_1 = (byte) 0x01;
+    /** Marker plus the writer schema's 8-byte little-endian fingerprint. */
+    private static final int HEADER_LENGTH = 10;
+
+    private final Schema schema;
+    private final Schema itemSchema;
+    private final int moneyScale;
+    private final BinaryMessageEncoder<GenericRecord> encoder;
+    private final BinaryMessageDecoder<GenericRecord> decoder;
+    private final long latestFingerprint;
+    private final OrderEventBinaryReader latestReader;
+
+    public OrderEventAvroCodec(OrderEventSchemaRegistry schemaRegistry) {
+        GenericData model = new GenericData();
+        model.addLogicalTypeConversion(new Conversions.DecimalConversion());
+        model.addLogicalTypeConversion(new TimeConversions.LocalTimestampMicrosConversion());
+        this.schema = schemaRegistry.latest();
+        this.itemSchema = nonNull(schema.getField("orderItems").schema()).getElementType();
+        this.moneyScale = ((LogicalTypes.Decimal) nonNull(schema.getField("totalAmount").schema()).getLogicalType()).getScale();
+        this.encoder = new BinaryMessageEncoder<>(model, schema);
+        this.decoder = new BinaryMessageDecoder<>(model, schema);
+        schemaRegistry.all().forEach(decoder::addSchema);
+        this.latestFingerprint = SchemaNormalization.parsingFingerprint64(schema);
+        this.latestReader = new OrderEventBinaryReader(schema);
+    }
+
+    public static boolean isAvro(byte[] data) {
+        return data.length >= 2 && data[0] == MARKER_0 && data[1] == MARKER_1;
+    }
+
+    /**
+     * @throws ArithmeticException if an amount has more decimal places than the schema carries
+     */
+    public byte[] encode(OrderPlacedEvent event) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(256);
+        encoder.encode(toRecord(event), out);
+        return out.toByteArray();
+    }
+
+    /**
+     * @throws IOException if the payload is corrupt or names a schema that is not registered
+     */
+    public OrderPlacedEvent decode(byte[] data) throws IOException {
+        if (data.length >= HEADER_LENGTH && fingerprint(data) == latestFingerprint) {
+            BinaryDecoder in = DecoderFactory.get().binaryDecoder(data, HEADER_LENGTH, data.length - HEADER_LENGTH, null);
+            return latestReader.read(in);
+        }
+        return toEvent(decoder.decode(data));
+    }
+
+    private static long fingerprint(byte[] data) {
+        return ByteBuffer.wrap(data, 2, 8).order(ByteOrder.LITTLE_ENDIAN).getLong();
+    }
+
+    private GenericRecord toRecord(OrderPlacedEvent event) {
+        GenericData.Record record = new GenericData.Record(schema);
+        record.put("orderId", event.orderId());
+        record.put("userEmail", event.userEmail());
+        record.put("restaurantId", event.restaurantId());
+        record.put("restaurantName", event.restaurantName());
+        record.put("totalAmount", money(event.totalAmount()));
+        record.put("deliveryAddress", event.deliveryAddress());
+        record.put("orderDate", event.orderDate());
+        if (event.orderItems() != null) {
+            List<GenericRecord> items = new ArrayList<>(event.orderItems().size());
+            for (OrderItemDetails item : event.orderItems()) {
+                GenericData.Record itemRecord = new GenericData.Record(itemSchema);
+                itemRecord.put("menuItemId", item.menuItemId());
+                itemRecord.put("menuItemName", item.menuItemName());
+                itemRecord.put("quantity", item.quantity());
+                itemRecord.put("price", money(item.price()));
+                items.add(itemRecord);
+            }
+            record.put("orderItems", items);
+        }
+        return record;
+    }
+
+    private static OrderPlacedEvent toEvent(GenericRecord record) {
+        List<OrderItemDetails> items = null;
+        if (record.get("orderItems") instanceof List<?> itemRecords) {
+            items = new ArrayList<>(itemRecords.size());
+            for (Object element : itemRecords) {
+                GenericRecord item = (GenericRecord) element;
+                items.add(new OrderItemDetails(
+                        string(item.get("menuItemId")),
+                        string(item.get("menuItemName")),
+                        (Integer) item.get("quantity"),
+                        (BigDecimal) item.get("price")));
+            }
+        }
+        return new OrderPlacedEvent(
+                string(record.get("orderId")),
+                string(record.get("userEmail")),
+                string(record.get("restaurantId")),
+                string(record.get("restaurantName")),
+                (BigDecimal) record.get("totalAmount"),
+                string(record.get("deliveryAddress")),
+                (LocalDateTime) record.get("orderDate"),
+                items);
+    }
+
+    private BigDecimal money(BigDecimal amount) {
+        return amount == null ? null : amount.setScale(moneyScale, RoundingMode.UNNECESSARY);
+    }
+
+    /** Strings are read as Avro's {@code Utf8}. */
+    private static String string(Object value) {
+        return value == null ? null : value.toString();
+    }
+
+    /** The non-null branch of a {@code ["null", T]} union. */
+    private static Schema nonNull(Schema union) {
+        return union.getTypes().get(1);
+    }
+}
@@ -0,0 +1,152 @@
+package com.bytebites.restaurantservice.serialization;
+
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import org.apache.avro.LogicalType;
+import org.apache.avro.LogicalTypes;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.Decoder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads a binary body written with one known schema straight into {@link OrderPlacedEvent},
+ * without the intermediate generic records and per-value conversion lookups. The schema is
+ * compiled once into a tree of readers: record fields go to the component of the same name, and
+ * fields the records do not have are skipped, so a schema version that adds fields needs no
+ * change here.
+ */
+class OrderEventBinaryReader {
+
+    @FunctionalInterface
+    private interface ValueReader {
+        Object read(Decoder in) throws IOException;
+    }
+
+    private static final ValueReader NULL = in -> {
+        in.readNull();
+        return null;
+    };
+
+    private record RecordBinding(List<String> components, Function<Object[], Object> factory) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final Map<String, RecordBinding> BINDINGS = Map.of(
+            "OrderPlacedEvent", new RecordBinding(
+                    List.of("orderId", "userEmail", "restaurantId", "restaurantName", "totalAmount",
+                            "deliveryAddress", "orderDate", "orderItems"),
+                    slots -> new OrderPlacedEvent((String) slots[0], (String) slots[1], (String) slots[2],
+                            (String) slots[3], (BigDecimal) slots[4], (String) slots[5], (LocalDateTime) slots[6],
+                            (List<OrderItemDetails>) slots[7])),
+            "OrderItemDetails", new RecordBinding(
+                    List.of("menuItemId", "menuItemName", "quantity", "price"),
+                    slots -> new OrderItemDetails((String) slots[0], (String) slots[1], (Integer) slots[2],
+                            (BigDecimal) slots[3])));
+
+    private final ValueReader root;
+
+    OrderEventBinaryReader(Schema schema) {
+        this.root = reader(schema);
+    }
+
+    OrderPlacedEvent read(Decoder in) throws IOException {
+        return (OrderPlacedEvent) root.read(in);
+    }
+
+    private static ValueReader reader(Schema schema) {
+        LogicalType logicalType = schema.getLogicalType();
+        return switch (schema.getType()) {
+            case NULL -> NULL;
+            case STRING -> Decoder::readString;
+            case INT -> Decoder::readInt;
+            case LONG -> logicalType instanceof LogicalTypes.LocalTimestampMicros
+                    ? in -> localDateTime(in.readLong())
+                    : Decoder::readLong;
+            case BYTES -> {
+                if (!(logicalType instanceof LogicalTypes.Decimal decimal)) {
+                    throw unsupported(schema);
+                }
+                int scale = decimal.getScale();
+                yield in -> new BigDecimal(new BigInteger(bytes(in)), scale);
+            }
+            case UNION -> {
+                List<Schema> types = schema.getTypes();
+                ValueReader[] branches = new ValueReader[types.size()];
+                for (int i = 0; i < branches.length; i++) {
+                    branches[i] = reader(types.get(i));
+                }
+                yield in -> branches[in.readIndex()].read(in);
+            }
+            case ARRAY -> {
+                ValueReader element = reader(schema.getElementType());
+                yield in -> {
+                    List<Object> list = new ArrayList<>();
+                    for (long block = in.readArrayStart(); block != 0; block = in.arrayNext()) {
+                        for (long i = 0; i < block; i++) {
+                            list.add(element.read(in));
+                        }
+                    }
+                    return list;
+                };
+            }
+            case RECORD -> recordReader(schema);
+            default -> throw unsupported(schema);
+        };
+    }
+
+    private static ValueReader recordReader(Schema schema) {
+        RecordBinding binding = BINDINGS.get(schema.getName());
+        if (binding == null) {
+            throw unsupported(schema);
+        }
+        List<Schema.Field> fields = schema.getFields();
+        int[] slots = new int[fields.size()];
+        ValueReader[] readers = new ValueReader[fields.size()];
+        for (int i = 0; i < readers.length; i++) {
+            Schema fieldSchema = fields.get(i).schema();
+            slots[i] = binding.components().indexOf(fields.get(i).name());
+            readers[i] = slots[i] < 0
+                    ? in -> {
+                        GenericDatumReader.skip(fieldSchema, in);
+                        return null;
+                    }
+                    : reader(fieldSchema);
+        }
+        int components = binding.components().size();
+        return in -> {
+            Object[] values = new Object[components];
+            for (int i = 0; i < readers.length; i++) {
+                Object value = readers[i].read(in);
+                if (slots[i] >= 0) {
+                    values[slots[i]] = value;
+                }
+            }
+            return binding.factory().apply(values);
+        };
+    }
+
+    private static byte[] bytes(Decoder in) throws IOException {
+        byte[] bytes = new byte[(int) in.readLong()];
+        in.readFixed(bytes);
+        return bytes;
+    }
+
+    private static LocalDateTime localDateTime(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000L),
+                (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static IllegalStateException unsupported(Schema schema) {
+        return new IllegalStateException("Order event schema type not supported by the binary reader: " + schema);
+    }
+}
@@ -0,0 +1,89 @@
+package com.bytebites.restaurantservice.serialization;
+
+import com.bytebites.restaurantservice.config.OrderEventsProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Stands in for a schema registry with the versioned {@code v<n>.avsc} files under
+ * {@code bytebites.restaurant.order-events.schema-location}. The highest version is the one
+ * events are read into and written with; earlier ones stay registered so events from producers
+ * that have not upgraded yet can still be read.
+ *
+ * <p>Every version must be able to read data written with each earlier one, so a schema may only
+ * evolve by adding fields with defaults, removing fields that had defaults, or widening types the
+ * way Avro promotes them. A set of files breaking that rule fails startup rather than the first
+ * poll after a deploy.
+ */
+@Component
+@Slf4j
+public class OrderEventSchemaRegistry {
+
+    private static final Pattern VERSION = Pattern.compile("v(\\d+)\\.avsc");
+
+    private final NavigableMap<Integer, Schema> versions;
+
+    public OrderEventSchemaRegistry(OrderEventsProperties properties, ResourcePatternResolver resourceResolver) throws IOException {
+        String location = properties.getSchemaLocation();
+        this.versions = load(resourceResolver.getResources(location + "/v*.avsc"));
+        if (versions.isEmpty()) {
+            throw new IllegalStateException("No order event schemas found at " + location);
+        }
+        checkBackwardCompatible();
+        log.info("Loaded order event schema versions {} from {}", versions.keySet(), location);
+    }
+
+    public Schema latest() {
+        return versions.lastEntry().getValue();
+    }
+
+    public int latestVersion() {
+        return versions.lastKey();
+    }
+
+    /** Every registered version, oldest first. */
+    public Collection<Schema> all() {
+        return versions.values();
+    }
+
+    private static NavigableMap<Integer, Schema> load(Resource[] resources) throws IOException {
+        NavigableMap<Integer, Schema> loaded = new TreeMap<>();
+        for (Resource resource : resources) {
+            Matcher matcher = VERSION.matcher(String.valueOf(resource.getFilename()));
+            if (!matcher.matches()) {
+                continue;
+            }
+            try (InputStream in = resource.getInputStream()) {
+                // One parser per file: every version defines the same record names.
+                loaded.put(Integer.parseInt(matcher.group(1)), new Schema.Parser().parse(in));
+            }
+        }
+        return loaded;
+    }
+
+    private void checkBackwardCompatible() {
+        for (Map.Entry<Integer, Schema> reader : versions.entrySet()) {
+            for (Map.Entry<Integer, Schema> writer : versions.headMap(reader.getKey()).entrySet()) {
+                SchemaCompatibility.SchemaPairCompatibility compatibility =
+                        SchemaCompatibility.checkReaderWriterCompatibility(reader.getValue(), writer.getValue());
+                if (compatibility.getType() != SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE) {
+                    throw new IllegalStateException("Order event schema v%d cannot read events written with v%d: %s"
+                            .formatted(reader.getKey(), writer.getKey(), compatibility.getDescription()));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.bytebites.restaurantservice.serialization;
+
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Reads order events in either {@link WireFormat}, told apart by the payload's first bytes, so
+ * producers can move to Avro one at a time.
+ */
+public class OrderPlacedEventDeserializer implements Deserializer<OrderPlacedEvent> {
+
+    private final OrderEventAvroCodec codec;
+    // The order service stamps its own class name in the type headers; always bind to our record instead.
+    private final JsonDeserializer<OrderPlacedEvent> json = new JsonDeserializer<>(OrderPlacedEvent.class, false);
+
+    public OrderPlacedEventDeserializer(OrderEventAvroCodec codec) {
+        this.codec = codec;
+    }
+
+    @Override
+    public OrderPlacedEvent deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (!OrderEventAvroCodec.isAvro(data)) {
+            return json.deserialize(topic, data);
+        }
+        try {
+            return codec.decode(data);
+        } catch (IOException | RuntimeException e) {
+            throw new SerializationException("Can't deserialize Avro order event from topic [" + topic + "]", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
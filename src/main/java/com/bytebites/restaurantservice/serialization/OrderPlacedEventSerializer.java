@@ -0,0 +1,46 @@
+package com.bytebites.restaurantservice.serialization;
+
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.IOException;
+
+/** Writes order events in the configured {@link WireFormat}. */
+@Slf4j
+public class OrderPlacedEventSerializer implements Serializer<OrderPlacedEvent> {
+
+    private final WireFormat wireFormat;
+    private final OrderEventAvroCodec codec;
+    // Consumers outside this service bind to their own types.
+    private final JsonSerializer<OrderPlacedEvent> json = new JsonSerializer<OrderPlacedEvent>().noTypeInfo();
+
+    public OrderPlacedEventSerializer(WireFormat wireFormat, OrderEventAvroCodec codec) {
+        this.wireFormat = wireFormat;
+        this.codec = codec;
+    }
+
+    @Override
+    public byte[] serialize(String topic, OrderPlacedEvent event) {
+        if (event == null) {
+            return null;
+        }
+        if (wireFormat == WireFormat.JSON) {
+            return json.serialize(topic, event);
+        }
+        try {
+            return codec.encode(event);
+        } catch (IOException | RuntimeException e) {
+            // A malformed order on its way to the dead-letter topic may not fit the schema; the
+            // deserializer reads JSON as well, so it is parked as JSON rather than lost.
+            log.debug("Can't serialize order {} for topic [{}] as Avro, writing JSON instead", event.orderId(), topic, e);
+            return json.serialize(topic, event);
+        }
+    }
+
+    @Override
+    public void close() {
+        json.close();
+    }
+}
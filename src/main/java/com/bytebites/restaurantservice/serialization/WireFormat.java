@@ -0,0 +1,8 @@
+package com.bytebites.restaurantservice.serialization;
+
+/** Encodings of order events on Kafka. */
+public enum WireFormat {
+    JSON,
+    /** Avro single-object encoding: a two-byte marker, the writer schema's fingerprint, then the binary body. */
+    AVRO
+}
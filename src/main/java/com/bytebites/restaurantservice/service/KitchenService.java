@@ -0,0 +1,13 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.dto.KitchenOrderResponse;
+import com.bytebites.restaurantservice.kitchen.PrepStatus;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface KitchenService {
+    List<KitchenOrderResponse> getKitchenQueue(UUID restaurantId, UUID ownerId);
+    KitchenOrderResponse updateItemStatus(UUID restaurantId, String orderId, String menuItemId, PrepStatus status, UUID ownerId);
+    void completeOrder(UUID restaurantId, String orderId, UUID ownerId);
+}
@@ -1,7 +1,11 @@
 package com.bytebites.restaurantservice.service;
 
+import com.bytebites.restaurantservice.dto.MenuImportResponse;
+import com.bytebites.restaurantservice.dto.MenuItemFilter;
 import com.bytebites.restaurantservice.dto.MenuItemRequest;
 import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.MenuSnapshot;
+import com.bytebites.restaurantservice.menuimport.MenuImportRow;
 
 import java.util.List;
 import java.util.UUID;
@@ -10,6 +14,11 @@ public interface MenuItemService {
     MenuItemResponse createMenuItem(UUID restaurantId, MenuItemRequest request, UUID ownerId);
     MenuItemResponse getMenuItemById(UUID restaurantId, UUID menuItemId);
     List<MenuItemResponse> getMenuItemsByRestaurant(UUID restaurantId);
-    MenuItemResponse updateMenuItem(UUID restaurantId, UUID menuItemId, MenuItemRequest request, UUID ownerId);
+    MenuSnapshot getMenuSnapshot(UUID restaurantId);
+    MenuSnapshot getFilteredMenu(UUID restaurantId, MenuItemFilter filter);
+    List<MenuItemResponse> rankByPopularity(List<MenuItemResponse> items);
+    MenuItemResponse updateMenuItem(UUID restaurantId, UUID menuItemId, MenuItemRequest request, UUID ownerId, Long expectedVersion);
+    MenuItemResponse setMenuItemAvailability(UUID restaurantId, UUID menuItemId, boolean available, UUID ownerId);
     void deleteMenuItem(UUID restaurantId, UUID menuItemId, UUID ownerId);
+    MenuImportResponse importMenuItems(UUID restaurantId, List<MenuImportRow> rows, UUID ownerId);
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.analytics.AnalyticsWindow;
+import com.bytebites.restaurantservice.dto.OrderAnalyticsResponse;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderAnalyticsService {
+    List<OrderAnalyticsResponse> getAnalytics(UUID restaurantId, UUID ownerId);
+    OrderAnalyticsResponse getAnalytics(UUID restaurantId, AnalyticsWindow window, UUID ownerId);
+}
@@ -0,0 +1,7 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.dto.DeadLetterReplayResponse;
+
+public interface OrderDeadLetterService {
+    DeadLetterReplayResponse replay(int limit);
+}
@@ -1,16 +1,24 @@
 package com.bytebites.restaurantservice.service;
 
+import com.bytebites.restaurantservice.dto.RestaurantPageResponse;
 import com.bytebites.restaurantservice.dto.RestaurantRequest;
 import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.dto.RestaurantSummary;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface RestaurantService {
     RestaurantResponse createRestaurant(RestaurantRequest request, UUID ownerId);
     RestaurantResponse getRestaurantById(UUID id);
+    long getRestaurantVersion(UUID id);
     List<RestaurantResponse> getAllRestaurants();
-    RestaurantResponse updateRestaurant(UUID id, RestaurantRequest request, UUID ownerId);
+    RestaurantPageResponse<RestaurantResponse> getRestaurantsPage(String cursor, Integer size);
+    RestaurantPageResponse<RestaurantSummary> getRestaurantSummariesPage(String cursor, Integer size);
+    RestaurantResponse updateRestaurant(UUID id, RestaurantRequest request, UUID ownerId, Long expectedVersion);
     void deleteRestaurant(UUID id, UUID ownerId);
     List<RestaurantResponse> getRestaurantsByOwner(UUID ownerId);
+    List<RestaurantSummary> getRestaurantSummariesByOwner(UUID ownerId);
+    long exportRestaurants(Consumer<RestaurantResponse> sink);
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.dto.SearchResponse;
+
+public interface SearchService {
+    SearchResponse search(String query, Integer limit);
+}
@@ -0,0 +1,62 @@
+package com.bytebites.restaurantservice.service.impl;
+
+import com.bytebites.restaurantservice.dto.KitchenOrderResponse;
+import com.bytebites.restaurantservice.kitchen.KitchenQueueEngine;
+import com.bytebites.restaurantservice.kitchen.PrepStatus;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import com.bytebites.restaurantservice.service.KitchenService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class KitchenServiceImpl implements KitchenService {
+
+    private final KitchenQueueEngine kitchenQueueEngine;
+    private final RestaurantRepository restaurantRepository;
+
+    @Override
+    public List<KitchenOrderResponse> getKitchenQueue(UUID restaurantId, UUID ownerId) {
+        log.info("Fetching kitchen queue for restaurant ID: {} by owner ID: {}", restaurantId, ownerId);
+        requireOwnership(restaurantId, ownerId);
+        return kitchenQueueEngine.getQueue(restaurantId);
+    }
+
+    @Override
+    public KitchenOrderResponse updateItemStatus(UUID restaurantId, String orderId, String menuItemId,
+                                                 PrepStatus status, UUID ownerId) {
+        log.info("Setting menu item ID: {} of order ID: {} to {} for restaurant ID: {} by owner ID: {}",
+                menuItemId, orderId, status, restaurantId, ownerId);
+        requireOwnership(restaurantId, ownerId);
+        if (!kitchenQueueEngine.hasItem(restaurantId, orderId, menuItemId)
+                || !kitchenQueueEngine.updateItemStatus(restaurantId, orderId, menuItemId, status)) {
+            throw new EntityNotFoundException("Menu item " + menuItemId + " not found in queued order " + orderId
+                    + " for restaurant ID: " + restaurantId);
+        }
+        return kitchenQueueEngine.getQueue(restaurantId).stream()
+                .filter(order -> order.getOrderId().equals(orderId))
+                .findFirst()
+                .orElseThrow(() -> new EntityNotFoundException("Order not found in kitchen queue with ID: " + orderId));
+    }
+
+    @Override
+    public void completeOrder(UUID restaurantId, String orderId, UUID ownerId) {
+        log.info("Completing order ID: {} for restaurant ID: {} by owner ID: {}", orderId, restaurantId, ownerId);
+        requireOwnership(restaurantId, ownerId);
+        if (!kitchenQueueEngine.remove(restaurantId, orderId)) {
+            throw new EntityNotFoundException("Order not found in kitchen queue with ID: " + orderId);
+        }
+    }
+
+    private void requireOwnership(UUID restaurantId, UUID ownerId) {
+        if (!restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)) {
+            throw new EntityNotFoundException("Restaurant not found or not owned by you with ID: " + restaurantId);
+        }
+    }
+}
@@ -1,35 +1,68 @@
 package com.bytebites.restaurantservice.service.impl;
 
+import com.bytebites.restaurantservice.analytics.MenuItemPopularity;
+import com.bytebites.restaurantservice.audit.AuditAction;
+import com.bytebites.restaurantservice.audit.AuditEntry;
+import com.bytebites.restaurantservice.config.CacheConfig;
+import com.bytebites.restaurantservice.dto.MenuImportResponse;
+import com.bytebites.restaurantservice.dto.MenuItemFilter;
+import com.bytebites.restaurantservice.dto.MenuItemImportResult;
 import com.bytebites.restaurantservice.dto.MenuItemRequest;
 import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.MenuSnapshot;
+import com.bytebites.restaurantservice.event.MenuItemsChangedEvent;
+import com.bytebites.restaurantservice.event.RestaurantChangedEvent;
+import com.bytebites.restaurantservice.exception.PreconditionFailedException;
+import com.bytebites.restaurantservice.menuimport.MenuImportRow;
 import com.bytebites.restaurantservice.model.MenuItem;
 import com.bytebites.restaurantservice.model.Restaurant;
 import com.bytebites.restaurantservice.repository.MenuItemRepository;
+import com.bytebites.restaurantservice.repository.MenuItemSpecifications;
 import com.bytebites.restaurantservice.repository.RestaurantRepository;
 import com.bytebites.restaurantservice.service.MenuItemService;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed("bytebites.service")
 public class MenuItemServiceImpl implements MenuItemService {
 
     private final MenuItemRepository menuItemRepository;
     private final RestaurantRepository restaurantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OptimisticLockRetrier optimisticLockRetrier;
+    private final MenuItemPopularity menuItemPopularity;
 
+    /**
+     * Retried like updates: creating an item bumps the restaurant version, so concurrent writes
+     * to sibling items conflict with each other even though none of them sent a precondition.
+     */
     @Override
-    @Transactional
     public MenuItemResponse createMenuItem(UUID restaurantId, MenuItemRequest request, UUID ownerId) {
         log.info("Creating menu item for restaurant ID: {} by owner ID: {}", restaurantId, ownerId);
-        Restaurant restaurant = restaurantRepository.findByIdAndOwnerId(restaurantId, ownerId)
+        return optimisticLockRetrier.inTransaction("creation of a menu item for restaurant " + restaurantId,
+                () -> addMenuItem(restaurantId, request, ownerId));
+    }
+
+    private MenuItemResponse addMenuItem(UUID restaurantId, MenuItemRequest request, UUID ownerId) {
+        Restaurant restaurant = restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)
                 .orElseThrow(() -> new EntityNotFoundException("Restaurant not found or not owned by you with ID: " + restaurantId));
 
         MenuItem menuItem = MenuItem.builder()
@@ -41,8 +74,11 @@ public class MenuItemServiceImpl implements MenuItemService {
                 .build();
 
         MenuItem savedMenuItem = menuItemRepository.save(menuItem);
+        MenuItemResponse response = mapToMenuItemResponse(savedMenuItem);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId, List.of(savedMenuItem.getId())));
+        eventPublisher.publishEvent(MenuItemsChangedEvent.saved(restaurantId, List.of(response)));
         log.info("Menu item created with ID: {} for restaurant ID: {}", savedMenuItem.getId(), restaurantId);
-        return mapToMenuItemResponse(savedMenuItem);
+        return response;
     }
 
     @Override
@@ -68,42 +104,231 @@ public class MenuItemServiceImpl implements MenuItemService {
     }
 
     @Override
-    @Transactional
-    public MenuItemResponse updateMenuItem(UUID restaurantId, UUID menuItemId, MenuItemRequest request, UUID ownerId) {
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.MENUS_CACHE, key = "#restaurantId")
+    public MenuSnapshot getMenuSnapshot(UUID restaurantId) {
+        log.info("Loading menu snapshot for restaurant ID: {}", restaurantId);
+        // One statement, so a write committing mid-read cannot pair an older version with newer
+        // items; such a snapshot would be cached and answer 304 to clients holding the old items.
+        // A write committing between this read and the cache put is not covered: its eviction may
+        // run first, leaving the previous, self-consistent snapshot cached until the TTL expires.
+        Restaurant restaurant = restaurantRepository.findWithMenuItemsById(restaurantId)
+                .orElseThrow(() -> new EntityNotFoundException("Restaurant not found with ID: " + restaurantId));
+
+        // Unmodifiable, because the same list instance is handed to every cache hit.
+        List<MenuItemResponse> items = restaurant.getMenuItems().stream()
+                .map(this::mapToMenuItemResponse)
+                .toList();
+        return new MenuSnapshot(restaurant.getVersion(), items);
+    }
+
+    /**
+     * Filtered listings bypass the menu cache: every combination of criteria would be its own
+     * entry. The criteria run in the database instead, against the (restaurant_id, available,
+     * price) index.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public MenuSnapshot getFilteredMenu(UUID restaurantId, MenuItemFilter filter) {
+        log.info("Fetching menu items for restaurant ID: {} matching {}", restaurantId, filter);
+        long version = restaurantRepository.findVersionById(restaurantId)
+                .orElseThrow(() -> new EntityNotFoundException("Restaurant not found with ID: " + restaurantId));
+
+        List<MenuItemResponse> items = menuItemRepository
+                .findAll(MenuItemSpecifications.matching(restaurantId, filter), filter.sortOrDefault()).stream()
+                .map(this::mapToMenuItemResponse)
+                .toList();
+        return new MenuSnapshot(version, items);
+    }
+
+    /** Served from the in-memory counters; no query runs. */
+    @Override
+    public List<MenuItemResponse> rankByPopularity(List<MenuItemResponse> items) {
+        return menuItemPopularity.rank(items);
+    }
+
+    /**
+     * Each attempt re-reads the item and re-checks {@code expectedVersion}, so a retry never
+     * overwrites a change to this item the client has not seen; it only rides out conflicts on the
+     * restaurant version, which edits to sibling items also bump.
+     */
+    @Override
+    public MenuItemResponse updateMenuItem(UUID restaurantId, UUID menuItemId, MenuItemRequest request, UUID ownerId,
+                                           Long expectedVersion) {
         log.info("Updating menu item ID: {} for restaurant ID: {} by owner ID: {}", menuItemId, restaurantId, ownerId);
-        Restaurant restaurant = restaurantRepository.findByIdAndOwnerId(restaurantId, ownerId)
+        MenuItemResponse response = optimisticLockRetrier.inTransaction("update of menu item " + menuItemId,
+                () -> changeMenuItem(restaurantId, menuItemId, ownerId, expectedVersion, menuItem -> {
+                    menuItem.setName(request.getName());
+                    menuItem.setDescription(request.getDescription());
+                    menuItem.setPrice(request.getPrice());
+                    menuItem.setAvailable(request.isAvailable());
+                }));
+        log.info("Menu item with ID: {} updated successfully.", menuItemId);
+        return response;
+    }
+
+    @Override
+    public MenuItemResponse setMenuItemAvailability(UUID restaurantId, UUID menuItemId, boolean available, UUID ownerId) {
+        log.info("Setting availability of menu item ID: {} for restaurant ID: {} to {} by owner ID: {}",
+                menuItemId, restaurantId, available, ownerId);
+        MenuItemResponse response = optimisticLockRetrier.inTransaction("availability of menu item " + menuItemId,
+                () -> changeMenuItem(restaurantId, menuItemId, ownerId, null, menuItem -> menuItem.setAvailable(available)));
+        log.info("Menu item with ID: {} is now {}.", menuItemId, available ? "available" : "unavailable");
+        return response;
+    }
+
+    private MenuItemResponse changeMenuItem(UUID restaurantId, UUID menuItemId, UUID ownerId, Long expectedVersion,
+                                            Consumer<MenuItem> change) {
+        restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)
                 .orElseThrow(() -> new EntityNotFoundException("Restaurant not found or not owned by you with ID: " + restaurantId));
 
         MenuItem existingMenuItem = menuItemRepository.findByIdAndRestaurantId(menuItemId, restaurantId)
                 .orElseThrow(() -> new EntityNotFoundException("Menu item not found with ID: " + menuItemId + " for restaurant ID: " + restaurantId));
+        if (expectedVersion != null && !expectedVersion.equals(existingMenuItem.getVersion())) {
+            throw new PreconditionFailedException("Menu item with ID: " + menuItemId + " has changed since version "
+                    + expectedVersion, existingMenuItem.getVersion());
+        }
+        MenuItemResponse before = mapToMenuItemResponse(existingMenuItem);
 
-        existingMenuItem.setName(request.getName());
-        existingMenuItem.setDescription(request.getDescription());
-        existingMenuItem.setPrice(request.getPrice());
-        existingMenuItem.setAvailable(request.isAvailable());
+        change.accept(existingMenuItem);
 
         MenuItem updatedMenuItem = menuItemRepository.save(existingMenuItem);
-        log.info("Menu item with ID: {} updated successfully.", updatedMenuItem.getId());
-        return mapToMenuItemResponse(updatedMenuItem);
+        // Flushed here so the response carries the new version and a conflict on the item itself
+        // surfaces inside the retried work.
+        menuItemRepository.flush();
+        MenuItemResponse response = mapToMenuItemResponse(updatedMenuItem);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId, List.of(menuItemId)));
+        eventPublisher.publishEvent(MenuItemsChangedEvent.saved(restaurantId, List.of(response)));
+        eventPublisher.publishEvent(AuditEntry.of(ownerId, AuditAction.MENU_ITEM_UPDATED, restaurantId, menuItemId,
+                before, response));
+        return response;
     }
 
+    /** Retried for the same reason as {@link #createMenuItem}. */
     @Override
-    @Transactional
     public void deleteMenuItem(UUID restaurantId, UUID menuItemId, UUID ownerId) {
         log.info("Deleting menu item ID: {} for restaurant ID: {} by owner ID: {}", menuItemId, restaurantId, ownerId);
-        if (!restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)) {
+        optimisticLockRetrier.inTransaction("deletion of menu item " + menuItemId, () -> {
+            removeMenuItem(restaurantId, menuItemId, ownerId);
+            return null;
+        });
+        log.info("Menu item with ID: {} deleted successfully.", menuItemId);
+    }
+
+    private void removeMenuItem(UUID restaurantId, UUID menuItemId, UUID ownerId) {
+        if (restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId).isEmpty()) {
             throw new EntityNotFoundException("Restaurant not found or not owned by you with ID: " + restaurantId);
         }
 
-        if (!menuItemRepository.existsByIdAndRestaurantId(menuItemId, restaurantId)) {
-            throw new EntityNotFoundException("Menu item not found with ID: " + menuItemId + " for restaurant ID: " + restaurantId);
+        MenuItem menuItem = menuItemRepository.findByIdAndRestaurantId(menuItemId, restaurantId)
+                .orElseThrow(() -> new EntityNotFoundException("Menu item not found with ID: " + menuItemId + " for restaurant ID: " + restaurantId));
+
+        menuItemRepository.delete(menuItem);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId, List.of(menuItemId)));
+        eventPublisher.publishEvent(MenuItemsChangedEvent.deleted(restaurantId, menuItemId));
+        eventPublisher.publishEvent(AuditEntry.of(ownerId, AuditAction.MENU_ITEM_DELETED, restaurantId, menuItemId,
+                mapToMenuItemResponse(menuItem), null));
+    }
+
+    /**
+     * Upserts the valid rows by item name within the restaurant; invalid rows are reported and skipped.
+     * New items get their UUIDs in memory on persist, so inserts and updates are all deferred to the
+     * flush at commit, where Hibernate sends them as ordered JDBC batches. Retried like single-item
+     * writes; an upsert by name re-applied to the newer menu gives the same result.
+     */
+    @Override
+    public MenuImportResponse importMenuItems(UUID restaurantId, List<MenuImportRow> rows, UUID ownerId) {
+        log.info("Importing {} menu rows for restaurant ID: {} by owner ID: {}", rows.size(), restaurantId, ownerId);
+        return optimisticLockRetrier.inTransaction("menu import for restaurant " + restaurantId,
+                () -> upsertMenuItems(restaurantId, rows, ownerId));
+    }
+
+    private MenuImportResponse upsertMenuItems(UUID restaurantId, List<MenuImportRow> rows, UUID ownerId) {
+        Restaurant restaurant = restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)
+                .orElseThrow(() -> new EntityNotFoundException("Restaurant not found or not owned by you with ID: " + restaurantId));
+
+        Map<String, MenuItem> itemsByName = new HashMap<>();
+        for (MenuItem menuItem : menuItemRepository.findByRestaurantId(restaurantId)) {
+            itemsByName.put(menuItem.getName(), menuItem);
         }
 
-        menuItemRepository.deleteById(menuItemId);
-        log.info("Menu item with ID: {} deleted successfully.", menuItemId);
+        List<MenuItemImportResult> results = new ArrayList<>(rows.size());
+        List<MenuItem> newItems = new ArrayList<>();
+        // Existing items' state before the import, by name, for their audit entries.
+        Map<String, MenuItemResponse> updatedBefore = new LinkedHashMap<>();
+        int created = 0;
+        int updated = 0;
+        for (MenuImportRow row : rows) {
+            if (!row.isValid()) {
+                results.add(MenuItemImportResult.builder()
+                        .row(row.rowNumber())
+                        .status(MenuItemImportResult.Status.INVALID)
+                        .name(row.request() == null ? null : row.request().getName())
+                        .errors(row.errors())
+                        .build());
+                continue;
+            }
+            MenuItemRequest request = row.request();
+            MenuItem menuItem = itemsByName.get(request.getName());
+            MenuItemImportResult.Status status;
+            if (menuItem == null) {
+                menuItem = MenuItem.builder().name(request.getName()).restaurant(restaurant).build();
+                itemsByName.put(request.getName(), menuItem);
+                newItems.add(menuItem);
+                status = MenuItemImportResult.Status.CREATED;
+                created++;
+            } else {
+                // Items created earlier in this import have no id until persisted and are not audited.
+                if (menuItem.getId() != null) {
+                    updatedBefore.putIfAbsent(request.getName(), mapToMenuItemResponse(menuItem));
+                }
+                status = MenuItemImportResult.Status.UPDATED;
+                updated++;
+            }
+            menuItem.setDescription(request.getDescription());
+            menuItem.setPrice(request.getPrice());
+            menuItem.setAvailable(request.isAvailable());
+            results.add(MenuItemImportResult.builder()
+                    .row(row.rowNumber())
+                    .status(status)
+                    .name(request.getName())
+                    .errors(List.of())
+                    .build());
+        }
+
+        menuItemRepository.saveAll(newItems);
+        // Ids are assigned by persist; fill them in now that every new item has one.
+        List<MenuItemResponse> saved = new ArrayList<>(created + updated);
+        for (MenuItemImportResult result : results) {
+            if (result.getStatus() != MenuItemImportResult.Status.INVALID) {
+                MenuItem menuItem = itemsByName.get(result.getName());
+                result.setId(menuItem.getId());
+                saved.add(mapToMenuItemResponse(menuItem));
+            }
+        }
+        updatedBefore.forEach((name, before) -> {
+            MenuItem menuItem = itemsByName.get(name);
+            eventPublisher.publishEvent(AuditEntry.of(ownerId, AuditAction.MENU_ITEM_UPDATED, restaurantId,
+                    menuItem.getId(), before, mapToMenuItemResponse(menuItem)));
+        });
+
+        if (created + updated > 0) {
+            eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId,
+                    saved.stream().map(MenuItemResponse::getId).toList()));
+            eventPublisher.publishEvent(MenuItemsChangedEvent.saved(restaurantId, saved));
+        }
+        log.info("Imported menu for restaurant ID: {}: {} created, {} updated, {} invalid",
+                restaurantId, created, updated, rows.size() - created - updated);
+        return MenuImportResponse.builder()
+                .created(created)
+                .updated(updated)
+                .invalid(rows.size() - created - updated)
+                .results(results)
+                .build();
     }
 
-    private MenuItemResponse mapToMenuItemResponse(MenuItem menuItem) {
+    // Package-private so the JMH benchmarks can measure it in isolation.
+    MenuItemResponse mapToMenuItemResponse(MenuItem menuItem) {
         return MenuItemResponse.builder()
                 .id(menuItem.getId())
                 .name(menuItem.getName())
@@ -111,6 +336,7 @@ public class MenuItemServiceImpl implements MenuItemService {
                 .price(menuItem.getPrice())
                 .available(menuItem.isAvailable())
                 .restaurantId(menuItem.getRestaurant().getId())
+                .version(menuItem.getVersion())
                 .build();
     }
 }
\ No newline at end of file
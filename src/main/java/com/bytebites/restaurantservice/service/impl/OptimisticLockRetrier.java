@@ -0,0 +1,58 @@
+package com.bytebites.restaurantservice.service.impl;
+
+import com.bytebites.restaurantservice.config.OptimisticRetryProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a unit of work in its own transaction and, when it loses a version race to a concurrent
+ * writer, runs it again from a fresh read, a bounded number of times. Only for work that is still
+ * correct when re-applied to the newer state, such as setting a field to a given value.
+ */
+@Component
+@Slf4j
+public class OptimisticLockRetrier {
+
+    private final TransactionOperations transactionOperations;
+    private final int maxAttempts;
+    private final long backoffMs;
+
+    public OptimisticLockRetrier(TransactionOperations transactionOperations, OptimisticRetryProperties retryProperties) {
+        this.transactionOperations = transactionOperations;
+        this.maxAttempts = Math.max(1, retryProperties.getMaxAttempts());
+        this.backoffMs = retryProperties.getBackoffMs();
+    }
+
+    public <T> T inTransaction(String operation, Supplier<T> work) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionOperations.execute(status -> work.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("Giving up on {} after {} conflicting attempts", operation, attempt);
+                    throw e;
+                }
+                log.debug("Version conflict on {} (attempt {} of {}), retrying", operation, attempt, maxAttempts);
+                pause(attempt);
+            }
+        }
+    }
+
+    private void pause(int attempt) {
+        if (backoffMs <= 0) {
+            return;
+        }
+        try {
+            // Jitter keeps two writers that collided once from colliding again in lockstep.
+            Thread.sleep(backoffMs * attempt + ThreadLocalRandom.current().nextLong(backoffMs));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while retrying a version conflict", e);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.bytebites.restaurantservice.service.impl;
+
+import com.bytebites.restaurantservice.analytics.AnalyticsWindow;
+import com.bytebites.restaurantservice.analytics.OrderAnalyticsEngine;
+import com.bytebites.restaurantservice.config.AnalyticsProperties;
+import com.bytebites.restaurantservice.dto.OrderAnalyticsResponse;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import com.bytebites.restaurantservice.service.OrderAnalyticsService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderAnalyticsServiceImpl implements OrderAnalyticsService {
+
+    private final OrderAnalyticsEngine orderAnalyticsEngine;
+    private final RestaurantRepository restaurantRepository;
+    private final AnalyticsProperties analyticsProperties;
+
+    @Override
+    public List<OrderAnalyticsResponse> getAnalytics(UUID restaurantId, UUID ownerId) {
+        log.info("Fetching order analytics for restaurant ID: {} by owner ID: {}", restaurantId, ownerId);
+        requireOwnership(restaurantId, ownerId);
+        return Arrays.stream(AnalyticsWindow.values())
+                .map(window -> orderAnalyticsEngine.getAnalytics(restaurantId, window, analyticsProperties.getTopItems()))
+                .toList();
+    }
+
+    @Override
+    public OrderAnalyticsResponse getAnalytics(UUID restaurantId, AnalyticsWindow window, UUID ownerId) {
+        log.info("Fetching {} order analytics for restaurant ID: {} by owner ID: {}", window.getLabel(), restaurantId, ownerId);
+        requireOwnership(restaurantId, ownerId);
+        return orderAnalyticsEngine.getAnalytics(restaurantId, window, analyticsProperties.getTopItems());
+    }
+
+    private void requireOwnership(UUID restaurantId, UUID ownerId) {
+        if (!restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)) {
+            throw new EntityNotFoundException("Restaurant not found or not owned by you with ID: " + restaurantId);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.bytebites.restaurantservice.service.impl;
+
+import com.bytebites.restaurantservice.config.OrderEventsProperties;
+import com.bytebites.restaurantservice.config.OrderRetryProperties;
+import com.bytebites.restaurantservice.dto.DeadLetterReplayResponse;
+import com.bytebites.restaurantservice.service.OrderDeadLetterService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Replays dead-lettered orders onto the main order topic, oldest first. Progress is kept as the
+ * committed offsets of a consumer group of its own, so each parked record is replayed once
+ * however many requests it takes to drain the topic. Orders already handled in the meantime are
+ * skipped by the listener's deduplication.
+ */
+@Service
+@Slf4j
+public class OrderDeadLetterServiceImpl implements OrderDeadLetterService {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration JOIN_TIMEOUT = Duration.ofSeconds(10);
+    private static final int MAX_POLL_RECORDS = 500;
+
+    private final ConsumerFactory<String, byte[]> consumerFactory;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final OrderEventsProperties orderEventsProperties;
+    private final OrderRetryProperties orderRetryProperties;
+    private final String replayGroupId;
+    private final ReentrantLock replayLock = new ReentrantLock();
+
+    public OrderDeadLetterServiceImpl(@Qualifier("orderDeadLetterConsumerFactory") ConsumerFactory<String, byte[]> consumerFactory,
+                                      @Qualifier("orderDeadLetterKafkaTemplate") KafkaTemplate<String, byte[]> kafkaTemplate,
+                                      OrderEventsProperties orderEventsProperties,
+                                      OrderRetryProperties orderRetryProperties,
+                                      @Value("${spring.kafka.consumer.group-id}") String groupId) {
+        this.consumerFactory = consumerFactory;
+        this.kafkaTemplate = kafkaTemplate;
+        this.orderEventsProperties = orderEventsProperties;
+        this.orderRetryProperties = orderRetryProperties;
+        this.replayGroupId = groupId + "-dlt-replay";
+    }
+
+    /**
+     * Replays up to {@code limit} records. The replay consumer subscribes as a member of the
+     * replay group, so replicas replaying at the same time split the partitions between them
+     * instead of reading the same offsets; requests on one replica take turns on a lock.
+     */
+    @Override
+    public DeadLetterReplayResponse replay(int limit) {
+        if (limit < 1 || limit > orderRetryProperties.getMaxReplayRecords()) {
+            throw new IllegalArgumentException(
+                    "limit must be between 1 and " + orderRetryProperties.getMaxReplayRecords());
+        }
+        // A lock rather than a monitor, so a waiting virtual thread does not pin its carrier.
+        replayLock.lock();
+        try {
+            return replayLocked(limit);
+        } finally {
+            replayLock.unlock();
+        }
+    }
+
+    private DeadLetterReplayResponse replayLocked(int limit) {
+        String deadLetterTopic = orderRetryProperties.getDeadLetterTopic();
+        String topic = orderEventsProperties.getTopic();
+        log.info("Replaying up to {} dead-lettered orders from {} to {}", limit, deadLetterTopic, topic);
+
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, Math.min(limit, MAX_POLL_RECORDS));
+        int replayed = 0;
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer(replayGroupId, null, null, overrides)) {
+            consumer.subscribe(List.of(deadLetterTopic));
+            Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+            List<CompletableFuture<?>> sends = new ArrayList<>();
+            long joinDeadline = System.nanoTime() + JOIN_TIMEOUT.toNanos();
+            while (replayed < limit) {
+                ConsumerRecords<String, byte[]> records = consumer.poll(POLL_TIMEOUT);
+                if (records.isEmpty()) {
+                    // The first polls may only be joining the group; an empty poll after that means drained.
+                    if (consumer.assignment().isEmpty() && System.nanoTime() < joinDeadline) {
+                        continue;
+                    }
+                    break;
+                }
+                for (ConsumerRecord<String, byte[]> record : records) {
+                    if (replayed == limit) {
+                        break;
+                    }
+                    sends.add(kafkaTemplate.send(topic, record.key(), record.value()));
+                    offsets.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                    replayed++;
+                }
+            }
+            // Progress is only committed once every replayed record is safely back on the main topic.
+            CompletableFuture.allOf(sends.toArray(CompletableFuture[]::new)).join();
+            // Partitions handed to another replica meanwhile are not committed; records replayed
+            // from them again are skipped by deduplication.
+            offsets.keySet().retainAll(consumer.assignment());
+            if (!offsets.isEmpty()) {
+                consumer.commitSync(offsets);
+            }
+        }
+        log.info("Replayed {} dead-lettered orders from {} to {}", replayed, deadLetterTopic, topic);
+        return response(deadLetterTopic, topic, replayed);
+    }
+
+    private static DeadLetterReplayResponse response(String deadLetterTopic, String topic, int replayed) {
+        return DeadLetterReplayResponse.builder()
+                .deadLetterTopic(deadLetterTopic)
+                .replayedTo(topic)
+                .replayed(replayed)
+                .build();
+    }
+}
@@ -1,29 +1,51 @@
 package com.bytebites.restaurantservice.service.impl;
 
+import com.bytebites.restaurantservice.audit.AuditAction;
+import com.bytebites.restaurantservice.audit.AuditEntry;
+import com.bytebites.restaurantservice.config.PaginationProperties;
 import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.RestaurantCursor;
+import com.bytebites.restaurantservice.dto.RestaurantPageResponse;
 import com.bytebites.restaurantservice.dto.RestaurantRequest;
 import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.dto.RestaurantSummary;
+import com.bytebites.restaurantservice.event.RestaurantChangedEvent;
+import com.bytebites.restaurantservice.event.RestaurantDeletedEvent;
+import com.bytebites.restaurantservice.event.RestaurantSavedEvent;
+import com.bytebites.restaurantservice.exception.PreconditionFailedException;
+import com.bytebites.restaurantservice.model.MenuItem;
 import com.bytebites.restaurantservice.model.Restaurant;
 import com.bytebites.restaurantservice.repository.MenuItemRepository;
 import com.bytebites.restaurantservice.repository.RestaurantRepository;
 import com.bytebites.restaurantservice.service.RestaurantService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Timed("bytebites.service")
 public class RestaurantServiceImpl implements RestaurantService {
 
     private final RestaurantRepository restaurantRepository;
     private final MenuItemRepository menuItemRepository;
+    private final PaginationProperties paginationProperties;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
@@ -37,6 +59,7 @@ public class RestaurantServiceImpl implements RestaurantService {
                 .ownerId(ownerId)
                 .build();
         Restaurant savedRestaurant = restaurantRepository.save(restaurant);
+        eventPublisher.publishEvent(new RestaurantSavedEvent(savedRestaurant.getId(), savedRestaurant.getName()));
         log.info("Restaurant created with ID: {}", savedRestaurant.getId());
         return mapToRestaurantResponse(savedRestaurant);
     }
@@ -50,6 +73,13 @@ public class RestaurantServiceImpl implements RestaurantService {
         return mapToRestaurantResponse(restaurant);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public long getRestaurantVersion(UUID id) {
+        return restaurantRepository.findVersionById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Restaurant not found with ID: " + id));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public List<RestaurantResponse> getAllRestaurants() {
@@ -59,12 +89,74 @@ public class RestaurantServiceImpl implements RestaurantService {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public RestaurantPageResponse<RestaurantResponse> getRestaurantsPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        log.info("Fetching restaurants page of size: {} after cursor: {}", pageSize, cursor);
+
+        // Fetch one extra row to learn whether another page exists without a COUNT query.
+        Limit limit = Limit.of(pageSize + 1);
+        List<Restaurant> restaurants;
+        if (cursor == null || cursor.isBlank()) {
+            restaurants = restaurantRepository.findAllByOrderByNameAscIdAsc(limit);
+        } else {
+            RestaurantCursor after = RestaurantCursor.decode(cursor);
+            restaurants = restaurantRepository.findPageAfter(after.name(), after.id(), limit);
+        }
+        return toPage(restaurants, pageSize, this::mapToRestaurantResponse,
+                restaurant -> new RestaurantCursor(restaurant.getName(), restaurant.getId()));
+    }
+
+    /**
+     * Same keyset paging as {@link #getRestaurantsPage}, but reads only the summary columns, so
+     * neither restaurant entities nor menu items are loaded.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public RestaurantPageResponse<RestaurantSummary> getRestaurantSummariesPage(String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        log.info("Fetching restaurant summaries page of size: {} after cursor: {}", pageSize, cursor);
+
+        Limit limit = Limit.of(pageSize + 1);
+        List<RestaurantSummary> summaries;
+        if (cursor == null || cursor.isBlank()) {
+            summaries = restaurantRepository.findSummaries(limit);
+        } else {
+            RestaurantCursor after = RestaurantCursor.decode(cursor);
+            summaries = restaurantRepository.findSummaryPageAfter(after.name(), after.id(), limit);
+        }
+        return toPage(summaries, pageSize, Function.identity(),
+                summary -> new RestaurantCursor(summary.name(), summary.id()));
+    }
+
+    private static <T, R> RestaurantPageResponse<R> toPage(List<T> rows, int pageSize, Function<T, R> mapper,
+                                                           Function<T, RestaurantCursor> cursorOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<T> page = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return RestaurantPageResponse.<R>builder()
+                .content(page.stream()
+                        .map(mapper)
+                        .collect(Collectors.toList()))
+                .size(page.size())
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
     @Override
     @Transactional
-    public RestaurantResponse updateRestaurant(UUID id, RestaurantRequest request, UUID ownerId) {
+    public RestaurantResponse updateRestaurant(UUID id, RestaurantRequest request, UUID ownerId, Long expectedVersion) {
         log.info("Updating restaurant with ID: {} for ownerId: {}", id, ownerId);
         Restaurant existingRestaurant = restaurantRepository.findByIdAndOwnerId(id, ownerId)
                 .orElseThrow(() -> new EntityNotFoundException("Restaurant not found or not owned by you with ID: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(existingRestaurant.getVersion())) {
+            throw new PreconditionFailedException("Restaurant with ID: " + id + " has changed since version " + expectedVersion,
+                    existingRestaurant.getVersion());
+        }
+        RestaurantRequest before = auditSnapshot(existingRestaurant);
 
         existingRestaurant.setName(request.getName());
         existingRestaurant.setAddress(request.getAddress());
@@ -72,6 +164,10 @@ public class RestaurantServiceImpl implements RestaurantService {
         existingRestaurant.setEmail(request.getEmail());
 
         Restaurant updatedRestaurant = restaurantRepository.save(existingRestaurant);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(id));
+        eventPublisher.publishEvent(new RestaurantSavedEvent(id, updatedRestaurant.getName()));
+        eventPublisher.publishEvent(AuditEntry.of(ownerId, AuditAction.RESTAURANT_UPDATED, id, id,
+                before, auditSnapshot(updatedRestaurant)));
         log.info("Restaurant with ID: {} updated successfully.", updatedRestaurant.getId());
         return mapToRestaurantResponse(updatedRestaurant);
     }
@@ -80,10 +176,15 @@ public class RestaurantServiceImpl implements RestaurantService {
     @Transactional
     public void deleteRestaurant(UUID id, UUID ownerId) {
         log.info("Deleting restaurant with ID: {} for ownerId: {}", id, ownerId);
-        if (!restaurantRepository.existsByIdAndOwnerId(id, ownerId)) {
-            throw new EntityNotFoundException("Restaurant not found or not owned by you with ID: " + id);
-        }
-        restaurantRepository.deleteById(id);
+        Restaurant restaurant = restaurantRepository.findByIdAndOwnerId(id, ownerId)
+                .orElseThrow(() -> new EntityNotFoundException("Restaurant not found or not owned by you with ID: " + id));
+        // Read before the delete cascades to the items, so their cache entries can be evicted too.
+        List<UUID> menuItemIds = restaurant.getMenuItems().stream().map(MenuItem::getId).toList();
+        restaurantRepository.delete(restaurant);
+        eventPublisher.publishEvent(new RestaurantChangedEvent(id, menuItemIds));
+        eventPublisher.publishEvent(new RestaurantDeletedEvent(id));
+        eventPublisher.publishEvent(AuditEntry.of(ownerId, AuditAction.RESTAURANT_DELETED, id, id,
+                auditSnapshot(restaurant), null));
         log.info("Restaurant with ID: {} deleted successfully.", id);
     }
 
@@ -96,7 +197,55 @@ public class RestaurantServiceImpl implements RestaurantService {
                 .collect(Collectors.toList());
     }
 
-    private RestaurantResponse mapToRestaurantResponse(Restaurant restaurant) {
+    @Override
+    @Transactional(readOnly = true)
+    public List<RestaurantSummary> getRestaurantSummariesByOwner(UUID ownerId) {
+        log.info("Fetching restaurant summaries for ownerId: {}", ownerId);
+        return restaurantRepository.findSummariesByOwnerId(ownerId);
+    }
+
+    /**
+     * Feeds every restaurant to the sink as it comes off the cursor. Each restaurant and its menu
+     * are detached once handed over, so memory stays flat however large the catalogue is.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportRestaurants(Consumer<RestaurantResponse> sink) {
+        log.info("Exporting all restaurants");
+        long exported = 0;
+        try (Stream<Restaurant> restaurants = restaurantRepository.streamAllWithMenuItems()) {
+            for (Restaurant restaurant : (Iterable<Restaurant>) restaurants::iterator) {
+                sink.accept(mapToRestaurantResponse(restaurant));
+                entityManager.detach(restaurant);
+                exported++;
+            }
+        }
+        log.info("Exported {} restaurants", exported);
+        return exported;
+    }
+
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return paginationProperties.getDefaultPageSize();
+        }
+        if (size < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        return Math.min(size, paginationProperties.getMaxPageSize());
+    }
+
+    /** The owner-editable fields, which are what an audit entry records. */
+    private static RestaurantRequest auditSnapshot(Restaurant restaurant) {
+        return RestaurantRequest.builder()
+                .name(restaurant.getName())
+                .address(restaurant.getAddress())
+                .phoneNumber(restaurant.getPhoneNumber())
+                .email(restaurant.getEmail())
+                .build();
+    }
+
+    // Package-private so the JMH benchmarks can measure it in isolation.
+    RestaurantResponse mapToRestaurantResponse(Restaurant restaurant) {
         List<MenuItemResponse> menuItemResponses = restaurant.getMenuItems() != null ?
                 restaurant.getMenuItems().stream()
                         .map(menuItem -> MenuItemResponse.builder()
@@ -106,6 +255,7 @@ public class RestaurantServiceImpl implements RestaurantService {
                                 .price(menuItem.getPrice())
                                 .available(menuItem.isAvailable())
                                 .restaurantId(restaurant.getId())
+                                .version(menuItem.getVersion())
                                 .build())
                         .collect(Collectors.toList())
                 : List.of();
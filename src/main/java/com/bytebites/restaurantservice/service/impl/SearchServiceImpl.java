@@ -0,0 +1,47 @@
+package com.bytebites.restaurantservice.service.impl;
+
+import com.bytebites.restaurantservice.config.SearchProperties;
+import com.bytebites.restaurantservice.dto.SearchResponse;
+import com.bytebites.restaurantservice.search.MenuSearchIndex;
+import com.bytebites.restaurantservice.service.SearchService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Answers searches entirely from the in-memory index; no query here touches the database.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Timed("bytebites.service")
+public class SearchServiceImpl implements SearchService {
+
+    private final MenuSearchIndex searchIndex;
+    private final SearchProperties searchProperties;
+
+    @Override
+    public SearchResponse search(String query, Integer limit) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        if (query.length() > searchProperties.getMaxQueryLength()) {
+            throw new IllegalArgumentException("Search query must be at most "
+                    + searchProperties.getMaxQueryLength() + " characters");
+        }
+        int resolvedLimit = resolveLimit(limit);
+        log.info("Searching for '{}' with limit: {}", query, resolvedLimit);
+        return searchIndex.search(query.strip(), resolvedLimit);
+    }
+
+    private int resolveLimit(Integer limit) {
+        if (limit == null) {
+            return searchProperties.getDefaultLimit();
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        return Math.min(limit, searchProperties.getMaxLimit());
+    }
+}
@@ -0,0 +1,128 @@
+package com.bytebites.restaurantservice.verification;
+
+import com.bytebites.restaurantservice.dto.MenuItemPriceView;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderItemRejection;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.event.OrderRejectedEvent;
+import com.bytebites.restaurantservice.repository.MenuItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Checks the items of placed orders against the live menu. A whole batch is resolved with a
+ * single IN query so verification costs one round trip per poll, not one per order line.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderEventVerifier {
+
+    private final MenuItemRepository menuItemRepository;
+
+    /**
+     * Returns why the event is not a well-formed order, or {@code null} if it is. A malformed
+     * order can never be verified, so it is dead-lettered rather than checked against the menu.
+     */
+    public String malformation(OrderPlacedEvent event) {
+        if (event.orderId() == null || event.restaurantId() == null) {
+            return "missing order or restaurant ID";
+        }
+        if (parseId(event.restaurantId()) == null) {
+            return "restaurant ID is not a UUID";
+        }
+        if (event.orderItems() == null || event.orderItems().isEmpty()) {
+            return "no order items";
+        }
+        for (OrderItemDetails item : event.orderItems()) {
+            if (item == null) {
+                return "null order item";
+            }
+        }
+        return null;
+    }
+
+    /** Verifies well-formed orders only; see {@link #malformation}. */
+    public OrderVerificationResult verify(List<OrderPlacedEvent> events) {
+        Map<UUID, MenuItemPriceView> menu = loadMenuItems(events);
+
+        List<OrderPlacedEvent> accepted = new ArrayList<>(events.size());
+        List<OrderRejectedEvent> rejected = new ArrayList<>();
+        for (OrderPlacedEvent event : events) {
+            List<OrderItemRejection> rejections = verifyItems(event, menu);
+            if (rejections.isEmpty()) {
+                accepted.add(event);
+            } else {
+                log.warn("Rejecting order {} for restaurant {}: {}", event.orderId(), event.restaurantId(), rejections);
+                rejected.add(new OrderRejectedEvent(event.orderId(), event.restaurantId(), rejections));
+            }
+        }
+        return new OrderVerificationResult(accepted, rejected);
+    }
+
+    private Map<UUID, MenuItemPriceView> loadMenuItems(List<OrderPlacedEvent> events) {
+        Set<UUID> ids = new HashSet<>();
+        for (OrderPlacedEvent event : events) {
+            for (OrderItemDetails item : items(event)) {
+                UUID id = parseId(item.menuItemId());
+                if (id != null) {
+                    ids.add(id);
+                }
+            }
+        }
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, MenuItemPriceView> menu = new HashMap<>(ids.size() * 2);
+        for (MenuItemPriceView view : menuItemRepository.findPriceViewsByIdIn(ids)) {
+            menu.put(view.id(), view);
+        }
+        return menu;
+    }
+
+    private List<OrderItemRejection> verifyItems(OrderPlacedEvent event, Map<UUID, MenuItemPriceView> menu) {
+        UUID restaurantId = parseId(event.restaurantId());
+        List<OrderItemRejection> rejections = new ArrayList<>();
+        for (OrderItemDetails item : items(event)) {
+            UUID id = parseId(item.menuItemId());
+            MenuItemPriceView view = id == null ? null : menu.get(id);
+            if (view == null || !view.restaurantId().equals(restaurantId)) {
+                rejections.add(rejection(item, OrderItemRejection.Reason.UNKNOWN_ITEM, null));
+            } else if (!view.available()) {
+                rejections.add(rejection(item, OrderItemRejection.Reason.UNAVAILABLE, view.price()));
+            } else if (item.price() == null || item.price().compareTo(view.price()) != 0) {
+                rejections.add(rejection(item, OrderItemRejection.Reason.PRICE_MISMATCH, view.price()));
+            }
+        }
+        return rejections;
+    }
+
+    private OrderItemRejection rejection(OrderItemDetails item, OrderItemRejection.Reason reason, BigDecimal menuPrice) {
+        return new OrderItemRejection(item.menuItemId(), item.menuItemName(), reason, item.price(), menuPrice);
+    }
+
+    private static List<OrderItemDetails> items(OrderPlacedEvent event) {
+        return event.orderItems() == null ? List.of() : event.orderItems();
+    }
+
+    private static UUID parseId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
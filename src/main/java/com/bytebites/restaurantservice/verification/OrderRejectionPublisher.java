@@ -0,0 +1,41 @@
+package com.bytebites.restaurantservice.verification;
+
+import com.bytebites.restaurantservice.config.OrderEventsProperties;
+import com.bytebites.restaurantservice.event.OrderRejectedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@Slf4j
+public class OrderRejectionPublisher {
+
+    private final KafkaTemplate<String, OrderRejectedEvent> kafkaTemplate;
+    private final OrderEventsProperties orderEventsProperties;
+
+    public OrderRejectionPublisher(@Qualifier("orderRejectionKafkaTemplate") KafkaTemplate<String, OrderRejectedEvent> kafkaTemplate,
+                                   OrderEventsProperties orderEventsProperties) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.orderEventsProperties = orderEventsProperties;
+    }
+
+    /**
+     * Sends the rejections and waits for the broker to acknowledge all of them, so the
+     * consumed batch is only committed once no rejection can be lost.
+     */
+    public void publish(List<OrderRejectedEvent> rejections) {
+        if (rejections.isEmpty()) {
+            return;
+        }
+        String topic = orderEventsProperties.getRejectionTopic();
+        CompletableFuture<?>[] sends = rejections.stream()
+                .map(rejection -> kafkaTemplate.send(topic, rejection.restaurantId(), rejection))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(sends).join();
+        log.info("Published {} order rejections to {}", rejections.size(), topic);
+    }
+}
@@ -0,0 +1,9 @@
+package com.bytebites.restaurantservice.verification;
+
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.event.OrderRejectedEvent;
+
+import java.util.List;
+
+public record OrderVerificationResult(List<OrderPlacedEvent> accepted, List<OrderRejectedEvent> rejected) {
+}
@@ -0,0 +1,102 @@
+package com.bytebites.restaurantservice.analytics;
+
+import com.bytebites.restaurantservice.config.PopularityKafkaConfig;
+import com.bytebites.restaurantservice.config.PopularityProperties;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.listener.MenuItemPopularityListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(classes = MenuItemPopularityKafkaTest.Config.class,
+        properties = {
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "bytebites.restaurant.popularity.topic=" + MenuItemPopularityKafkaTest.TOPIC
+        })
+@EmbeddedKafka(partitions = 1, topics = MenuItemPopularityKafkaTest.TOPIC)
+class MenuItemPopularityKafkaTest {
+
+    static final String TOPIC = "menu-item-popularity-test";
+
+    @Configuration
+    @ImportAutoConfiguration(KafkaAutoConfiguration.class)
+    @Import({PopularityKafkaConfig.class, PopularityProperties.class, MenuItemPopularity.class,
+            MenuItemPopularityPublisher.class, MenuItemPopularityListener.class})
+    static class Config {
+    }
+
+    @Autowired
+    private MenuItemPopularity menuItemPopularity;
+
+    @Autowired
+    private MenuItemPopularityPublisher popularityPublisher;
+
+    @Autowired
+    @Qualifier("popularityKafkaTemplate")
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @BeforeEach
+    void setUp() {
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            ContainerTestUtils.waitForAssignment(container, 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should count the orders another replica shares")
+    void peerOrder_IsCounted() {
+        UUID burger = UUID.randomUUID();
+        UUID fries = UUID.randomUUID();
+
+        kafkaTemplate.send(TOPIC, UUID.randomUUID().toString(), burger + ":3," + fries + ":1");
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertEquals(3.0, menuItemPopularity.score(burger), 1e-3));
+        assertEquals(1.0, menuItemPopularity.score(fries), 1e-3);
+    }
+
+    @Test
+    @DisplayName("Should skip its own shared orders and ignore malformed ones")
+    void ownAndMalformedOrders_AreSkipped() {
+        UUID ownItem = UUID.randomUUID();
+        UUID malformedItem = UUID.randomUUID();
+        UUID peerItem = UUID.randomUUID();
+
+        popularityPublisher.publish(new OrderPlacedEvent(UUID.randomUUID().toString(), "customer@example.com",
+                UUID.randomUUID().toString(), "Test Restaurant", BigDecimal.TEN, "1 Delivery Rd", LocalDateTime.now(),
+                List.of(new OrderItemDetails(ownItem.toString(), "Burger", 2, null))));
+        kafkaTemplate.send(TOPIC, UUID.randomUUID().toString(), malformedItem + ":1,not-an-id:2");
+        // A single partition delivers in order, so once the peer order is counted the others have been seen.
+        kafkaTemplate.send(TOPIC, UUID.randomUUID().toString(), peerItem + ":1");
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertEquals(1.0, menuItemPopularity.score(peerItem), 1e-3));
+        assertEquals(0.0, menuItemPopularity.score(ownItem));
+        assertEquals(0.0, menuItemPopularity.score(malformedItem));
+    }
+}
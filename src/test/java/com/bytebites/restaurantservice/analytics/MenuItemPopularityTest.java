@@ -0,0 +1,149 @@
+package com.bytebites.restaurantservice.analytics;
+
+import com.bytebites.restaurantservice.config.PopularityProperties;
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MenuItemPopularityTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T12:00:00Z");
+
+    private AtomicLong elapsedMillis;
+    private MenuItemPopularity popularity;
+
+    @BeforeEach
+    void setUp() {
+        elapsedMillis = new AtomicLong();
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return START.plusMillis(elapsedMillis.get());
+            }
+        };
+        PopularityProperties properties = new PopularityProperties();
+        properties.setHalfLife(Duration.ofHours(1));
+        popularity = new MenuItemPopularity(properties, clock);
+    }
+
+    @Test
+    @DisplayName("Should halve an item's score every half-life and add new orders on top")
+    void record_DecaysWithHalfLife() {
+        UUID burger = UUID.randomUUID();
+        popularity.record(order(new OrderItemDetails(burger.toString(), "Burger", 8, null)));
+
+        elapsedMillis.addAndGet(Duration.ofHours(2).toMillis());
+        assertEquals(2.0, popularity.score(burger), 1e-4);
+
+        popularity.record(order(new OrderItemDetails(burger.toString(), "Burger", 1, null)));
+        assertEquals(3.0, popularity.score(burger), 1e-4);
+    }
+
+    @Test
+    @DisplayName("Should weigh an order shared by another replica as if it had been counted here at the time")
+    void recordShared_DecaysFromWhenItWasCounted() {
+        UUID burger = UUID.randomUUID();
+        popularity.record(order(new OrderItemDetails(burger.toString(), "Burger", 8, null)));
+        long countedAt = START.toEpochMilli();
+        elapsedMillis.addAndGet(Duration.ofHours(2).toMillis());
+
+        popularity.record(burger, 8, countedAt);
+
+        assertEquals(4.0, popularity.score(burger), 1e-4);
+    }
+
+    @Test
+    @DisplayName("Should rank recent sellers first and keep the given order for ties")
+    void rank_OrdersByDecayedVolume() {
+        MenuItemResponse oldFavourite = item("Old favourite");
+        MenuItemResponse newHit = item("New hit");
+        MenuItemResponse neverOrdered = item("Never ordered");
+        MenuItemResponse alsoNeverOrdered = item("Also never ordered");
+        popularity.record(order(new OrderItemDetails(oldFavourite.getId().toString(), "Old favourite", 20, null)));
+        elapsedMillis.addAndGet(Duration.ofHours(5).toMillis());
+        popularity.record(order(new OrderItemDetails(newHit.getId().toString(), "New hit", 3, null)));
+
+        List<MenuItemResponse> ranked = popularity.rank(List.of(neverOrdered, oldFavourite, alsoNeverOrdered, newHit));
+
+        assertEquals(List.of("New hit", "Old favourite", "Never ordered", "Also never ordered"),
+                ranked.stream().map(MenuItemResponse::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Should not lose increments from concurrent writers")
+    void record_ConcurrentWriters_CountEveryOrder() throws Exception {
+        UUID burger = UUID.randomUUID();
+        OrderPlacedEvent event = order(new OrderItemDetails(burger.toString(), "Burger", 1, null));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        popularity.record(event);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(80_000.0, popularity.score(burger));
+    }
+
+    @Test
+    @DisplayName("Should sweep counters that have decayed to nothing")
+    void sweep_DropsNegligibleCounters() {
+        UUID stale = UUID.randomUUID();
+        UUID fresh = UUID.randomUUID();
+        popularity.record(order(new OrderItemDetails(stale.toString(), "Stale", 1, null)));
+        elapsedMillis.addAndGet(Duration.ofHours(12).toMillis());
+        popularity.record(order(new OrderItemDetails(fresh.toString(), "Fresh", 1, null)));
+
+        popularity.sweep();
+
+        assertEquals(0.0, popularity.score(stale));
+        assertEquals(1.0, popularity.score(fresh), 1e-6);
+    }
+
+    private static MenuItemResponse item(String name) {
+        return MenuItemResponse.builder().id(UUID.randomUUID()).name(name).build();
+    }
+
+    private static OrderPlacedEvent order(OrderItemDetails... items) {
+        return new OrderPlacedEvent(UUID.randomUUID().toString(), "customer@example.com", UUID.randomUUID().toString(),
+                "Test Restaurant", BigDecimal.TEN, "1 Delivery Rd", LocalDateTime.now(), List.of(items));
+    }
+}
@@ -0,0 +1,157 @@
+package com.bytebites.restaurantservice.analytics;
+
+import com.bytebites.restaurantservice.dto.OrderAnalyticsResponse;
+import com.bytebites.restaurantservice.dto.TopSellingItemResponse;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.event.RestaurantDeletedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderAnalyticsEngineTest {
+
+    private static final Instant START = Instant.parse("2026-01-01T12:00:00Z");
+
+    private AtomicLong elapsedMillis;
+    private OrderAnalyticsEngine engine;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        elapsedMillis = new AtomicLong();
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return START.plusMillis(elapsedMillis.get());
+            }
+        };
+        engine = new OrderAnalyticsEngine(clock);
+        restaurantId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should sum orders, revenue and best sellers in every window")
+    void record_AggregatesPerWindow() {
+        engine.record(order("19.50", new OrderItemDetails("burger", "Burger", 2, null)));
+        engine.record(order("7.25", new OrderItemDetails("fries", "Fries", 1, null),
+                new OrderItemDetails("burger", "Burger", 1, null)));
+        engine.record(order("3.00", new OrderItemDetails("soda", "Soda", 3, null)));
+
+        for (AnalyticsWindow window : AnalyticsWindow.values()) {
+            OrderAnalyticsResponse analytics = engine.getAnalytics(restaurantId, window, 2);
+            assertEquals(3, analytics.getOrderCount(), window.getLabel());
+            assertEquals(new BigDecimal("29.75"), analytics.getRevenue(), window.getLabel());
+            assertEquals(List.of("burger", "soda"),
+                    analytics.getTopItems().stream().map(TopSellingItemResponse::getMenuItemId).toList());
+            assertEquals(3, analytics.getTopItems().get(0).getQuantity());
+        }
+        assertEquals(0, engine.getAnalytics(UUID.randomUUID(), AnalyticsWindow.ONE_DAY, 5).getOrderCount());
+    }
+
+    @Test
+    @DisplayName("Should drop orders from a window once they slide out of it")
+    void getAnalytics_OldOrdersSlideOut() {
+        engine.record(order("10.00", new OrderItemDetails("burger", "Burger", 1, null)));
+        elapsedMillis.addAndGet(Duration.ofMinutes(10).toMillis());
+        engine.record(order("5.00", new OrderItemDetails("fries", "Fries", 1, null)));
+
+        OrderAnalyticsResponse fiveMinutes = engine.getAnalytics(restaurantId, AnalyticsWindow.FIVE_MINUTES, 5);
+        assertEquals(1, fiveMinutes.getOrderCount());
+        assertEquals(new BigDecimal("5.00"), fiveMinutes.getRevenue());
+        assertEquals("fries", fiveMinutes.getTopItems().get(0).getMenuItemId());
+        assertEquals(2, engine.getAnalytics(restaurantId, AnalyticsWindow.ONE_HOUR, 5).getOrderCount());
+
+        elapsedMillis.addAndGet(Duration.ofHours(25).toMillis());
+        OrderAnalyticsResponse oneDay = engine.getAnalytics(restaurantId, AnalyticsWindow.ONE_DAY, 5);
+        assertEquals(0, oneDay.getOrderCount());
+        assertTrue(oneDay.getTopItems().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reuse a bucket a full turn later without carrying its old counts")
+    void record_RecycledBucket_StartsFromZero() {
+        for (int i = 0; i < 40; i++) {
+            engine.record(order("1.00", new OrderItemDetails("item-" + i, "Item " + i, 1, null)));
+        }
+        elapsedMillis.addAndGet(Duration.ofMinutes(5).toMillis());
+        engine.record(order("2.00", new OrderItemDetails("item-0", "Item 0", 1, null)));
+
+        OrderAnalyticsResponse fiveMinutes = engine.getAnalytics(restaurantId, AnalyticsWindow.FIVE_MINUTES, 5);
+        assertEquals(1, fiveMinutes.getOrderCount());
+        assertEquals(1, fiveMinutes.getTopItems().size());
+        assertEquals(1, fiveMinutes.getTopItems().get(0).getQuantity());
+        assertEquals(41, engine.getAnalytics(restaurantId, AnalyticsWindow.ONE_HOUR, 5).getOrderCount());
+    }
+
+    @Test
+    @DisplayName("Should forget a deleted restaurant")
+    void onRestaurantDeleted_ClearsCounters() {
+        engine.record(order("10.00"));
+
+        engine.onRestaurantDeleted(new RestaurantDeletedEvent(restaurantId));
+
+        assertEquals(0, engine.getAnalytics(restaurantId, AnalyticsWindow.ONE_HOUR, 5).getOrderCount());
+    }
+
+    @Test
+    @DisplayName("Should sweep out a restaurant idle for longer than the longest window and keep active ones")
+    void sweep_IdleRestaurant_Dropped() {
+        engine.record(order("10.00", new OrderItemDetails("burger", "Burger", 1, null)));
+        UUID activeRestaurant = restaurantId;
+        restaurantId = UUID.randomUUID();
+        engine.record(order("4.00"));
+
+        elapsedMillis.addAndGet(Duration.ofHours(23).toMillis());
+        restaurantId = activeRestaurant;
+        engine.record(order("6.00"));
+        elapsedMillis.addAndGet(Duration.ofHours(2).toMillis());
+        engine.sweep();
+
+        assertEquals(1, engine.trackedRestaurants());
+        assertEquals(1, engine.getAnalytics(activeRestaurant, AnalyticsWindow.ONE_DAY, 5).getOrderCount());
+    }
+
+    @Test
+    @DisplayName("Should keep counting an item first sold after its bucket was opened")
+    void record_ItemCapacityGrowsAcrossUsedBuckets() {
+        engine.record(order("1.00", new OrderItemDetails("item-0", "Item 0", 1, null)));
+        elapsedMillis.addAndGet(Duration.ofMinutes(2).toMillis());
+        for (int i = 1; i < 40; i++) {
+            engine.record(order("1.00", new OrderItemDetails("item-" + i, "Item " + i, 1, null)));
+        }
+        engine.record(order("1.00", new OrderItemDetails("item-0", "Item 0", 4, null)));
+
+        OrderAnalyticsResponse oneHour = engine.getAnalytics(restaurantId, AnalyticsWindow.ONE_HOUR, 1);
+        assertEquals(41, oneHour.getOrderCount());
+        assertEquals("item-0", oneHour.getTopItems().get(0).getMenuItemId());
+        assertEquals(5, oneHour.getTopItems().get(0).getQuantity());
+    }
+
+    private OrderPlacedEvent order(String total, OrderItemDetails... items) {
+        return new OrderPlacedEvent(UUID.randomUUID().toString(), "customer@example.com", restaurantId.toString(),
+                "Test Restaurant", new BigDecimal(total), "1 Delivery Rd", LocalDateTime.now(), List.of(items));
+    }
+}
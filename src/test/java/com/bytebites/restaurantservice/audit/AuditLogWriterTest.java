@@ -0,0 +1,138 @@
+package com.bytebites.restaurantservice.audit;
+
+import com.bytebites.restaurantservice.config.AuditProperties;
+import com.bytebites.restaurantservice.dto.RestaurantRequest;
+import com.bytebites.restaurantservice.model.AuditRecord;
+import com.bytebites.restaurantservice.repository.AuditRecordRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogWriterTest {
+
+    @Mock
+    private AuditRecordRepository auditRecordRepository;
+
+    @Captor
+    private ArgumentCaptor<List<AuditRecord>> batches;
+
+    private AuditProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+    private AuditLogWriter writer;
+    private UUID ownerId;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AuditProperties();
+        properties.setBufferCapacity(4);
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerFlush(2);
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new AuditLogWriter(auditRecordRepository, new ObjectMapper(), properties, meterRegistry);
+        ownerId = UUID.randomUUID();
+        restaurantId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should write buffered entries in batches with before and after values as JSON")
+    void flush_WritesBatches() {
+        List<List<AuditRecord>> batches = new ArrayList<>();
+        when(auditRecordRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            batches.add(List.copyOf(invocation.getArgument(0)));
+            return invocation.getArgument(0);
+        });
+        for (int i = 0; i < 3; i++) {
+            writer.onAuditEntry(AuditEntry.of(ownerId, AuditAction.RESTAURANT_UPDATED, restaurantId, restaurantId,
+                    RestaurantRequest.builder().name("Old " + i).build(),
+                    RestaurantRequest.builder().name("New " + i).build()));
+        }
+
+        writer.flush();
+
+        assertEquals(List.of(2, 1), batches.stream().map(List::size).toList());
+        AuditRecord first = batches.get(0).get(0);
+        assertEquals(ownerId, first.getActorId());
+        assertEquals(AuditAction.RESTAURANT_UPDATED, first.getAction());
+        assertTrue(first.getBeforeValue().contains("\"name\":\"Old 0\""));
+        assertTrue(first.getAfterValue().contains("\"name\":\"New 0\""));
+        assertEquals(3, entries("written"));
+        assertEquals(0, meterRegistry.get("bytebites.audit.buffer.size").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should drop and count entries once the buffer is full")
+    void onAuditEntry_BufferFull_Drops() {
+        for (int i = 0; i < 6; i++) {
+            writer.onAuditEntry(AuditEntry.of(ownerId, AuditAction.RESTAURANT_DELETED, restaurantId, restaurantId,
+                    RestaurantRequest.builder().name("Deleted").build(), null));
+        }
+
+        assertEquals(2, entries("dropped"));
+        assertEquals(4, meterRegistry.get("bytebites.audit.buffer.size").gauge().value());
+        assertEquals(0, meterRegistry.get("bytebites.audit.buffer.remaining").gauge().value());
+        verifyNoInteractions(auditRecordRepository);
+    }
+
+    @Test
+    @DisplayName("Should count a failed batch and keep flushing the rest")
+    void flush_RepositoryFailure_CountsAndContinues() {
+        when(auditRecordRepository.saveAll(anyList()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        for (int i = 0; i < 3; i++) {
+            writer.onAuditEntry(AuditEntry.of(ownerId, AuditAction.MENU_ITEM_DELETED, restaurantId, UUID.randomUUID(),
+                    "item " + i, null));
+        }
+
+        assertDoesNotThrow(writer::flush);
+
+        verify(auditRecordRepository, times(2)).saveAll(batches.capture());
+        assertNull(batches.getValue().get(0).getAfterValue());
+        assertEquals(2, entries("failed"));
+        assertEquals(1, entries("written"));
+    }
+
+    @Test
+    @DisplayName("Should write at most the configured number of batches per flush and leave the rest for the next")
+    void flush_Backlog_BoundedPerFlush() {
+        when(auditRecordRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        properties.setBufferCapacity(10);
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new AuditLogWriter(auditRecordRepository, new ObjectMapper(), properties, meterRegistry);
+        for (int i = 0; i < 6; i++) {
+            writer.onAuditEntry(AuditEntry.of(ownerId, AuditAction.MENU_ITEM_UPDATED, restaurantId, UUID.randomUUID(),
+                    "item " + i, "item " + i + " renamed"));
+        }
+
+        writer.flush();
+
+        verify(auditRecordRepository, times(2)).saveAll(anyList());
+        assertEquals(4, entries("written"));
+        assertEquals(2, meterRegistry.get("bytebites.audit.buffer.size").gauge().value());
+
+        writer.flushOnShutdown();
+
+        assertEquals(6, entries("written"));
+    }
+
+    private double entries(String result) {
+        return meterRegistry.get("bytebites.audit.entries").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,153 @@
+package com.bytebites.restaurantservice.cache;
+
+import com.bytebites.restaurantservice.config.CacheConfig;
+import com.bytebites.restaurantservice.config.CacheInvalidationKafkaConfig;
+import com.bytebites.restaurantservice.event.RestaurantChangedEvent;
+import com.bytebites.restaurantservice.listener.CacheInvalidationListener;
+import com.bytebites.restaurantservice.search.MenuSearchIndexUpdater;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.StreamSupport;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest(classes = CacheInvalidationKafkaTest.Config.class,
+        properties = "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}")
+@EmbeddedKafka(partitions = 1, topics = CacheInvalidationKafkaTest.TOPIC)
+class CacheInvalidationKafkaTest {
+
+    static final String TOPIC = "restaurant-cache-invalidation";
+
+    @Configuration
+    @ImportAutoConfiguration(KafkaAutoConfiguration.class)
+    @Import({CacheInvalidationKafkaConfig.class, CacheInvalidationPublisher.class,
+            RestaurantCacheInvalidator.class, CacheInvalidationListener.class})
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            return new CaffeineCacheManager(CacheConfig.MENUS_CACHE);
+        }
+    }
+
+    @MockitoBean
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @MockitoBean
+    private MenuSearchIndexUpdater menuSearchIndexUpdater;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    @Qualifier("cacheInvalidationKafkaTemplate")
+    private KafkaTemplate<String, String> kafkaTemplate;
+
+    @Autowired
+    private KafkaListenerEndpointRegistry listenerRegistry;
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    private Cache menus;
+
+    @BeforeEach
+    void setUp() {
+        menus = cacheManager.getCache(CacheConfig.MENUS_CACHE);
+        for (MessageListenerContainer container : listenerRegistry.getListenerContainers()) {
+            ContainerTestUtils.waitForAssignment(container, 1);
+        }
+    }
+
+    @Test
+    @DisplayName("Should evict the local entry and changed menu items and reload the search index on a peer invalidation")
+    void peerInvalidation_EvictsLocalEntry() {
+        UUID restaurantId = UUID.randomUUID();
+        UUID menuItemId = UUID.randomUUID();
+        menus.put(restaurantId, "cached menu");
+
+        kafkaTemplate.send(TOPIC, restaurantId.toString(), restaurantId + "," + menuItemId);
+
+        await().atMost(Duration.ofSeconds(10))
+                .untilAsserted(() -> assertNull(menus.get(restaurantId)));
+        verify(secondLevelCacheEvictor, timeout(10_000)).evictRestaurant(restaurantId, List.of(menuItemId));
+        verify(menuSearchIndexUpdater, timeout(10_000)).reload(restaurantId);
+    }
+
+    @Test
+    @DisplayName("Should skip its own invalidations when they come back from the topic")
+    void ownInvalidation_IsSkipped() {
+        UUID ownRestaurantId = UUID.randomUUID();
+        UUID peerRestaurantId = UUID.randomUUID();
+
+        eventPublisher.publishEvent(new RestaurantChangedEvent(ownRestaurantId, List.of()));
+        // A single partition delivers in order, so once the peer message is handled the own one has been seen.
+        kafkaTemplate.send(TOPIC, peerRestaurantId.toString(), peerRestaurantId.toString());
+
+        verify(menuSearchIndexUpdater, timeout(10_000)).reload(peerRestaurantId);
+        verify(menuSearchIndexUpdater, never()).reload(ownRestaurantId);
+        verify(secondLevelCacheEvictor, times(1)).evictRestaurant(ownRestaurantId, List.of());
+    }
+
+    @Test
+    @DisplayName("Should evict locally and broadcast the invalidation after a restaurant change")
+    void restaurantChanged_EvictsLocallyAndPublishes() {
+        UUID restaurantId = UUID.randomUUID();
+        menus.put(restaurantId, "cached menu");
+
+        UUID menuItemId = UUID.randomUUID();
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId, List.of(menuItemId)));
+
+        assertNull(menus.get(restaurantId));
+
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("invalidation-probe", "false", embeddedKafka);
+        try (Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<>(consumerProps,
+                new StringDeserializer(), new StringDeserializer()).createConsumer()) {
+            embeddedKafka.consumeFromAnEmbeddedTopic(consumer, TOPIC);
+            await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+                ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofMillis(500));
+                assertTrue(StreamSupport.stream(records.spliterator(), false)
+                        .map(ConsumerRecord::value)
+                        .anyMatch((restaurantId + "," + menuItemId)::equals));
+            });
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.bytebites.restaurantservice.config;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadsConfigTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(TaskExecutionAutoConfiguration.class))
+            .withUserConfiguration(VirtualThreadsConfig.class, ListenerFactoryConfig.class);
+
+    @Configuration
+    static class ListenerFactoryConfig {
+        @Bean
+        ConcurrentKafkaListenerContainerFactory<String, String> testListenerContainerFactory() {
+            return new ConcurrentKafkaListenerContainerFactory<>();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run declared Kafka listener containers on virtual threads when the mode is on")
+    void virtualThreadsEnabled_ListenerFactoriesUseVirtualThreads() {
+        contextRunner.withPropertyValues("spring.threads.virtual.enabled=true").run(context -> {
+            AsyncTaskExecutor executor = context.getBean(ConcurrentKafkaListenerContainerFactory.class)
+                    .getContainerProperties().getListenerTaskExecutor();
+
+            assertNotNull(executor);
+            assertTrue(CompletableFuture.supplyAsync(() -> Thread.currentThread().isVirtual(), executor).get());
+        });
+    }
+
+    @Test
+    @DisplayName("Should leave listener containers on their default platform threads otherwise")
+    void virtualThreadsDisabled_ListenerFactoriesUntouched() {
+        contextRunner.run(context -> {
+            assertFalse(context.containsBean("kafkaListenerVirtualThreadsPostProcessor"));
+            assertNull(context.getBean(ConcurrentKafkaListenerContainerFactory.class)
+                    .getContainerProperties().getListenerTaskExecutor());
+        });
+    }
+}
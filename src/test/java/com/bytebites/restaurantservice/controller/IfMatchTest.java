@@ -0,0 +1,40 @@
+package com.bytebites.restaurantservice.controller;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IfMatchTest {
+
+    @Test
+    @DisplayName("Should read the version from a quoted strong ETag")
+    void expectedVersion_StrongTag() {
+        assertEquals(3L, IfMatch.expectedVersion("\"3\""));
+        assertEquals(3L, IfMatch.expectedVersion(" 3 "));
+    }
+
+    @Test
+    @DisplayName("Should expect no particular version without a header or for a wildcard")
+    void expectedVersion_AnyVersion() {
+        assertNull(IfMatch.expectedVersion(null));
+        assertNull(IfMatch.expectedVersion(" "));
+        assertNull(IfMatch.expectedVersion("*"));
+    }
+
+    @Test
+    @DisplayName("Should never match a weak ETag, as If-Match compares strongly")
+    void expectedVersion_WeakTag_MatchesNoVersion() {
+        Long expected = IfMatch.expectedVersion("W/\"3\"");
+
+        assertNotNull(expected);
+        assertNotEquals(3L, expected);
+        assertTrue(expected < 0);
+    }
+
+    @Test
+    @DisplayName("Should reject a header that is not a single ETag")
+    void expectedVersion_Malformed_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> IfMatch.expectedVersion("\"1\", \"2\""));
+    }
+}
@@ -0,0 +1,133 @@
+package com.bytebites.restaurantservice.controller;
+
+import com.bytebites.restaurantservice.dto.MenuItemFilter;
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.MenuSnapshot;
+import com.bytebites.restaurantservice.menuimport.MenuImportParser;
+import com.bytebites.restaurantservice.service.MenuItemService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(MenuItemController.class)
+class MenuItemControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private MenuItemService menuItemService;
+
+    @MockitoBean
+    private MenuImportParser menuImportParser;
+
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = UUID.randomUUID();
+        MenuItemResponse burger = MenuItemResponse.builder()
+                .id(UUID.randomUUID())
+                .name("Burger")
+                .price(new BigDecimal("12.99"))
+                .available(true)
+                .restaurantId(restaurantId)
+                .build();
+        when(menuItemService.getMenuSnapshot(restaurantId)).thenReturn(new MenuSnapshot(4L, List.of(burger)));
+    }
+
+    @Test
+    @DisplayName("Should return the menu with a strong ETag")
+    void getMenuItems_ReturnsETag() throws Exception {
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/menu-items", restaurantId).with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$[0].name").value("Burger"));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 with no body when If-None-Match matches")
+    void getMenuItems_MatchingETag_NotModified() throws Exception {
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/menu-items", restaurantId).with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should return the full menu when If-None-Match is stale")
+    void getMenuItems_StaleETag_ReturnsBody() throws Exception {
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/menu-items", restaurantId).with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("Should route filtered listings to the filtered query")
+    void getMenuItems_WithFilters_UsesFilteredQuery() throws Exception {
+        MenuItemFilter filter = MenuItemFilter.of(true, null, new BigDecimal("15"), "price,asc");
+        when(menuItemService.getFilteredMenu(restaurantId, filter)).thenReturn(new MenuSnapshot(4L, List.of()));
+
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/menu-items", restaurantId).with(jwt())
+                        .param("available", "true")
+                        .param("maxPrice", "15")
+                        .param("sort", "price,asc"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
+                .andExpect(jsonPath("$.length()").value(0));
+
+        verify(menuItemService, never()).getMenuSnapshot(restaurantId);
+    }
+
+    @Test
+    @DisplayName("Should rank the cached menu by popularity and send no ETag")
+    void getMenuItems_SortPopular_RanksCachedMenu() throws Exception {
+        MenuItemResponse fries = MenuItemResponse.builder().id(UUID.randomUUID()).name("Fries").build();
+        when(menuItemService.rankByPopularity(anyList())).thenReturn(List.of(fries));
+
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/menu-items", restaurantId).with(jwt())
+                        .param("sort", "popular"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(jsonPath("$[0].name").value("Fries"));
+
+        verify(menuItemService).getMenuSnapshot(restaurantId);
+        verify(menuItemService, never()).getFilteredMenu(any(UUID.class), any(MenuItemFilter.class));
+    }
+
+    @Test
+    @DisplayName("Should reject an inverted price range or an unknown sort property")
+    void getMenuItems_InvalidFilter_BadRequest() throws Exception {
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/menu-items", restaurantId).with(jwt())
+                        .param("minPrice", "20")
+                        .param("maxPrice", "10"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/restaurants/{restaurantId}/menu-items", restaurantId).with(jwt())
+                        .param("sort", "version,desc"))
+                .andExpect(status().isBadRequest());
+    }
+}
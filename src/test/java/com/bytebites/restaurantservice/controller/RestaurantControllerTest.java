@@ -0,0 +1,149 @@
+package com.bytebites.restaurantservice.controller;
+
+import com.bytebites.restaurantservice.analytics.AnalyticsWindow;
+import com.bytebites.restaurantservice.dto.OrderAnalyticsResponse;
+import com.bytebites.restaurantservice.dto.RestaurantPageResponse;
+import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.dto.RestaurantSummary;
+import com.bytebites.restaurantservice.service.OrderAnalyticsService;
+import com.bytebites.restaurantservice.service.RestaurantService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(RestaurantController.class)
+class RestaurantControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RestaurantService restaurantService;
+
+    @MockitoBean
+    private OrderAnalyticsService orderAnalyticsService;
+
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = UUID.randomUUID();
+        when(restaurantService.getRestaurantVersion(restaurantId)).thenReturn(2L);
+    }
+
+    @Test
+    @DisplayName("Should return the restaurant with a strong ETag")
+    void getRestaurantById_ReturnsETag() throws Exception {
+        when(restaurantService.getRestaurantById(restaurantId)).thenReturn(RestaurantResponse.builder()
+                .id(restaurantId)
+                .name("Test Restaurant")
+                .menuItems(List.of())
+                .build());
+
+        mockMvc.perform(get("/api/restaurants/{id}", restaurantId).with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(jsonPath("$.name").value("Test Restaurant"));
+    }
+
+    @Test
+    @DisplayName("Should answer 304 without loading the restaurant when If-None-Match matches")
+    void getRestaurantById_MatchingETag_NotModified() throws Exception {
+        mockMvc.perform(get("/api/restaurants/{id}", restaurantId).with(jwt())
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(restaurantService, never()).getRestaurantById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should write one JSON document per line for the export")
+    void exportRestaurants_WritesNdjson() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<RestaurantResponse> sink = invocation.getArgument(0);
+            sink.accept(RestaurantResponse.builder().id(restaurantId).name("First").menuItems(List.of()).build());
+            sink.accept(RestaurantResponse.builder().id(UUID.randomUUID()).name("Second").menuItems(List.of()).build());
+            return 2L;
+        }).when(restaurantService).exportRestaurants(any());
+
+        String body = mockMvc.perform(get("/api/restaurants/export").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"name\":\"First\""));
+        assertTrue(lines[1].contains("\"name\":\"Second\""));
+    }
+
+    @Test
+    @DisplayName("Should list summaries by default and full restaurants only with view=full")
+    void getAllRestaurants_ViewSelectsProjection() throws Exception {
+        when(restaurantService.getRestaurantSummariesPage(null, null)).thenReturn(RestaurantPageResponse.<RestaurantSummary>builder()
+                .content(List.of(new RestaurantSummary(restaurantId, "Summary Diner", "1 Main St")))
+                .size(1)
+                .build());
+        when(restaurantService.getRestaurantsPage(null, null)).thenReturn(RestaurantPageResponse.<RestaurantResponse>builder()
+                .content(List.of(RestaurantResponse.builder().id(restaurantId).name("Full Diner").menuItems(List.of()).build()))
+                .size(1)
+                .build());
+
+        mockMvc.perform(get("/api/restaurants").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Summary Diner"))
+                .andExpect(jsonPath("$.content[0].menuItems").doesNotExist());
+        mockMvc.perform(get("/api/restaurants").param("view", "full").with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name").value("Full Diner"))
+                .andExpect(jsonPath("$.content[0].menuItems").isArray());
+        mockMvc.perform(get("/api/restaurants").param("view", "everything").with(jwt()))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should serve analytics for a known window and reject an unknown one")
+    void getOrderAnalyticsForWindow_ParsesWindow() throws Exception {
+        UUID ownerId = UUID.randomUUID();
+        when(orderAnalyticsService.getAnalytics(restaurantId, AnalyticsWindow.ONE_HOUR, ownerId))
+                .thenReturn(OrderAnalyticsResponse.builder()
+                        .restaurantId(restaurantId)
+                        .window("1h")
+                        .orderCount(3)
+                        .topItems(List.of())
+                        .build());
+
+        mockMvc.perform(get("/api/restaurants/{id}/analytics/{window}", restaurantId, "1h")
+                        .with(jwt().jwt(token -> token.subject(ownerId.toString()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.window").value("1h"))
+                .andExpect(jsonPath("$.orderCount").value(3));
+        mockMvc.perform(get("/api/restaurants/{id}/analytics/{window}", restaurantId, "2w")
+                        .with(jwt().jwt(token -> token.subject(ownerId.toString()))))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,159 @@
+package com.bytebites.restaurantservice.idempotency;
+
+import com.bytebites.restaurantservice.config.DeduplicationProperties;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.model.ProcessedOrder;
+import com.bytebites.restaurantservice.repository.ProcessedOrderRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderDeduplicatorTest {
+
+    @Mock
+    private ProcessedOrderRepository processedOrderRepository;
+
+    @Captor
+    private ArgumentCaptor<List<ProcessedOrder>> markers;
+
+    private OrderDeduplicator deduplicator;
+    private AtomicInteger sideEffects;
+
+    @BeforeEach
+    void setUp() {
+        deduplicator = new OrderDeduplicator(processedOrderRepository, TransactionOperations.withoutTransaction(),
+                new DeduplicationProperties(), new SimpleMeterRegistry());
+        sideEffects = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should pass new orders without a database lookup and record them with their offsets")
+    void filterNew_NewOrders_NoLookup() {
+        List<ConsumerRecord<String, OrderPlacedEvent>> batch = List.of(record("order-1", 7), record("order-2", 8));
+
+        List<ConsumerRecord<String, OrderPlacedEvent>> fresh = deduplicator.filterNew(batch);
+        deduplicator.processOnce(fresh, applied -> sideEffects.incrementAndGet(), record -> { });
+
+        assertEquals(batch, fresh);
+        assertEquals(1, sideEffects.get());
+        verify(processedOrderRepository, never()).findProcessedOrderIds(anyCollection());
+        verify(processedOrderRepository).saveAll(markers.capture());
+        assertEquals(List.of("order-1", "order-2"), markers.getValue().stream().map(ProcessedOrder::getOrderId).toList());
+        assertEquals(8, markers.getValue().get(1).getOffset());
+    }
+
+    @Test
+    @DisplayName("Should drop a redelivered order and a repeat within the same batch from memory")
+    void filterNew_Redelivery_SkippedInMemory() {
+        deduplicator.processOnce(deduplicator.filterNew(List.of(record("order-1", 1))), applied -> sideEffects.incrementAndGet(), record -> { });
+
+        List<ConsumerRecord<String, OrderPlacedEvent>> fresh = deduplicator.filterNew(
+                List.of(record("order-1", 1), record("order-2", 2), record("order-2", 3)));
+
+        assertEquals(List.of("order-2"), fresh.stream().map(record -> record.value().orderId()).toList());
+        assertEquals(2L, fresh.get(0).offset());
+        verify(processedOrderRepository, never()).findProcessedOrderIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should catch orders processed before a restart from the rebuilt filter and the table")
+    void filterNew_AfterRestart_ChecksTable() {
+        when(processedOrderRepository.streamOrderIds()).thenReturn(Stream.of("order-1"));
+        when(processedOrderRepository.findProcessedOrderIds(anyCollection())).thenReturn(Set.of("order-1"));
+        deduplicator.rebuild();
+
+        List<ConsumerRecord<String, OrderPlacedEvent>> fresh = deduplicator.filterNew(
+                List.of(record("order-1", 1), record("order-2", 2)));
+
+        assertEquals(List.of("order-2"), fresh.stream().map(record -> record.value().orderId()).toList());
+        verify(processedOrderRepository).findProcessedOrderIds(List.of("order-1"));
+    }
+
+    @Test
+    @DisplayName("Should drop an order another consumer committed meanwhile and apply the rest of the batch")
+    void processOnce_MarkerConflict_DuplicateDroppedRestApplied() {
+        when(processedOrderRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        when(processedOrderRepository.findProcessedOrderIds(anyCollection())).thenReturn(Set.of("order-1"));
+        List<ConsumerRecord<String, OrderPlacedEvent>> batch = List.of(record("order-1", 1), record("order-2", 2));
+        List<String> handled = new ArrayList<>();
+        List<List<String>> applied = new ArrayList<>();
+
+        List<FailedOrder> failed = deduplicator.processOnce(batch,
+                records -> applied.add(records.stream().map(record -> record.value().orderId()).toList()),
+                record -> handled.add(record.value().orderId()));
+
+        assertTrue(failed.isEmpty());
+        assertEquals(List.of(List.of("order-2")), applied);
+        assertEquals(List.of("order-2"), handled);
+        verify(processedOrderRepository).findProcessedOrderIds(Set.of("order-1", "order-2"));
+        verify(processedOrderRepository, times(2)).saveAll(markers.capture());
+        assertEquals(List.of("order-2"), markers.getValue().stream().map(ProcessedOrder::getOrderId).toList());
+        assertTrue(deduplicator.filterNew(batch).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should rethrow a marker conflict that no committed order explains")
+    void processOnce_ConflictWithoutCommittedOrder_Rethrown() {
+        when(processedOrderRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("constraint"));
+        when(processedOrderRepository.findProcessedOrderIds(anyCollection())).thenReturn(Set.of());
+        List<ConsumerRecord<String, OrderPlacedEvent>> batch = List.of(record("order-1", 1));
+
+        assertThrows(DataIntegrityViolationException.class,
+                () -> deduplicator.processOnce(batch, applied -> sideEffects.incrementAndGet(), record -> { }));
+
+        assertEquals(0, sideEffects.get());
+    }
+
+    @Test
+    @DisplayName("Should return a failing order without failing the batch and forget its marker")
+    void processOnce_HandlerFails_OrderReturnedAndUnmarked() {
+        List<ConsumerRecord<String, OrderPlacedEvent>> batch = List.of(record("order-1", 1), record("order-2", 2));
+        IllegalStateException failure = new IllegalStateException("poison");
+
+        List<FailedOrder> failed = deduplicator.processOnce(batch, applied -> sideEffects.incrementAndGet(), record -> {
+            if (record.value().orderId().equals("order-1")) {
+                throw failure;
+            }
+            sideEffects.incrementAndGet();
+        });
+
+        assertEquals(1, failed.size());
+        assertSame(batch.get(0), failed.get(0).record());
+        assertSame(failure, failed.get(0).cause());
+        assertEquals(2, sideEffects.get());
+        verify(processedOrderRepository).deleteByOrderIds(Set.of("order-1"));
+        assertEquals(List.of("order-1"), deduplicator.filterNew(batch).stream()
+                .map(record -> record.value().orderId()).toList());
+    }
+
+    private static ConsumerRecord<String, OrderPlacedEvent> record(String orderId, long offset) {
+        OrderPlacedEvent event = new OrderPlacedEvent(orderId, "customer@example.com", "restaurant-1", "Test Restaurant",
+                BigDecimal.TEN, "1 Delivery Rd", LocalDateTime.now(), List.of());
+        return new ConsumerRecord<>("order-events-topic", 0, offset, "restaurant-1", event);
+    }
+}
@@ -0,0 +1,223 @@
+package com.bytebites.restaurantservice.kitchen;
+
+import com.bytebites.restaurantservice.config.KitchenProperties;
+import com.bytebites.restaurantservice.dto.KitchenOrderResponse;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KitchenQueueEngineTest {
+
+    private final KitchenQueueEngine engine = new KitchenQueueEngine(new KitchenProperties());
+
+    @Test
+    @DisplayName("Should queue orders per restaurant in arrival order with every item queued")
+    void enqueue_QueuesPerRestaurantInOrder() {
+        UUID restaurantId = UUID.randomUUID();
+        UUID otherRestaurantId = UUID.randomUUID();
+
+        assertTrue(engine.enqueue(orderPlacedEvent("order-1", restaurantId)));
+        assertTrue(engine.enqueue(orderPlacedEvent("order-2", restaurantId)));
+        assertTrue(engine.enqueue(orderPlacedEvent("order-3", otherRestaurantId)));
+
+        List<KitchenOrderResponse> queue = engine.getQueue(restaurantId);
+        assertEquals(List.of("order-1", "order-2"), queue.stream().map(KitchenOrderResponse::getOrderId).toList());
+        assertEquals(PrepStatus.QUEUED, queue.get(0).getStatus());
+        assertEquals(PrepStatus.QUEUED, queue.get(0).getItems().get(0).getStatus());
+        assertEquals(1, engine.getQueue(otherRestaurantId).size());
+        assertTrue(engine.getQueue(UUID.randomUUID()).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should ignore a redelivered order")
+    void enqueue_DuplicateOrder_IsIgnored() {
+        UUID restaurantId = UUID.randomUUID();
+
+        assertTrue(engine.enqueue(orderPlacedEvent("order-1", restaurantId)));
+        assertFalse(engine.enqueue(orderPlacedEvent("order-1", restaurantId)));
+
+        assertEquals(1, engine.getQueue(restaurantId).size());
+    }
+
+    @Test
+    @DisplayName("Should derive the order status from its item statuses")
+    void updateItemStatus_DerivesOrderStatus() {
+        UUID restaurantId = UUID.randomUUID();
+        engine.enqueue(orderPlacedEvent("order-1", restaurantId));
+
+        assertTrue(engine.updateItemStatus(restaurantId, "order-1", "burger", PrepStatus.READY));
+        assertEquals(PrepStatus.PREPARING, engine.getQueue(restaurantId).get(0).getStatus());
+
+        assertTrue(engine.updateItemStatus(restaurantId, "order-1", "fries", PrepStatus.READY));
+        assertEquals(PrepStatus.READY, engine.getQueue(restaurantId).get(0).getStatus());
+
+        assertFalse(engine.updateItemStatus(restaurantId, "missing", "fries", PrepStatus.READY));
+    }
+
+    @Test
+    @DisplayName("Should not let a later mutation change a view already handed to a reader")
+    void getQueue_ReturnsStableView() {
+        UUID restaurantId = UUID.randomUUID();
+        engine.enqueue(orderPlacedEvent("order-1", restaurantId));
+        List<KitchenOrderResponse> before = engine.getQueue(restaurantId);
+
+        engine.updateItemStatus(restaurantId, "order-1", "burger", PrepStatus.PREPARING);
+        engine.remove(restaurantId, "order-1");
+
+        assertEquals(1, before.size());
+        assertEquals(PrepStatus.QUEUED, before.get(0).getStatus());
+        assertTrue(engine.getQueue(restaurantId).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should hand out only queues changed since the last drain")
+    void drainChanges_ReturnsOnlyDirtyQueues() {
+        UUID restaurantId = UUID.randomUUID();
+        UUID otherRestaurantId = UUID.randomUUID();
+        engine.enqueue(orderPlacedEvent("order-1", restaurantId));
+        engine.enqueue(orderPlacedEvent("order-2", otherRestaurantId));
+
+        Map<UUID, List<KitchenOrderResponse>> first = new HashMap<>();
+        engine.drainChanges(id -> true, first::put);
+        assertEquals(2, first.size());
+
+        engine.remove(restaurantId, "order-1");
+        Map<UUID, List<KitchenOrderResponse>> second = new HashMap<>();
+        engine.drainChanges(id -> true, second::put);
+        assertEquals(Map.of(restaurantId, List.of()), second);
+    }
+
+    @Test
+    @DisplayName("Should hand out and evict only the selected queues")
+    void drainChangesAndEvict_OnlySelectedQueues() {
+        UUID restaurantId = UUID.randomUUID();
+        UUID otherRestaurantId = UUID.randomUUID();
+        engine.enqueue(orderPlacedEvent("order-1", restaurantId));
+        engine.enqueue(orderPlacedEvent("order-2", otherRestaurantId));
+
+        Map<UUID, List<KitchenOrderResponse>> drained = new HashMap<>();
+        engine.drainChanges(restaurantId::equals, drained::put);
+        engine.evict(restaurantId::equals);
+
+        assertEquals(List.of(restaurantId), List.copyOf(drained.keySet()));
+        assertTrue(engine.getQueue(restaurantId).isEmpty());
+        assertEquals(1, engine.getQueue(otherRestaurantId).size());
+    }
+
+    @Test
+    @DisplayName("Should drop the oldest orders once a restaurant's queue is full")
+    void enqueue_FullQueue_DropsOldest() {
+        KitchenProperties properties = new KitchenProperties();
+        properties.setMaxOrdersPerRestaurant(2);
+        KitchenQueueEngine bounded = new KitchenQueueEngine(properties);
+        UUID restaurantId = UUID.randomUUID();
+
+        bounded.enqueue(orderPlacedEvent("order-1", restaurantId));
+        bounded.enqueue(orderPlacedEvent("order-2", restaurantId));
+        bounded.enqueue(orderPlacedEvent("order-3", restaurantId));
+
+        assertEquals(List.of("order-2", "order-3"),
+                bounded.getQueue(restaurantId).stream().map(KitchenOrderResponse::getOrderId).toList());
+    }
+
+    @Test
+    @DisplayName("Should drop orders older than the maximum age when the next order arrives")
+    void enqueue_ExpiredOrders_AreDropped() {
+        LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+        KitchenQueueEngine aging = new KitchenQueueEngine(new KitchenProperties(),
+                Clock.fixed(now.toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+        UUID restaurantId = UUID.randomUUID();
+
+        aging.enqueue(orderPlacedEvent("stuck", restaurantId, now.minusHours(13)));
+        aging.enqueue(orderPlacedEvent("recent", restaurantId, now.minusHours(1)));
+        aging.enqueue(orderPlacedEvent("new", restaurantId, now));
+
+        assertEquals(List.of("recent", "new"),
+                aging.getQueue(restaurantId).stream().map(KitchenOrderResponse::getOrderId).toList());
+    }
+
+    @Test
+    @DisplayName("Should rebuild a queue from a snapshot")
+    void restore_RequeuesSnapshotOrders() {
+        UUID restaurantId = UUID.randomUUID();
+        engine.enqueue(orderPlacedEvent("order-1", restaurantId));
+        engine.updateItemStatus(restaurantId, "order-1", "burger", PrepStatus.READY);
+        List<KitchenOrderResponse> snapshot = engine.getQueue(restaurantId);
+
+        KitchenQueueEngine restored = new KitchenQueueEngine(new KitchenProperties());
+        restored.restore(restaurantId, snapshot);
+
+        assertEquals(snapshot, restored.getQueue(restaurantId));
+    }
+
+    @Test
+    @DisplayName("Should keep every order when many threads feed many restaurants concurrently")
+    void enqueue_Concurrently_LosesNoOrders() throws Exception {
+        int threads = 8;
+        int ordersPerThread = 1_000;
+        KitchenProperties properties = new KitchenProperties();
+        properties.setMaxOrdersPerRestaurant(threads * ordersPerThread);
+        KitchenQueueEngine engine = new KitchenQueueEngine(properties);
+        List<UUID> restaurants = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ordersPerThread; i++) {
+                        UUID restaurantId = restaurants.get(i % restaurants.size());
+                        engine.enqueue(orderPlacedEvent(thread + "-" + i, restaurantId));
+                        engine.getQueue(restaurantId);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int total = restaurants.stream().mapToInt(id -> engine.getQueue(id).size()).sum();
+        assertEquals(threads * ordersPerThread, total);
+    }
+
+    private OrderPlacedEvent orderPlacedEvent(String orderId, UUID restaurantId) {
+        return orderPlacedEvent(orderId, restaurantId, LocalDateTime.now());
+    }
+
+    private OrderPlacedEvent orderPlacedEvent(String orderId, UUID restaurantId, LocalDateTime placedAt) {
+        return new OrderPlacedEvent(
+                orderId,
+                "customer@example.com",
+                restaurantId.toString(),
+                "Test Restaurant",
+                new BigDecimal("15.98"),
+                "1 Delivery Rd",
+                placedAt,
+                List.of(new OrderItemDetails("burger", "Burger", 1, new BigDecimal("12.99")),
+                        new OrderItemDetails("fries", "Fries", 1, new BigDecimal("2.99"))));
+    }
+}
@@ -0,0 +1,137 @@
+package com.bytebites.restaurantservice.kitchen;
+
+import com.bytebites.restaurantservice.config.KitchenProperties;
+import com.bytebites.restaurantservice.config.OrderEventsProperties;
+import com.bytebites.restaurantservice.dto.KitchenOrderResponse;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.model.KitchenQueueSnapshot;
+import com.bytebites.restaurantservice.repository.KitchenQueueSnapshotRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KitchenSnapshotWriterTest {
+
+    private static final String TOPIC = "order-events-topic";
+    private static final TopicPartition OWNED = new TopicPartition(TOPIC, 0);
+
+    @Mock
+    private KitchenQueueSnapshotRepository snapshotRepository;
+
+    @Mock
+    private Consumer<String, OrderPlacedEvent> consumer;
+
+    @Captor
+    private ArgumentCaptor<List<KitchenQueueSnapshot>> written;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private KitchenQueueEngine engine;
+    private KitchenSnapshotWriter writer;
+    private UUID ownedRestaurant;
+    private UUID otherRestaurant;
+
+    @BeforeEach
+    void setUp() {
+        engine = new KitchenQueueEngine(new KitchenProperties());
+        OrderEventsProperties orderEventsProperties = new OrderEventsProperties();
+        orderEventsProperties.setTopic(TOPIC);
+        writer = new KitchenSnapshotWriter(engine, snapshotRepository, objectMapper, orderEventsProperties);
+        when(consumer.partitionsFor(TOPIC)).thenReturn(List.of(
+                new PartitionInfo(TOPIC, 0, null, null, null),
+                new PartitionInfo(TOPIC, 1, null, null, null)));
+        ownedRestaurant = restaurantInPartition(0);
+        otherRestaurant = restaurantInPartition(1);
+    }
+
+    @Test
+    @DisplayName("Should restore only the snapshots of the partitions assigned to this replica")
+    void onPartitionsAssigned_RestoresAssignedPartitionsOnly() throws Exception {
+        when(snapshotRepository.findAll()).thenReturn(List.of(
+                snapshotOf(ownedRestaurant, "order-1"), snapshotOf(otherRestaurant, "order-2")));
+
+        writer.onPartitionsAssigned(consumer, List.of(OWNED));
+
+        assertEquals(1, engine.getQueue(ownedRestaurant).size());
+        assertTrue(engine.getQueue(otherRestaurant).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should write only the kitchens of partitions this replica holds")
+    void snapshot_WritesOwnedKitchensOnly() {
+        writer.onPartitionsAssigned(consumer, List.of(OWNED));
+        engine.enqueue(order("order-1", ownedRestaurant));
+        engine.enqueue(order("order-2", otherRestaurant));
+
+        writer.snapshot();
+
+        verify(snapshotRepository).saveAll(written.capture());
+        assertEquals(List.of(ownedRestaurant),
+                written.getValue().stream().map(KitchenQueueSnapshot::getRestaurantId).toList());
+    }
+
+    @Test
+    @DisplayName("Should write a revoked partition's kitchens once more and then drop them")
+    void onPartitionsRevoked_WritesAndDropsKitchens() {
+        writer.onPartitionsAssigned(consumer, List.of(OWNED));
+        engine.enqueue(order("order-1", ownedRestaurant));
+
+        writer.onPartitionsRevokedBeforeCommit(consumer, List.of(OWNED));
+        engine.enqueue(order("order-2", ownedRestaurant));
+        writer.snapshot();
+
+        verify(snapshotRepository, times(1)).saveAll(written.capture());
+        assertEquals(List.of(ownedRestaurant),
+                written.getValue().stream().map(KitchenQueueSnapshot::getRestaurantId).toList());
+        assertEquals(List.of("order-2"),
+                engine.getQueue(ownedRestaurant).stream().map(KitchenOrderResponse::getOrderId).toList());
+    }
+
+    private KitchenQueueSnapshot snapshotOf(UUID restaurantId, String orderId) throws Exception {
+        KitchenQueueEngine source = new KitchenQueueEngine(new KitchenProperties());
+        source.enqueue(order(orderId, restaurantId));
+        return KitchenQueueSnapshot.builder()
+                .restaurantId(restaurantId)
+                .orders(objectMapper.writeValueAsString(source.getQueue(restaurantId)))
+                .takenAt(Instant.now())
+                .build();
+    }
+
+    /** Mirrors Kafka's default partitioner for a two-partition topic keyed by restaurant ID. */
+    private static UUID restaurantInPartition(int partition) {
+        while (true) {
+            UUID restaurantId = UUID.randomUUID();
+            byte[] key = restaurantId.toString().getBytes(StandardCharsets.UTF_8);
+            if (Utils.toPositive(Utils.murmur2(key)) % 2 == partition) {
+                return restaurantId;
+            }
+        }
+    }
+
+    private static OrderPlacedEvent order(String orderId, UUID restaurantId) {
+        return new OrderPlacedEvent(orderId, "customer@example.com", restaurantId.toString(), "Test Restaurant",
+                new BigDecimal("12.99"), "1 Delivery Rd", LocalDateTime.now(),
+                List.of(new OrderItemDetails("burger", "Burger", 1, new BigDecimal("12.99"))));
+    }
+}
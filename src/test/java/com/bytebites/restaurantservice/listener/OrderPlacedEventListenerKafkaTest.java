@@ -0,0 +1,325 @@
+package com.bytebites.restaurantservice.listener;
+
+import com.bytebites.restaurantservice.analytics.AnalyticsWindow;
+import com.bytebites.restaurantservice.analytics.MenuItemPopularity;
+import com.bytebites.restaurantservice.analytics.MenuItemPopularityPublisher;
+import com.bytebites.restaurantservice.analytics.OrderAnalyticsEngine;
+import com.bytebites.restaurantservice.config.DeduplicationProperties;
+import com.bytebites.restaurantservice.config.KitchenProperties;
+import com.bytebites.restaurantservice.config.OrderEventsKafkaConfig;
+import com.bytebites.restaurantservice.config.OrderEventsProperties;
+import com.bytebites.restaurantservice.config.OrderRetryProperties;
+import com.bytebites.restaurantservice.config.PopularityProperties;
+import com.bytebites.restaurantservice.dto.MenuItemPriceView;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.idempotency.OrderDeduplicator;
+import com.bytebites.restaurantservice.kitchen.KitchenQueueEngine;
+import com.bytebites.restaurantservice.repository.MenuItemRepository;
+import com.bytebites.restaurantservice.repository.ProcessedOrderRepository;
+import com.bytebites.restaurantservice.retry.OrderRetryPublisher;
+import com.bytebites.restaurantservice.serialization.OrderEventAvroCodec;
+import com.bytebites.restaurantservice.serialization.OrderEventSchemaRegistry;
+import com.bytebites.restaurantservice.verification.OrderEventVerifier;
+import com.bytebites.restaurantservice.verification.OrderRejectionPublisher;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(classes = OrderPlacedEventListenerKafkaTest.Config.class,
+        properties = {
+                "spring.kafka.bootstrap-servers=${spring.embedded.kafka.brokers}",
+                "spring.kafka.consumer.group-id=" + OrderPlacedEventListenerKafkaTest.GROUP_ID,
+                "spring.kafka.consumer.auto-offset-reset=earliest",
+                "bytebites.restaurant.order-events.topic=" + OrderPlacedEventListenerKafkaTest.TOPIC,
+                "bytebites.restaurant.order-events.max-batch-size=200",
+                "bytebites.restaurant.order-events.concurrency=3",
+                "bytebites.restaurant.order-events.wire-format=avro",
+                "bytebites.restaurant.order-events.retry.topic=" + OrderPlacedEventListenerKafkaTest.TOPIC + "-retry",
+                "bytebites.restaurant.order-events.retry.attempts=3",
+                "bytebites.restaurant.order-events.retry.initial-delay-ms=100",
+                "bytebites.restaurant.order-events.retry.max-delay-ms=500"
+        })
+@EmbeddedKafka(partitions = 3, topics = OrderPlacedEventListenerKafkaTest.TOPIC)
+class OrderPlacedEventListenerKafkaTest {
+
+    static final String TOPIC = "order-events-test";
+    static final String GROUP_ID = "restaurant-service-test";
+    private static final int EVENTS = 2_000;
+    private static final BigDecimal PRICE = new BigDecimal("12.99");
+    private static final Logger log = LoggerFactory.getLogger(OrderPlacedEventListenerKafkaTest.class);
+
+    @Configuration
+    @ImportAutoConfiguration(KafkaAutoConfiguration.class)
+    @Import({OrderEventsKafkaConfig.class, OrderEventsProperties.class, OrderPlacedEventListener.class,
+            OrderEventVerifier.class, OrderRejectionPublisher.class, KitchenQueueEngine.class, KitchenProperties.class,
+            OrderAnalyticsEngine.class, MenuItemPopularity.class, PopularityProperties.class,
+            OrderDeduplicator.class, DeduplicationProperties.class, OrderRetryPublisher.class,
+            OrderRetryProperties.class, OrderEventSchemaRegistry.class, OrderEventAvroCodec.class})
+    static class Config {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        TransactionOperations transactionOperations() {
+            return TransactionOperations.withoutTransaction();
+        }
+    }
+
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafka;
+
+    @Autowired
+    private KitchenQueueEngine kitchenQueueEngine;
+
+    @Autowired
+    private OrderAnalyticsEngine orderAnalyticsEngine;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoBean
+    private MenuItemRepository menuItemRepository;
+
+    @MockitoBean
+    private ProcessedOrderRepository processedOrderRepository;
+
+    @MockitoBean
+    private MenuItemPopularityPublisher menuItemPopularityPublisher;
+
+    private final Map<UUID, MenuItemPriceView> menu = new ConcurrentHashMap<>();
+
+    @Test
+    @DisplayName("Should drain a burst of order events in batches and commit the consumer group to zero lag")
+    void orderEventBurst_IsConsumedAndCommitted() throws Exception {
+        when(menuItemRepository.findPriceViewsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(menu::get).filter(Objects::nonNull).toList();
+        });
+        Map<String, Object> producerProps = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        KafkaTemplate<String, OrderPlacedEvent> template = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+
+        long start = System.nanoTime();
+        UUID restaurantId = UUID.randomUUID();
+        for (int i = 0; i < EVENTS; i++) {
+            // Every tenth order on the tracked restaurant quotes a stale price and must be rejected.
+            BigDecimal menuPrice = i % 20 == 0 ? new BigDecimal("13.49") : PRICE;
+            OrderPlacedEvent event = orderPlacedEvent(i % 2 == 0 ? restaurantId : UUID.randomUUID(), menuPrice);
+            template.send(TOPIC, event.restaurantId(), event);
+        }
+        template.flush();
+
+        try (AdminClient admin = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString()))) {
+            await().atMost(Duration.ofSeconds(60)).pollInterval(Duration.ofMillis(100))
+                    .untilAsserted(() -> assertEquals(0L, consumerLag(admin)));
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+        log.info("Consumed and committed {} order events in {} s ({} events/s)",
+                EVENTS, String.format("%.2f", seconds), String.format("%.0f", EVENTS / seconds));
+        assertEquals(EVENTS / 2 - EVENTS / 20, kitchenQueueEngine.getQueue(restaurantId).size());
+        assertEquals(EVENTS / 2 - EVENTS / 20,
+                orderAnalyticsEngine.getAnalytics(restaurantId, AnalyticsWindow.ONE_HOUR, 1).getOrderCount());
+
+        long timedBatches = meterRegistry.find("spring.kafka.listener").timers().stream()
+                .filter(timer -> timer.getId().getTag("name").startsWith("orderPlacedEvents"))
+                .mapToLong(Timer::count)
+                .sum();
+        assertTrue(timedBatches > 0);
+        assertFalse(meterRegistry.find("kafka.consumer.fetch.manager.records.lag.max").gauges().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should skip redelivered orders without handling them again")
+    void redeliveredOrders_AreSkipped() throws Exception {
+        when(menuItemRepository.findPriceViewsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(menu::get).filter(Objects::nonNull).toList();
+        });
+        Map<String, Object> producerProps = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        KafkaTemplate<String, OrderPlacedEvent> template = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+        UUID restaurantId = UUID.randomUUID();
+        List<OrderPlacedEvent> orders = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            orders.add(orderPlacedEvent(restaurantId, PRICE));
+        }
+        double duplicatesBefore = meterRegistry.counter("bytebites.orders.dedup.checks", "result", "duplicate").count();
+
+        try (AdminClient admin = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString()))) {
+            // The second round stands in for a redelivery after a rebalance.
+            for (int round = 0; round < 2; round++) {
+                orders.forEach(event -> template.send(TOPIC, event.restaurantId(), event));
+                template.flush();
+                await().atMost(Duration.ofSeconds(60)).pollInterval(Duration.ofMillis(100))
+                        .untilAsserted(() -> assertEquals(0L, consumerLag(admin)));
+            }
+        }
+
+        assertEquals(50, orderAnalyticsEngine.getAnalytics(restaurantId, AnalyticsWindow.ONE_HOUR, 1).getOrderCount());
+        assertEquals(50, meterRegistry.counter("bytebites.orders.dedup.checks", "result", "duplicate").count()
+                - duplicatesBefore);
+    }
+
+    @Test
+    @DisplayName("Should park poison orders on the dead-letter topic while healthy orders keep flowing")
+    void poisonOrders_AreDeadLettered() throws Exception {
+        when(menuItemRepository.findPriceViewsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(menu::get).filter(Objects::nonNull).toList();
+        });
+        Map<String, Object> producerProps = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        KafkaTemplate<String, Object> template = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+        UUID restaurantId = UUID.randomUUID();
+        double deadLetteredBefore = meterRegistry.counter("bytebites.orders.parked", "destination", "dead-letter").count();
+
+        // One order names a restaurant that is not a UUID; one record is not an order at all.
+        OrderPlacedEvent poison = new OrderPlacedEvent(UUID.randomUUID().toString(), "customer@example.com",
+                "not-a-uuid", "Test Restaurant", BigDecimal.TEN, "1 Delivery Rd", LocalDateTime.now(), null);
+        template.send(TOPIC, poison.restaurantId(), poison);
+        template.send(TOPIC, "garbage", List.of("not", "an", "order"));
+        for (int i = 0; i < 20; i++) {
+            OrderPlacedEvent event = orderPlacedEvent(restaurantId, PRICE);
+            template.send(TOPIC, event.restaurantId(), event);
+        }
+        template.flush();
+
+        try (AdminClient admin = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString()))) {
+            await().atMost(Duration.ofSeconds(60)).pollInterval(Duration.ofMillis(100))
+                    .untilAsserted(() -> assertEquals(0L, consumerLag(admin)));
+        }
+        assertEquals(20, kitchenQueueEngine.getQueue(restaurantId).size());
+        await().atMost(Duration.ofSeconds(60)).pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> assertEquals(2, meterRegistry.counter(
+                        "bytebites.orders.parked", "destination", "dead-letter").count() - deadLetteredBefore));
+    }
+
+    @Test
+    @DisplayName("Should dead-letter malformed orders without failing the healthy orders polled with them")
+    void malformedOrders_AreDeadLetteredAmongHealthyOrders() throws Exception {
+        when(menuItemRepository.findPriceViewsByIdIn(anyCollection())).thenAnswer(invocation -> {
+            Collection<UUID> ids = invocation.getArgument(0);
+            return ids.stream().map(menu::get).filter(Objects::nonNull).toList();
+        });
+        Map<String, Object> producerProps = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        KafkaTemplate<String, OrderPlacedEvent> template = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(producerProps));
+        UUID restaurantId = UUID.randomUUID();
+        double deadLetteredBefore = meterRegistry.counter("bytebites.orders.parked", "destination", "dead-letter").count();
+
+        // Same key as the healthy orders, so the malformed ones land in the same partition and polls.
+        OrderPlacedEvent nullItem = new OrderPlacedEvent(UUID.randomUUID().toString(), "customer@example.com",
+                restaurantId.toString(), "Test Restaurant", BigDecimal.TEN, "1 Delivery Rd", LocalDateTime.now(),
+                Arrays.asList((OrderItemDetails) null));
+        OrderPlacedEvent noItems = new OrderPlacedEvent(UUID.randomUUID().toString(), "customer@example.com",
+                restaurantId.toString(), "Test Restaurant", BigDecimal.TEN, "1 Delivery Rd", LocalDateTime.now(), List.of());
+        for (int i = 0; i < 20; i++) {
+            if (i == 5) {
+                template.send(TOPIC, nullItem.restaurantId(), nullItem);
+            } else if (i == 10) {
+                template.send(TOPIC, noItems.restaurantId(), noItems);
+            }
+            OrderPlacedEvent event = orderPlacedEvent(restaurantId, PRICE);
+            template.send(TOPIC, event.restaurantId(), event);
+        }
+        template.flush();
+
+        try (AdminClient admin = AdminClient.create(Map.of(
+                AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, embeddedKafka.getBrokersAsString()))) {
+            await().atMost(Duration.ofSeconds(60)).pollInterval(Duration.ofMillis(100))
+                    .untilAsserted(() -> assertEquals(0L, consumerLag(admin)));
+        }
+        assertEquals(20, kitchenQueueEngine.getQueue(restaurantId).size());
+        await().atMost(Duration.ofSeconds(60)).pollInterval(Duration.ofMillis(100))
+                .untilAsserted(() -> assertEquals(2, meterRegistry.counter(
+                        "bytebites.orders.parked", "destination", "dead-letter").count() - deadLetteredBefore));
+    }
+
+    private long consumerLag(AdminClient admin) throws Exception {
+        Map<TopicPartition, OffsetAndMetadata> committed = admin.listConsumerGroupOffsets(GROUP_ID)
+                .partitionsToOffsetAndMetadata().get();
+        List<TopicPartition> partitions = List.of(
+                new TopicPartition(TOPIC, 0), new TopicPartition(TOPIC, 1), new TopicPartition(TOPIC, 2));
+        Map<TopicPartition, OffsetSpec> latest = partitions.stream()
+                .collect(Collectors.toMap(partition -> partition, partition -> OffsetSpec.latest()));
+        long lag = 0;
+        for (var entry : admin.listOffsets(latest).all().get().entrySet()) {
+            OffsetAndMetadata offset = committed.get(entry.getKey());
+            lag += entry.getValue().offset() - (offset == null ? 0 : offset.offset());
+        }
+        return lag;
+    }
+
+    private OrderPlacedEvent orderPlacedEvent(UUID restaurantId, BigDecimal menuPrice) {
+        UUID menuItemId = UUID.randomUUID();
+        menu.put(menuItemId, new MenuItemPriceView(menuItemId, restaurantId, menuPrice, true));
+        return new OrderPlacedEvent(
+                UUID.randomUUID().toString(),
+                "customer@example.com",
+                restaurantId.toString(),
+                "Test Restaurant",
+                new BigDecimal("25.98"),
+                "1 Delivery Rd",
+                LocalDateTime.now(),
+                List.of(new OrderItemDetails(menuItemId.toString(), "Burger", 2, PRICE)));
+    }
+}
@@ -0,0 +1,121 @@
+package com.bytebites.restaurantservice.menuimport;
+
+import com.bytebites.restaurantservice.config.MenuImportProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MenuImportParserTest {
+
+    private ValidatorFactory validatorFactory;
+    private MenuImportProperties properties;
+    private MenuImportParser parser;
+
+    @BeforeEach
+    void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        properties = new MenuImportProperties();
+        parser = new MenuImportParser(new ObjectMapper(), validatorFactory.getValidator(), properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    @DisplayName("Should parse a JSON array and report invalid rows without failing the import")
+    void parseJson_MixedRows() {
+        List<MenuImportRow> rows = parser.parseJson(stream("""
+                [
+                  {"name": "Burger", "description": "Beef", "price": 12.99, "available": true},
+                  {"name": "X", "price": 0},
+                  {"name": "Fries", "price": "cheap", "available": true},
+                  "not an object"
+                ]
+                """));
+
+        assertEquals(4, rows.size());
+        assertTrue(rows.get(0).isValid());
+        assertEquals(new BigDecimal("12.99"), rows.get(0).request().getPrice());
+        assertEquals(List.of("name: Menu item name must be between 2 and 100 characters",
+                "price: Price must be greater than 0.0"), rows.get(1).errors());
+        assertFalse(rows.get(2).isValid());
+        assertNull(rows.get(2).request());
+        assertFalse(rows.get(3).isValid());
+        assertEquals(4, rows.get(3).rowNumber());
+    }
+
+    @Test
+    @DisplayName("Should report a null array element as an invalid row")
+    void parseJson_NullElement_InvalidRow() {
+        List<MenuImportRow> rows = parser.parseJson(stream("""
+                [null, {"name": "Burger", "price": 12.99, "available": true}]
+                """));
+
+        assertEquals(2, rows.size());
+        assertFalse(rows.get(0).isValid());
+        assertNull(rows.get(0).request());
+        assertEquals(List.of("row must be a menu item object, not null"), rows.get(0).errors());
+        assertTrue(rows.get(1).isValid());
+        assertEquals(2, rows.get(1).rowNumber());
+    }
+
+    @Test
+    @DisplayName("Should reject a document that is not a JSON array")
+    void parseJson_NotAnArray_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parseJson(stream("{\"name\": \"Burger\"}")));
+        assertThrows(IllegalArgumentException.class, () -> parser.parseJson(stream("[{\"name\": \"Burger\"}")));
+    }
+
+    @Test
+    @DisplayName("Should parse CSV with quoted fields and columns in any order")
+    void parseCsv_QuotedFields() {
+        List<MenuImportRow> rows = parser.parseCsv(stream("""
+                price,name,available,description\r
+                12.99,Burger,true,"Beef, cheese and ""secret"" sauce"\r
+                2.99,Fries,false,\r
+                \r
+                abc,Salad,maybe,Green\r
+                """));
+
+        assertEquals(3, rows.size());
+        assertTrue(rows.get(0).isValid());
+        assertEquals("Beef, cheese and \"secret\" sauce", rows.get(0).request().getDescription());
+        assertFalse(rows.get(1).request().isAvailable());
+        assertNull(rows.get(1).request().getDescription());
+        assertEquals(List.of("price: 'abc' is not a number", "available: must be true or false"), rows.get(2).errors());
+    }
+
+    @Test
+    @DisplayName("Should reject CSV whose header lacks a required column")
+    void parseCsv_MissingColumn_ThrowsException() {
+        assertThrows(IllegalArgumentException.class, () -> parser.parseCsv(stream("name,price\nBurger,12.99\n")));
+    }
+
+    @Test
+    @DisplayName("Should stop reading once the row limit is exceeded")
+    void parseJson_TooManyRows_ThrowsException() {
+        properties.setMaxRows(1);
+
+        assertThrows(IllegalArgumentException.class, () -> parser.parseJson(stream("""
+                [{"name": "Burger", "price": 1, "available": true}, {"name": "Fries", "price": 1, "available": true}]
+                """)));
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,52 @@
+package com.bytebites.restaurantservice.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QueryCountFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountInspector inspector;
+    private QueryCountFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        inspector = new QueryCountInspector();
+        filter = new QueryCountFilter(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should record the statements of each request under its URI pattern")
+    void doFilter_RecordsStatementsPerRequest() throws Exception {
+        // Statements left over from outside a request must not leak into the next one.
+        inspector.inspect("select 1");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/restaurants/42");
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/restaurants/{id}");
+            inspector.inspect("select r from restaurants");
+            inspector.inspect("select m from menu_items");
+        });
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/restaurants/43"), new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/restaurants/{id}");
+            inspector.inspect("select r from restaurants");
+        });
+
+        DistributionSummary summary = meterRegistry.get(QueryCountFilter.METRIC_NAME)
+                .tag("method", "GET")
+                .tag("uri", "/api/restaurants/{id}")
+                .summary();
+        assertEquals(2, summary.count());
+        assertEquals(3, summary.totalAmount());
+        assertEquals(0, QueryCountInspector.count());
+    }
+}
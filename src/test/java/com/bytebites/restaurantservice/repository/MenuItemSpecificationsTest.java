@@ -0,0 +1,88 @@
+package com.bytebites.restaurantservice.repository;
+
+import com.bytebites.restaurantservice.dto.MenuItemFilter;
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest
+class MenuItemSpecificationsTest {
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        Restaurant restaurant = Restaurant.builder().name("Filter Bistro").ownerId(UUID.randomUUID()).build();
+        Restaurant other = Restaurant.builder().name("Other Bistro").ownerId(UUID.randomUUID()).build();
+        restaurant.setMenuItems(List.of(
+                menuItem(restaurant, "Soup", "4.50", true),
+                menuItem(restaurant, "Salad", "7.00", true),
+                menuItem(restaurant, "Burger", "11.00", true),
+                menuItem(restaurant, "Steak", "24.00", false)));
+        other.setMenuItems(List.of(menuItem(other, "Cheap Soup", "3.00", true)));
+        entityManager.persist(restaurant);
+        entityManager.persist(other);
+        entityManager.flush();
+        entityManager.clear();
+        restaurantId = restaurant.getId();
+    }
+
+    @Test
+    @DisplayName("Should apply availability and an inclusive price range within the restaurant")
+    void matching_AvailabilityAndPriceRange() {
+        MenuItemFilter filter = MenuItemFilter.of(true, new BigDecimal("4.50"), new BigDecimal("11.00"), null);
+
+        List<MenuItem> items = menuItemRepository.findAll(
+                MenuItemSpecifications.matching(restaurantId, filter), filter.sortOrDefault());
+
+        assertEquals(List.of("Burger", "Salad", "Soup"), items.stream().map(MenuItem::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Should sort by price descending and include unavailable items when availability is not given")
+    void matching_SortByPriceDescending() {
+        MenuItemFilter filter = MenuItemFilter.of(null, null, new BigDecimal("30"), "price,desc");
+
+        List<MenuItem> items = menuItemRepository.findAll(
+                MenuItemSpecifications.matching(restaurantId, filter), filter.sortOrDefault());
+
+        assertEquals(List.of("Steak", "Burger", "Salad", "Soup"), items.stream().map(MenuItem::getName).toList());
+    }
+
+    @Test
+    @DisplayName("Should answer the available-in-price-range query from the composite index")
+    void availablePriceRangeQuery_UsesCompositeIndex() {
+        String plan = String.valueOf(entityManager.createNativeQuery(
+                        "EXPLAIN SELECT * FROM menu_items WHERE restaurant_id = ?1 AND available = TRUE AND price <= 10")
+                .setParameter(1, restaurantId)
+                .getSingleResult());
+
+        assertTrue(plan.toUpperCase().contains("IDX_MENU_ITEMS_RESTAURANT_AVAILABLE_PRICE"), plan);
+    }
+
+    private static MenuItem menuItem(Restaurant restaurant, String name, String price, boolean available) {
+        return MenuItem.builder()
+                .name(name)
+                .price(new BigDecimal(price))
+                .available(available)
+                .restaurant(restaurant)
+                .build();
+    }
+}
@@ -0,0 +1,179 @@
+package com.bytebites.restaurantservice.repository;
+
+import com.bytebites.restaurantservice.cache.SecondLevelCacheEvictor;
+import com.bytebites.restaurantservice.config.SecondLevelCacheConfig;
+import com.bytebites.restaurantservice.config.SecondLevelCacheProperties;
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every step in its own committed transaction: the second-level cache is only written
+ * once a transaction completes.
+ */
+@DataJpaTest
+@Import({SecondLevelCacheConfig.class, SecondLevelCacheProperties.class, SecondLevelCacheEvictor.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheTest {
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+    private UUID restaurantId;
+    private UUID ownerId;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        ownerId = UUID.randomUUID();
+        restaurantId = transaction.execute(status -> {
+            Restaurant restaurant = restaurantRepository.save(Restaurant.builder()
+                    .name("Cached Diner")
+                    .address("1 Cache St")
+                    .ownerId(ownerId)
+                    .build());
+            menuItemRepository.save(MenuItem.builder()
+                    .name("Soup")
+                    .price(new BigDecimal("4.50"))
+                    .available(true)
+                    .restaurant(restaurant)
+                    .build());
+            return restaurant.getId();
+        });
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        transaction.executeWithoutResult(status -> {
+            menuItemRepository.deleteAll();
+            restaurantRepository.deleteAll();
+        });
+    }
+
+    @Test
+    @DisplayName("Ownership checks on a cached restaurant are answered without SQL")
+    void ownershipChecks_ServedFromCache() {
+        transaction.executeWithoutResult(status -> restaurantRepository.findById(restaurantId));
+        statistics.clear();
+
+        transaction.executeWithoutResult(status -> {
+            assertTrue(restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId));
+            assertTrue(restaurantRepository.findByIdAndOwnerId(restaurantId, ownerId).isPresent());
+        });
+        transaction.executeWithoutResult(status ->
+                assertFalse(restaurantRepository.existsByIdAndOwnerId(restaurantId, UUID.randomUUID())));
+
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+    }
+
+    @Test
+    @DisplayName("Updates made through Hibernate replace the cached restaurant")
+    void updateRestaurant_RefreshesCachedEntity() {
+        transaction.executeWithoutResult(status -> restaurantRepository.findById(restaurantId));
+
+        transaction.executeWithoutResult(status -> restaurantRepository.findByIdAndOwnerId(restaurantId, ownerId)
+                .orElseThrow()
+                .setName("Renamed Diner"));
+        statistics.clear();
+
+        Restaurant reloaded = transaction.execute(status -> restaurantRepository.findById(restaurantId).orElseThrow());
+        assertEquals("Renamed Diner", reloaded.getName());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Saving a menu item evicts the cached menu collection of its restaurant")
+    void saveMenuItem_EvictsCachedCollection() {
+        assertEquals(1, menuItemNames().size());
+
+        transaction.executeWithoutResult(status -> menuItemRepository.save(MenuItem.builder()
+                .name("Bread")
+                .price(new BigDecimal("2.00"))
+                .available(true)
+                .restaurant(restaurantRepository.getReferenceById(restaurantId))
+                .build()));
+
+        assertEquals(List.of("Bread", "Soup"), menuItemNames());
+    }
+
+    @Test
+    @DisplayName("After a menu change and eviction the cached restaurant carries the forced version")
+    void menuChange_EvictionKeepsVersionCurrent() {
+        long before = transaction.execute(status -> restaurantRepository.findById(restaurantId).orElseThrow().getVersion());
+
+        transaction.executeWithoutResult(status -> restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId).orElseThrow());
+        secondLevelCacheEvictor.evictRestaurant(restaurantId, List.of());
+
+        long after = transaction.execute(status -> restaurantRepository.findById(restaurantId).orElseThrow().getVersion());
+        assertEquals(before + 1, after);
+        transaction.executeWithoutResult(status -> restaurantRepository.findById(restaurantId).orElseThrow().setName("Still Writable"));
+    }
+
+    @Test
+    @DisplayName("Evicting a restaurant drops only the named menu items from the cache")
+    void evictRestaurant_EvictsOnlyNamedMenuItems() {
+        UUID breadId = transaction.execute(status -> menuItemRepository.save(MenuItem.builder()
+                .name("Bread")
+                .price(new BigDecimal("2.00"))
+                .available(true)
+                .restaurant(restaurantRepository.getReferenceById(restaurantId))
+                .build()).getId());
+        UUID soupId = transaction.execute(status -> menuItemRepository.findByRestaurantId(restaurantId).stream()
+                .filter(menuItem -> menuItem.getName().equals("Soup"))
+                .findFirst().orElseThrow().getId());
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertTrue(cache.containsEntity(MenuItem.class, soupId));
+        assertTrue(cache.containsEntity(MenuItem.class, breadId));
+
+        secondLevelCacheEvictor.evictRestaurant(restaurantId, List.of(soupId));
+
+        assertFalse(cache.containsEntity(MenuItem.class, soupId));
+        assertTrue(cache.containsEntity(MenuItem.class, breadId));
+        assertFalse(cache.containsEntity(Restaurant.class, restaurantId));
+    }
+
+    private List<String> menuItemNames() {
+        return transaction.execute(status -> restaurantRepository.findById(restaurantId).orElseThrow()
+                .getMenuItems().stream()
+                .map(MenuItem::getName)
+                .sorted()
+                .toList());
+    }
+}
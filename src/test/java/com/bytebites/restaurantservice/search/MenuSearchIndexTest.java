@@ -0,0 +1,173 @@
+package com.bytebites.restaurantservice.search;
+
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.MenuItemSearchHit;
+import com.bytebites.restaurantservice.dto.RestaurantSearchHit;
+import com.bytebites.restaurantservice.dto.SearchResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MenuSearchIndexTest {
+
+    private final MenuSearchIndex index = new MenuSearchIndex();
+
+    private UUID pizzeriaId;
+    private UUID bistroId;
+    private MenuItemResponse margherita;
+    private MenuItemResponse pepperoni;
+    private MenuItemResponse cremeBrulee;
+
+    @BeforeEach
+    void setUp() {
+        pizzeriaId = UUID.randomUUID();
+        bistroId = UUID.randomUUID();
+        index.upsertRestaurant(pizzeriaId, "Napoli Pizzeria");
+        index.upsertRestaurant(bistroId, "Le Petit Bistro");
+        margherita = menuItem(pizzeriaId, "Margherita Pizza", "Tomato, mozzarella and basil");
+        pepperoni = menuItem(pizzeriaId, "Pepperoni", "Spicy salami on a tomato base");
+        cremeBrulee = menuItem(bistroId, "Crème Brûlée", "Vanilla custard with caramelised sugar");
+        index.upsertMenuItem(margherita);
+        index.upsertMenuItem(pepperoni);
+        index.upsertMenuItem(cremeBrulee);
+    }
+
+    @Test
+    @DisplayName("Should rank a name match above a description or restaurant name match")
+    void search_ExactTerm_RanksNameMatchesFirst() {
+        SearchResponse response = index.search("pizz", 10);
+
+        // A prefix of the margherita's name, but only of the pepperoni's restaurant name.
+        assertEquals(List.of(margherita.getId(), pepperoni.getId()), itemIds(response));
+        assertEquals("Napoli Pizzeria", response.getMenuItems().get(0).getRestaurantName());
+        assertEquals(List.of(pizzeriaId), restaurantIds(response));
+    }
+
+    @Test
+    @DisplayName("Should match a term by prefix")
+    void search_Prefix_Matches() {
+        assertEquals(List.of(pepperoni.getId()), itemIds(index.search("pepp", 10)));
+    }
+
+    @Test
+    @DisplayName("Should tolerate a single typo in terms of four or more characters")
+    void search_SingleTypo_Matches() {
+        assertEquals(List.of(pepperoni.getId()), itemIds(index.search("peperoni", 10)));
+        assertEquals(List.of(margherita.getId()), itemIds(index.search("margehrita", 10)));
+        assertEquals(List.of(pepperoni.getId()), itemIds(index.search("salaami", 10)));
+        assertTrue(index.search("pepperonni napoly", 10).getMenuItems().stream()
+                .anyMatch(hit -> hit.getId().equals(pepperoni.getId())));
+        assertTrue(index.search("pxpxeroni", 10).getMenuItems().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should ignore case and accents")
+    void search_AccentsAndCase_AreNormalised() {
+        assertEquals(List.of(cremeBrulee.getId()), itemIds(index.search("CREME brulee", 10)));
+    }
+
+    @Test
+    @DisplayName("Should require every query term to match")
+    void search_MultipleTerms_AreConjunctive() {
+        assertEquals(List.of(margherita.getId()), itemIds(index.search("tomato basil", 10)));
+        assertTrue(index.search("tomato caramel", 10).getMenuItems().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reflect updates and deletes of menu items")
+    void upsertAndRemove_UpdateIndexIncrementally() {
+        margherita.setName("Marinara");
+        margherita.setDescription("Tomato and garlic");
+        index.upsertMenuItem(margherita);
+
+        assertTrue(itemIds(index.search("margherita", 10)).isEmpty());
+        assertEquals(List.of(margherita.getId()), itemIds(index.search("marinara", 10)));
+        assertEquals(List.of(margherita.getId()), itemIds(index.search("garlic", 10)));
+
+        index.removeMenuItem(pepperoni.getId());
+        assertTrue(itemIds(index.search("pepperoni", 10)).isEmpty());
+        assertTrue(itemIds(index.search("peperoni", 10)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should re-index items when their restaurant is renamed and drop them with the restaurant")
+    void restaurantChanges_PropagateToItems() {
+        index.upsertRestaurant(pizzeriaId, "Roma Trattoria");
+
+        assertTrue(restaurantIds(index.search("napoli", 10)).isEmpty());
+        assertEquals(2, index.search("trattoria", 10).getMenuItems().size());
+        assertEquals("Roma Trattoria", index.search("pepperoni", 10).getMenuItems().get(0).getRestaurantName());
+
+        index.removeRestaurant(pizzeriaId);
+        assertTrue(index.search("trattoria", 10).getMenuItems().isEmpty());
+        assertTrue(index.search("pepperoni", 10).getMenuItems().isEmpty());
+        assertEquals(2, index.size());
+    }
+
+    @Test
+    @DisplayName("Should replace a restaurant's name and menu, dropping items no longer on it")
+    void replaceRestaurant_DropsItemsNoLongerOnMenu() {
+        MenuItemResponse calzone = menuItem(pizzeriaId, "Calzone", "Folded pizza");
+
+        index.replaceRestaurant(pizzeriaId, "Roma Trattoria", List.of(margherita, calzone));
+
+        assertEquals(List.of(margherita.getId()), itemIds(index.search("margherita", 10)));
+        assertEquals(List.of(calzone.getId()), itemIds(index.search("calzone", 10)));
+        assertTrue(itemIds(index.search("pepperoni", 10)).isEmpty());
+        assertEquals("Roma Trattoria", index.search("calzone", 10).getMenuItems().get(0).getRestaurantName());
+        assertEquals(List.of(cremeBrulee.getId()), itemIds(index.search("brulee", 10)));
+    }
+
+    @Test
+    @DisplayName("Should return at most the limit per result type, best first")
+    void search_Limit_KeepsBestHits() {
+        for (int i = 0; i < 30; i++) {
+            index.upsertMenuItem(menuItem(bistroId, "Tomato Soup " + i, "Soup of the day"));
+        }
+
+        List<MenuItemSearchHit> hits = index.search("tomato", 5).getMenuItems();
+
+        assertEquals(5, hits.size());
+        assertTrue(hits.stream().allMatch(hit -> hit.getName().startsWith("Tomato Soup")));
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue(hits.get(i - 1).getScore() >= hits.get(i).getScore());
+        }
+    }
+
+    @Test
+    @DisplayName("Should accept single-edit distances only")
+    void withinOneEdit_ClassifiesEdits() {
+        assertTrue(MenuSearchIndex.withinOneEdit("pizza", "pizza"));
+        assertTrue(MenuSearchIndex.withinOneEdit("pizza", "piza"));
+        assertTrue(MenuSearchIndex.withinOneEdit("piza", "pizza"));
+        assertTrue(MenuSearchIndex.withinOneEdit("pizza", "pizze"));
+        assertTrue(MenuSearchIndex.withinOneEdit("pizza", "ipzza"));
+        assertFalse(MenuSearchIndex.withinOneEdit("pizza", "pzzia"));
+        assertFalse(MenuSearchIndex.withinOneEdit("pizza", "pi"));
+    }
+
+    private static MenuItemResponse menuItem(UUID restaurantId, String name, String description) {
+        return MenuItemResponse.builder()
+                .id(UUID.randomUUID())
+                .restaurantId(restaurantId)
+                .name(name)
+                .description(description)
+                .price(new BigDecimal("9.50"))
+                .available(true)
+                .build();
+    }
+
+    private static List<UUID> itemIds(SearchResponse response) {
+        return response.getMenuItems().stream().map(MenuItemSearchHit::getId).toList();
+    }
+
+    private static List<UUID> restaurantIds(SearchResponse response) {
+        return response.getRestaurants().stream().map(RestaurantSearchHit::getId).toList();
+    }
+}
@@ -0,0 +1,125 @@
+package com.bytebites.restaurantservice.search;
+
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.MenuItemSearchHit;
+import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.event.MenuItemsChangedEvent;
+import com.bytebites.restaurantservice.service.RestaurantService;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MenuSearchIndexUpdaterTest {
+
+    @Mock
+    private RestaurantService restaurantService;
+
+    private MenuSearchIndex searchIndex;
+    private MenuSearchIndexUpdater updater;
+    private UUID restaurantId;
+    private MenuItemResponse soup;
+
+    @BeforeEach
+    void setUp() {
+        searchIndex = new MenuSearchIndex();
+        updater = new MenuSearchIndexUpdater(searchIndex, restaurantService);
+        restaurantId = UUID.randomUUID();
+        soup = menuItem("Tomato Soup");
+    }
+
+    @Test
+    @DisplayName("Should keep a menu change committed while the rebuild was exporting older rows")
+    void rebuild_ChangeDuringExport_IsNotOverwritten() {
+        MenuItemResponse bread = menuItem("Garlic Bread");
+        when(restaurantService.exportRestaurants(any())).thenAnswer(invocation -> {
+            Consumer<RestaurantResponse> sink = invocation.getArgument(0);
+            // The item is added after the export read the restaurant but before its row is indexed.
+            updater.onMenuItemsChanged(MenuItemsChangedEvent.saved(restaurantId, List.of(bread)));
+            sink.accept(restaurant(List.of(soup)));
+            return 1L;
+        });
+        when(restaurantService.getRestaurantById(restaurantId)).thenReturn(restaurant(List.of(soup, bread)));
+
+        updater.rebuild();
+
+        assertEquals(List.of(bread.getId()), itemIds("bread"));
+        assertEquals(List.of(soup.getId()), itemIds("soup"));
+    }
+
+    @Test
+    @DisplayName("Should keep serving the previous index until the rebuilt one is complete")
+    void rebuild_SearchDuringExport_SeesPreviousIndex() {
+        searchIndex.replaceRestaurant(restaurantId, "Corner Kitchen", List.of(soup));
+        UUID otherRestaurantId = UUID.randomUUID();
+        MenuItemResponse stew = menuItem("Beef Stew");
+        when(restaurantService.exportRestaurants(any())).thenAnswer(invocation -> {
+            Consumer<RestaurantResponse> sink = invocation.getArgument(0);
+            sink.accept(restaurant(List.of(stew)));
+            assertEquals(List.of(soup.getId()), itemIds("soup"));
+            assertTrue(itemIds("stew").isEmpty());
+            sink.accept(RestaurantResponse.builder().id(otherRestaurantId).name("Noodle Bar").menuItems(List.of()).build());
+            return 2L;
+        });
+
+        updater.rebuild();
+
+        assertTrue(itemIds("soup").isEmpty());
+        assertEquals(List.of(stew.getId()), itemIds("stew"));
+        assertEquals(3, searchIndex.size());
+    }
+
+    @Test
+    @DisplayName("Should apply a peer's changes on reload and drop a restaurant that no longer exists")
+    void reload_AppliesCurrentStateOrRemoves() {
+        searchIndex.replaceRestaurant(restaurantId, "Corner Kitchen", List.of(soup));
+        MenuItemResponse stew = menuItem("Beef Stew");
+        when(restaurantService.getRestaurantById(restaurantId))
+                .thenReturn(restaurant(List.of(stew)))
+                .thenThrow(new EntityNotFoundException("gone"));
+
+        updater.reload(restaurantId);
+
+        assertEquals(List.of(stew.getId()), itemIds("stew"));
+        assertTrue(itemIds("soup").isEmpty());
+
+        updater.reload(restaurantId);
+
+        assertEquals(0, searchIndex.size());
+    }
+
+    private RestaurantResponse restaurant(List<MenuItemResponse> menuItems) {
+        return RestaurantResponse.builder()
+                .id(restaurantId)
+                .name("Corner Kitchen")
+                .menuItems(menuItems)
+                .build();
+    }
+
+    private MenuItemResponse menuItem(String name) {
+        return MenuItemResponse.builder()
+                .id(UUID.randomUUID())
+                .restaurantId(restaurantId)
+                .name(name)
+                .price(new BigDecimal("5.00"))
+                .available(true)
+                .build();
+    }
+
+    private List<UUID> itemIds(String query) {
+        return searchIndex.search(query, 10).getMenuItems().stream().map(MenuItemSearchHit::getId).toList();
+    }
+}
@@ -0,0 +1,44 @@
+package com.bytebites.restaurantservice.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingGrantedAuthoritiesConverterTest {
+
+    @Test
+    @DisplayName("Should convert each Jwt instance once and equal tokens in separate instances separately")
+    void convert_CachesPerJwtInstance() {
+        AtomicInteger conversions = new AtomicInteger();
+        Converter<Jwt, Collection<GrantedAuthority>> delegate = jwt -> {
+            conversions.incrementAndGet();
+            return List.of(new SimpleGrantedAuthority("ROLE_RESTAURANT_OWNER"));
+        };
+        CachingGrantedAuthoritiesConverter converter = new CachingGrantedAuthoritiesConverter(delegate);
+        Jwt jwt = jwt();
+
+        Collection<GrantedAuthority> first = converter.convert(jwt);
+        Collection<GrantedAuthority> second = converter.convert(jwt);
+        converter.convert(jwt());
+
+        assertSame(first, second);
+        assertEquals(List.of(new SimpleGrantedAuthority("ROLE_RESTAURANT_OWNER")), first);
+        assertEquals(2, conversions.get());
+    }
+
+    private static Jwt jwt() {
+        return Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .claim("roles", List.of("RESTAURANT_OWNER"))
+                .build();
+    }
+}
@@ -0,0 +1,113 @@
+package com.bytebites.restaurantservice.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingJwtDecoderTest {
+
+    private static final Instant START = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Mock
+    private JwtDecoder delegate;
+
+    private AtomicLong elapsedNanos;
+    private CachingJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        elapsedNanos = new AtomicLong();
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return START.plusNanos(elapsedNanos.get());
+            }
+        };
+        decoder = new CachingJwtDecoder(delegate, 100, Duration.ofMinutes(5), clock, elapsedNanos::get);
+    }
+
+    @Test
+    @DisplayName("Should verify a repeated token only once")
+    void decode_RepeatedToken_VerifiesOnce() {
+        Jwt jwt = jwt("token-a", START.plusSeconds(600));
+        when(delegate.decode("token-a")).thenReturn(jwt);
+
+        assertSame(jwt, decoder.decode("token-a"));
+        assertSame(jwt, decoder.decode("token-a"));
+
+        verify(delegate, times(1)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("Should verify again once the token's own expiry has passed")
+    void decode_AfterTokenExpiry_VerifiesAgain() {
+        when(delegate.decode("token-a")).thenReturn(jwt("token-a", START.plusSeconds(30)));
+
+        decoder.decode("token-a");
+        elapsedNanos.addAndGet(Duration.ofSeconds(31).toNanos());
+        decoder.decode("token-a");
+
+        verify(delegate, times(2)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("Should reuse a long-lived token no longer than the maximum time to live")
+    void decode_LongLivedToken_CappedByMaxTimeToLive() {
+        when(delegate.decode("token-a")).thenReturn(jwt("token-a", START.plus(Duration.ofHours(12))));
+
+        decoder.decode("token-a");
+        elapsedNanos.addAndGet(Duration.ofMinutes(4).toNanos());
+        decoder.decode("token-a");
+        elapsedNanos.addAndGet(Duration.ofMinutes(2).toNanos());
+        decoder.decode("token-a");
+
+        verify(delegate, times(2)).decode("token-a");
+    }
+
+    @Test
+    @DisplayName("Should not cache rejected tokens")
+    void decode_RejectedToken_NotCached() {
+        when(delegate.decode("forged")).thenThrow(new BadJwtException("bad signature"));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("forged"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("forged"));
+
+        verify(delegate, times(2)).decode("forged");
+        assertEquals(0, decoder.getCache().estimatedSize());
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("owner")
+                .issuedAt(START)
+                .expiresAt(expiresAt)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.bytebites.restaurantservice.serialization;
+
+import com.bytebites.restaurantservice.config.OrderEventsProperties;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderEventAvroCodecTest {
+
+    @Test
+    @DisplayName("Should round-trip an order through Avro in fewer bytes than JSON")
+    void encodeDecode_RoundTrip() throws IOException {
+        OrderEventAvroCodec codec = new OrderEventAvroCodec(registry("classpath:schemas/order-placed-event"));
+        OrderPlacedEvent event = orderPlacedEvent();
+
+        byte[] avro = codec.encode(event);
+        byte[] json = new JsonSerializer<OrderPlacedEvent>().noTypeInfo().serialize("orders", event);
+
+        assertTrue(OrderEventAvroCodec.isAvro(avro));
+        assertEquals(event, codec.decode(avro));
+        assertTrue(avro.length < json.length, () -> avro.length + " Avro bytes vs " + json.length + " JSON bytes");
+    }
+
+    @Test
+    @DisplayName("Should read JSON and Avro payloads with the same deserializer")
+    void deserialize_MixedFormats() {
+        OrderEventAvroCodec codec = new OrderEventAvroCodec(registry("classpath:schemas/order-placed-event"));
+        OrderPlacedEvent event = orderPlacedEvent();
+        OrderPlacedEvent withoutItems = new OrderPlacedEvent("order-2", null, "not-a-uuid", null, null, null, null, null);
+
+        try (OrderPlacedEventDeserializer deserializer = new OrderPlacedEventDeserializer(codec)) {
+            assertEquals(event, deserializer.deserialize("orders",
+                    new OrderPlacedEventSerializer(WireFormat.JSON, codec).serialize("orders", event)));
+            assertEquals(withoutItems, deserializer.deserialize("orders",
+                    new OrderPlacedEventSerializer(WireFormat.AVRO, codec).serialize("orders", withoutItems)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should resolve an order written with an older schema version into the latest one")
+    void decode_OlderWriterSchema_Resolved() throws IOException {
+        OrderEventSchemaRegistry registry = registry("classpath:schemas/evolved");
+        OrderEventAvroCodec codec = new OrderEventAvroCodec(registry);
+        Schema v1 = registry.all().iterator().next();
+        GenericData.Record record = new GenericData.Record(v1);
+        record.put("orderId", "order-1");
+        record.put("restaurantId", "restaurant-1");
+        record.put("totalAmount", ByteBuffer.wrap(new BigDecimal("25.98").unscaledValue().toByteArray()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryMessageEncoder<GenericRecord>(GenericData.get(), v1).encode(record, out);
+
+        OrderPlacedEvent event = codec.decode(out.toByteArray());
+
+        assertEquals(2, registry.latestVersion());
+        assertEquals(new OrderPlacedEvent("order-1", null, "restaurant-1", null, new BigDecimal("25.98"), null, null, null),
+                event);
+    }
+
+    @Test
+    @DisplayName("Should refuse a schema version that cannot read events written with an earlier one")
+    void load_IncompatibleVersions_Fails() {
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> registry("classpath:schemas/incompatible"));
+        assertTrue(e.getMessage().contains("v2 cannot read events written with v1"));
+    }
+
+    private static OrderEventSchemaRegistry registry(String location) {
+        OrderEventsProperties properties = new OrderEventsProperties();
+        properties.setSchemaLocation(location);
+        try {
+            return new OrderEventSchemaRegistry(properties, new PathMatchingResourcePatternResolver());
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static OrderPlacedEvent orderPlacedEvent() {
+        return new OrderPlacedEvent("6f1c2f4e-8a4b-4d3e-9a51-0e8f2b7c1d90", "customer@example.com",
+                "0b7e4a52-3c1d-4f6e-8b2a-9d5c7e1f3a64", "Test Restaurant", new BigDecimal("25.98"), "1 Delivery Rd",
+                LocalDateTime.of(2026, 10, 17, 12, 30, 15, 123_456_000),
+                List.of(new OrderItemDetails("a3d5f7b9-1c2e-4f60-8a9b-c1d2e3f4a5b6", "Burger", 2, new BigDecimal("12.99"))));
+    }
+}
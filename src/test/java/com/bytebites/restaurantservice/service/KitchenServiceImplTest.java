@@ -0,0 +1,94 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.dto.KitchenOrderResponse;
+import com.bytebites.restaurantservice.kitchen.KitchenQueueEngine;
+import com.bytebites.restaurantservice.kitchen.PrepStatus;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import com.bytebites.restaurantservice.service.impl.KitchenServiceImpl;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KitchenServiceImplTest {
+
+    @Mock
+    private KitchenQueueEngine kitchenQueueEngine;
+
+    @Mock
+    private RestaurantRepository restaurantRepository;
+
+    @InjectMocks
+    private KitchenServiceImpl kitchenService;
+
+    private UUID ownerId;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = UUID.randomUUID();
+        restaurantId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should return the in-memory queue to the restaurant owner")
+    void getKitchenQueue_Success() {
+        KitchenOrderResponse order = KitchenOrderResponse.builder().orderId("order-1").build();
+        when(restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)).thenReturn(true);
+        when(kitchenQueueEngine.getQueue(restaurantId)).thenReturn(List.of(order));
+
+        assertEquals(List.of(order), kitchenService.getKitchenQueue(restaurantId, ownerId));
+    }
+
+    @Test
+    @DisplayName("Should hide the queue from anyone but the restaurant owner")
+    void getKitchenQueue_NotOwned_ThrowsException() {
+        when(restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> kitchenService.getKitchenQueue(restaurantId, ownerId));
+        verifyNoInteractions(kitchenQueueEngine);
+    }
+
+    @Test
+    @DisplayName("Should update an item and return its order")
+    void updateItemStatus_Success() {
+        KitchenOrderResponse order = KitchenOrderResponse.builder().orderId("order-1").status(PrepStatus.PREPARING).build();
+        when(restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)).thenReturn(true);
+        when(kitchenQueueEngine.hasItem(restaurantId, "order-1", "burger")).thenReturn(true);
+        when(kitchenQueueEngine.updateItemStatus(restaurantId, "order-1", "burger", PrepStatus.PREPARING)).thenReturn(true);
+        when(kitchenQueueEngine.getQueue(restaurantId)).thenReturn(List.of(order));
+
+        assertEquals(order, kitchenService.updateItemStatus(restaurantId, "order-1", "burger", PrepStatus.PREPARING, ownerId));
+    }
+
+    @Test
+    @DisplayName("Should reject an item that is not part of the queued order")
+    void updateItemStatus_UnknownItem_ThrowsException() {
+        when(restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)).thenReturn(true);
+        when(kitchenQueueEngine.hasItem(restaurantId, "order-1", "pizza")).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class,
+                () -> kitchenService.updateItemStatus(restaurantId, "order-1", "pizza", PrepStatus.READY, ownerId));
+        verify(kitchenQueueEngine, never()).updateItemStatus(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should reject completing an order that is not queued")
+    void completeOrder_NotQueued_ThrowsException() {
+        when(restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)).thenReturn(true);
+        when(kitchenQueueEngine.remove(restaurantId, "order-1")).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> kitchenService.completeOrder(restaurantId, "order-1", ownerId));
+    }
+}
@@ -0,0 +1,126 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.analytics.MenuItemPopularity;
+import com.bytebites.restaurantservice.audit.AuditAction;
+import com.bytebites.restaurantservice.audit.AuditEntry;
+import com.bytebites.restaurantservice.config.OptimisticRetryProperties;
+import com.bytebites.restaurantservice.config.PopularityProperties;
+import com.bytebites.restaurantservice.dto.MenuImportResponse;
+import com.bytebites.restaurantservice.dto.MenuItemImportResult;
+import com.bytebites.restaurantservice.dto.MenuItemRequest;
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.menuimport.MenuImportRow;
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+import com.bytebites.restaurantservice.repository.MenuItemRepository;
+import com.bytebites.restaurantservice.service.impl.MenuItemServiceImpl;
+import com.bytebites.restaurantservice.service.impl.OptimisticLockRetrier;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@RecordApplicationEvents
+@Import({MenuItemServiceImpl.class, OptimisticLockRetrier.class, OptimisticRetryProperties.class,
+        MenuItemPopularity.class, PopularityProperties.class})
+class MenuItemImportBatchingTest {
+
+    private static final int ROWS = 200;
+
+    @Autowired
+    private MenuItemService menuItemService;
+
+    @Autowired
+    private MenuItemRepository menuItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private Statistics statistics;
+    private UUID ownerId;
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = UUID.randomUUID();
+        Restaurant restaurant = Restaurant.builder()
+                .name("Import Kitchen")
+                .address("1 Bulk St")
+                .ownerId(ownerId)
+                .build();
+        entityManager.persist(restaurant);
+        entityManager.persist(MenuItem.builder()
+                .name("Item 0")
+                .price(new BigDecimal("1.00"))
+                .available(false)
+                .restaurant(restaurant)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+        restaurantId = restaurant.getId();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Should upsert by name and write new items in JDBC batches rather than one statement each")
+    void importMenuItems_BatchesInserts() {
+        List<MenuImportRow> rows = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            rows.add(new MenuImportRow(i + 1, MenuItemRequest.builder()
+                    .name("Item " + i)
+                    .price(new BigDecimal("9.99"))
+                    .available(true)
+                    .build(), List.of()));
+        }
+        rows.add(new MenuImportRow(ROWS + 1, null, List.of("price: 'abc' is not a number")));
+
+        MenuImportResponse response = menuItemService.importMenuItems(restaurantId, rows, ownerId);
+        entityManager.flush();
+
+        assertEquals(ROWS - 1, response.getCreated());
+        assertEquals(1, response.getUpdated());
+        assertEquals(1, response.getInvalid());
+        assertEquals(MenuItemImportResult.Status.UPDATED, response.getResults().get(0).getStatus());
+        assertEquals(MenuItemImportResult.Status.INVALID, response.getResults().get(ROWS).getStatus());
+        response.getResults().subList(0, ROWS).forEach(result -> assertNotNull(result.getId()));
+        List<AuditEntry> audit = events.stream(AuditEntry.class).toList();
+        assertEquals(1, audit.size());
+        assertEquals(AuditAction.MENU_ITEM_UPDATED, audit.get(0).action());
+        assertEquals(response.getResults().get(0).getId(), audit.get(0).entityId());
+        assertEquals(new BigDecimal("1.00"), ((MenuItemResponse) audit.get(0).before()).getPrice());
+        assertEquals(new BigDecimal("9.99"), ((MenuItemResponse) audit.get(0).after()).getPrice());
+
+        // Two reads, one insert statement per batch of 50, one item update and the restaurant version bump.
+        assertTrue(statistics.getPrepareStatementCount() <= 10,
+                "Expected batched writes but prepared " + statistics.getPrepareStatementCount() + " statements");
+
+        entityManager.clear();
+        List<MenuItem> stored = menuItemRepository.findByRestaurantId(restaurantId);
+        assertEquals(ROWS, stored.size());
+        assertTrue(stored.stream().allMatch(MenuItem::isAvailable));
+    }
+}
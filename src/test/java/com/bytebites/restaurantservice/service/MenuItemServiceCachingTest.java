@@ -0,0 +1,128 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.analytics.MenuItemPopularity;
+import com.bytebites.restaurantservice.cache.CacheInvalidationPublisher;
+import com.bytebites.restaurantservice.cache.RestaurantCacheInvalidator;
+import com.bytebites.restaurantservice.cache.SecondLevelCacheEvictor;
+import com.bytebites.restaurantservice.config.CacheConfig;
+import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.MenuSnapshot;
+import com.bytebites.restaurantservice.event.RestaurantChangedEvent;
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+import com.bytebites.restaurantservice.repository.MenuItemRepository;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import com.bytebites.restaurantservice.service.impl.MenuItemServiceImpl;
+import com.bytebites.restaurantservice.service.impl.OptimisticLockRetrier;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@SpringJUnitConfig
+class MenuItemServiceCachingTest {
+
+    @Configuration
+    @Import({CacheConfig.class, MenuItemServiceImpl.class, RestaurantCacheInvalidator.class})
+    static class Config {
+        @Bean
+        CacheManager cacheManager() {
+            CaffeineCacheManager cacheManager = new CaffeineCacheManager(CacheConfig.MENUS_CACHE);
+            cacheManager.setCaffeine(Caffeine.newBuilder().maximumSize(100).recordStats());
+            return cacheManager;
+        }
+    }
+
+    @MockitoBean
+    private MenuItemRepository menuItemRepository;
+
+    @MockitoBean
+    private RestaurantRepository restaurantRepository;
+
+    @MockitoBean
+    private CacheInvalidationPublisher invalidationPublisher;
+
+    @MockitoBean
+    private SecondLevelCacheEvictor secondLevelCacheEvictor;
+
+    @MockitoBean
+    private OptimisticLockRetrier optimisticLockRetrier;
+
+    @MockitoBean
+    private MenuItemPopularity menuItemPopularity;
+
+    @Autowired
+    private MenuItemService menuItemService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private UUID restaurantId;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.MENUS_CACHE).clear();
+        restaurantId = UUID.randomUUID();
+        Restaurant restaurant = Restaurant.builder().id(restaurantId).name("Test Restaurant").version(1L).build();
+        MenuItem menuItem = MenuItem.builder()
+                .id(UUID.randomUUID())
+                .name("Burger")
+                .price(new BigDecimal("12.99"))
+                .available(true)
+                .restaurant(restaurant)
+                .build();
+        restaurant.setMenuItems(List.of(menuItem));
+        when(restaurantRepository.findWithMenuItemsById(restaurantId)).thenReturn(Optional.of(restaurant));
+    }
+
+    @Test
+    @DisplayName("Should serve repeated menu reads from the cache")
+    void getMenuSnapshot_SecondCallIsCacheHit() {
+        MenuSnapshot first = menuItemService.getMenuSnapshot(restaurantId);
+        MenuSnapshot second = menuItemService.getMenuSnapshot(restaurantId);
+
+        assertSame(first, second);
+        assertThrows(UnsupportedOperationException.class, () -> second.items().add(new MenuItemResponse()));
+        verify(restaurantRepository, times(1)).findWithMenuItemsById(restaurantId);
+    }
+
+    @Test
+    @DisplayName("Should reload only the restaurant whose menu changed")
+    void menuChangedEvent_EvictsOnlyAffectedRestaurant() {
+        UUID otherRestaurantId = UUID.randomUUID();
+        Restaurant otherRestaurant = Restaurant.builder().id(otherRestaurantId).version(1L).menuItems(List.of()).build();
+        when(restaurantRepository.findWithMenuItemsById(otherRestaurantId)).thenReturn(Optional.of(otherRestaurant));
+
+        menuItemService.getMenuSnapshot(restaurantId);
+        menuItemService.getMenuSnapshot(otherRestaurantId);
+
+        eventPublisher.publishEvent(new RestaurantChangedEvent(restaurantId));
+
+        menuItemService.getMenuSnapshot(restaurantId);
+        menuItemService.getMenuSnapshot(otherRestaurantId);
+
+        verify(restaurantRepository, times(2)).findWithMenuItemsById(restaurantId);
+        verify(restaurantRepository, times(1)).findWithMenuItemsById(otherRestaurantId);
+        verify(invalidationPublisher, times(1)).publish(restaurantId, List.of());
+    }
+}
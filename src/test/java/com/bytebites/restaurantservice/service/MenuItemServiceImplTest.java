@@ -1,20 +1,36 @@
 package com.bytebites.restaurantservice.service;
 
+import com.bytebites.restaurantservice.audit.AuditAction;
+import com.bytebites.restaurantservice.audit.AuditEntry;
+import com.bytebites.restaurantservice.config.OptimisticRetryProperties;
+import com.bytebites.restaurantservice.dto.MenuItemFilter;
 import com.bytebites.restaurantservice.dto.MenuItemRequest;
 import com.bytebites.restaurantservice.dto.MenuItemResponse;
+import com.bytebites.restaurantservice.dto.MenuSnapshot;
+import com.bytebites.restaurantservice.event.RestaurantChangedEvent;
+import com.bytebites.restaurantservice.exception.PreconditionFailedException;
 import com.bytebites.restaurantservice.model.MenuItem;
 import com.bytebites.restaurantservice.model.Restaurant;
 import com.bytebites.restaurantservice.repository.MenuItemRepository;
 import com.bytebites.restaurantservice.repository.RestaurantRepository;
 import com.bytebites.restaurantservice.service.impl.MenuItemServiceImpl;
+import com.bytebites.restaurantservice.service.impl.OptimisticLockRetrier;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -34,6 +50,13 @@ class MenuItemServiceImplTest {
     @Mock
     private RestaurantRepository restaurantRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private OptimisticLockRetrier optimisticLockRetrier =
+            new OptimisticLockRetrier(TransactionOperations.withoutTransaction(), new OptimisticRetryProperties());
+
     @InjectMocks
     private MenuItemServiceImpl menuItemService;
 
@@ -76,7 +99,7 @@ class MenuItemServiceImplTest {
     @Test
     @DisplayName("Should create a menu item successfully")
     void createMenuItem_Success() {
-        when(restaurantRepository.findByIdAndOwnerId(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
+        when(restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
         when(menuItemRepository.save(any(MenuItem.class))).thenReturn(menuItem);
 
         MenuItemResponse response = menuItemService.createMenuItem(restaurantId, menuItemRequest, ownerId);
@@ -86,14 +109,30 @@ class MenuItemServiceImplTest {
         assertEquals(menuItemRequest.getName(), response.getName());
         assertEquals(restaurantId, response.getRestaurantId());
 
-        verify(restaurantRepository, times(1)).findByIdAndOwnerId(restaurantId, ownerId);
+        verify(restaurantRepository, times(1)).findOwnedForMenuChange(restaurantId, ownerId);
         verify(menuItemRepository, times(1)).save(any(MenuItem.class));
+        verify(eventPublisher, times(1)).publishEvent(new RestaurantChangedEvent(restaurantId, List.of(menuItemId)));
+    }
+
+    @Test
+    @DisplayName("Should retry a creation that lost a race with a sibling write")
+    void createMenuItem_VersionConflict_Retried() {
+        when(restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.save(any(MenuItem.class)))
+                .thenThrow(new OptimisticLockingFailureException("stale restaurant version"))
+                .thenReturn(menuItem);
+
+        MenuItemResponse response = menuItemService.createMenuItem(restaurantId, menuItemRequest, ownerId);
+
+        assertEquals(menuItemId, response.getId());
+        verify(restaurantRepository, times(2)).findOwnedForMenuChange(restaurantId, ownerId);
+        verify(eventPublisher, times(1)).publishEvent(new RestaurantChangedEvent(restaurantId, List.of(menuItemId)));
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundException when creating menu item for non-existent restaurant")
     void createMenuItem_RestaurantNotFound() {
-        when(restaurantRepository.findByIdAndOwnerId(any(UUID.class), any(UUID.class))).thenReturn(Optional.empty());
+        when(restaurantRepository.findOwnedForMenuChange(any(UUID.class), any(UUID.class))).thenReturn(Optional.empty());
 
         EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () ->
                 menuItemService.createMenuItem(UUID.randomUUID(), menuItemRequest, ownerId)
@@ -101,8 +140,9 @@ class MenuItemServiceImplTest {
 
         assertTrue(thrown.getMessage().contains("Restaurant not found or not owned by you with ID:"));
 
-        verify(restaurantRepository, times(1)).findByIdAndOwnerId(any(UUID.class), any(UUID.class));
+        verify(restaurantRepository, times(1)).findOwnedForMenuChange(any(UUID.class), any(UUID.class));
         verify(menuItemRepository, never()).save(any(MenuItem.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
@@ -165,6 +205,55 @@ class MenuItemServiceImplTest {
         verify(menuItemRepository, never()).findByRestaurantId(any(UUID.class));
     }
 
+    @Test
+    @DisplayName("Should load a menu snapshot tagged with the restaurant version")
+    void getMenuSnapshot_Success() {
+        restaurant.setVersion(7L);
+        restaurant.setMenuItems(List.of(menuItem));
+        when(restaurantRepository.findWithMenuItemsById(restaurantId)).thenReturn(Optional.of(restaurant));
+
+        MenuSnapshot snapshot = menuItemService.getMenuSnapshot(restaurantId);
+
+        assertEquals(7L, snapshot.version());
+        assertEquals(1, snapshot.items().size());
+        assertEquals(menuItemId, snapshot.items().get(0).getId());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.items().clear());
+
+        // Version and items come from the one statement; reading them separately could tear.
+        verify(restaurantRepository, times(1)).findWithMenuItemsById(restaurantId);
+        verify(restaurantRepository, never()).findVersionById(any(UUID.class));
+        verify(menuItemRepository, never()).findByRestaurantId(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should push filtered menu queries down to the repository with the requested sort")
+    void getFilteredMenu_Success() {
+        MenuItemFilter filter = MenuItemFilter.of(true, new BigDecimal("5"), new BigDecimal("15"), "price,desc");
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.of(7L));
+        when(menuItemRepository.findAll(ArgumentMatchers.<Specification<MenuItem>>any(), eq(filter.sortOrDefault())))
+                .thenReturn(List.of(menuItem));
+
+        MenuSnapshot snapshot = menuItemService.getFilteredMenu(restaurantId, filter);
+
+        assertEquals(7L, snapshot.version());
+        assertEquals(List.of(menuItemId), snapshot.items().stream().map(MenuItemResponse::getId).toList());
+        assertEquals(Sort.by(Sort.Direction.DESC, "price").and(Sort.by("id")), filter.sortOrDefault());
+        verify(menuItemRepository, never()).findByRestaurantId(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should throw EntityNotFoundException when loading a menu snapshot for a non-existent restaurant")
+    void getMenuSnapshot_RestaurantNotFound() {
+        when(restaurantRepository.findWithMenuItemsById(any(UUID.class))).thenReturn(Optional.empty());
+
+        EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () ->
+                menuItemService.getMenuSnapshot(UUID.randomUUID())
+        );
+
+        assertTrue(thrown.getMessage().contains("Restaurant not found with ID:"));
+        verify(menuItemRepository, never()).findByRestaurantId(any(UUID.class));
+    }
+
     @Test
     @DisplayName("Should update a menu item successfully")
     void updateMenuItem_Success() {
@@ -175,11 +264,11 @@ class MenuItemServiceImplTest {
                 .available(false)
                 .build();
 
-        when(restaurantRepository.findByIdAndOwnerId(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
+        when(restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
         when(menuItemRepository.findByIdAndRestaurantId(menuItemId, restaurantId)).thenReturn(Optional.of(menuItem));
         when(menuItemRepository.save(any(MenuItem.class))).thenReturn(menuItem);
 
-        MenuItemResponse response = menuItemService.updateMenuItem(restaurantId, menuItemId, updatedRequest, ownerId);
+        MenuItemResponse response = menuItemService.updateMenuItem(restaurantId, menuItemId, updatedRequest, ownerId, null);
 
         assertNotNull(response);
         assertEquals(menuItemId, response.getId());
@@ -188,23 +277,24 @@ class MenuItemServiceImplTest {
         assertEquals(updatedRequest.getPrice(), response.getPrice());
         assertEquals(updatedRequest.isAvailable(), response.isAvailable());
 
-        verify(restaurantRepository, times(1)).findByIdAndOwnerId(restaurantId, ownerId);
+        verify(restaurantRepository, times(1)).findOwnedForMenuChange(restaurantId, ownerId);
         verify(menuItemRepository, times(1)).findByIdAndRestaurantId(menuItemId, restaurantId);
         verify(menuItemRepository, times(1)).save(any(MenuItem.class));
+        verify(eventPublisher, times(1)).publishEvent(new RestaurantChangedEvent(restaurantId, List.of(menuItemId)));
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundException when updating menu item for non-existent restaurant")
     void updateMenuItem_RestaurantNotFound() {
-        when(restaurantRepository.findByIdAndOwnerId(any(UUID.class), any(UUID.class))).thenReturn(Optional.empty());
+        when(restaurantRepository.findOwnedForMenuChange(any(UUID.class), any(UUID.class))).thenReturn(Optional.empty());
 
         EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () ->
-                menuItemService.updateMenuItem(UUID.randomUUID(), menuItemId, menuItemRequest, ownerId)
+                menuItemService.updateMenuItem(UUID.randomUUID(), menuItemId, menuItemRequest, ownerId, null)
         );
 
         assertTrue(thrown.getMessage().contains("Restaurant not found or not owned by you with ID:"));
 
-        verify(restaurantRepository, times(1)).findByIdAndOwnerId(any(UUID.class), any(UUID.class));
+        verify(restaurantRepository, times(1)).findOwnedForMenuChange(any(UUID.class), any(UUID.class));
         verify(menuItemRepository, never()).findByIdAndRestaurantId(any(UUID.class), any(UUID.class));
         verify(menuItemRepository, never()).save(any(MenuItem.class));
     }
@@ -212,38 +302,94 @@ class MenuItemServiceImplTest {
     @Test
     @DisplayName("Should throw EntityNotFoundException when updating a non-existent menu item")
     void updateMenuItem_MenuItemNotFound() {
-        when(restaurantRepository.findByIdAndOwnerId(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
+        when(restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
         when(menuItemRepository.findByIdAndRestaurantId(any(UUID.class), any(UUID.class))).thenReturn(Optional.empty());
 
         EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () ->
-                menuItemService.updateMenuItem(restaurantId, UUID.randomUUID(), menuItemRequest, ownerId)
+                menuItemService.updateMenuItem(restaurantId, UUID.randomUUID(), menuItemRequest, ownerId, null)
         );
 
         assertTrue(thrown.getMessage().contains("Menu item not found with ID:"));
 
-        verify(restaurantRepository, times(1)).findByIdAndOwnerId(restaurantId, ownerId);
+        verify(restaurantRepository, times(1)).findOwnedForMenuChange(restaurantId, ownerId);
         verify(menuItemRepository, times(1)).findByIdAndRestaurantId(any(UUID.class), any(UUID.class));
         verify(menuItemRepository, never()).save(any(MenuItem.class));
     }
 
+    @Test
+    @DisplayName("Should reject an update whose If-Match version is stale")
+    void updateMenuItem_StaleVersion_ThrowsPreconditionFailed() {
+        menuItem.setVersion(4L);
+        when(restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findByIdAndRestaurantId(menuItemId, restaurantId)).thenReturn(Optional.of(menuItem));
+
+        PreconditionFailedException thrown = assertThrows(PreconditionFailedException.class, () ->
+                menuItemService.updateMenuItem(restaurantId, menuItemId, menuItemRequest, ownerId, 3L)
+        );
+
+        assertEquals(4L, thrown.getCurrentVersion());
+        verify(menuItemRepository, never()).save(any(MenuItem.class));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should retry an availability change that lost a version race")
+    void setMenuItemAvailability_VersionConflict_RetriesFromFreshRead() {
+        when(restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findByIdAndRestaurantId(menuItemId, restaurantId)).thenReturn(Optional.of(menuItem));
+        when(menuItemRepository.save(any(MenuItem.class))).thenReturn(menuItem);
+        doThrow(new OptimisticLockingFailureException("stale restaurant version"))
+                .doNothing()
+                .when(menuItemRepository).flush();
+
+        MenuItemResponse response = menuItemService.setMenuItemAvailability(restaurantId, menuItemId, false, ownerId);
+
+        assertFalse(response.isAvailable());
+        verify(restaurantRepository, times(2)).findOwnedForMenuChange(restaurantId, ownerId);
+        verify(menuItemRepository, times(2)).findByIdAndRestaurantId(menuItemId, restaurantId);
+        verify(eventPublisher, times(1)).publishEvent(new RestaurantChangedEvent(restaurantId, List.of(menuItemId)));
+    }
+
+    @Test
+    @DisplayName("Should retry a deletion that lost a race with a sibling write")
+    void deleteMenuItem_VersionConflict_Retried() {
+        when(restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findByIdAndRestaurantId(menuItemId, restaurantId)).thenReturn(Optional.of(menuItem));
+        doThrow(new OptimisticLockingFailureException("stale restaurant version"))
+                .doNothing()
+                .when(menuItemRepository).delete(menuItem);
+
+        assertDoesNotThrow(() -> menuItemService.deleteMenuItem(restaurantId, menuItemId, ownerId));
+
+        verify(menuItemRepository, times(2)).delete(menuItem);
+        verify(eventPublisher, times(1)).publishEvent(new RestaurantChangedEvent(restaurantId, List.of(menuItemId)));
+    }
+
     @Test
     @DisplayName("Should delete a menu item successfully")
     void deleteMenuItem_Success() {
-        when(restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)).thenReturn(true);
-        when(menuItemRepository.existsByIdAndRestaurantId(menuItemId, restaurantId)).thenReturn(true);
-        doNothing().when(menuItemRepository).deleteById(menuItemId);
+        when(restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findByIdAndRestaurantId(menuItemId, restaurantId)).thenReturn(Optional.of(menuItem));
+        doNothing().when(menuItemRepository).delete(menuItem);
 
         assertDoesNotThrow(() -> menuItemService.deleteMenuItem(restaurantId, menuItemId, ownerId));
 
-        verify(restaurantRepository, times(1)).existsByIdAndOwnerId(restaurantId, ownerId);
-        verify(menuItemRepository, times(1)).existsByIdAndRestaurantId(menuItemId, restaurantId);
-        verify(menuItemRepository, times(1)).deleteById(menuItemId);
+        verify(restaurantRepository, times(1)).findOwnedForMenuChange(restaurantId, ownerId);
+        verify(menuItemRepository, times(1)).findByIdAndRestaurantId(menuItemId, restaurantId);
+        verify(menuItemRepository, times(1)).delete(menuItem);
+        verify(eventPublisher, times(1)).publishEvent(new RestaurantChangedEvent(restaurantId, List.of(menuItemId)));
+        ArgumentCaptor<AuditEntry> audit = ArgumentCaptor.forClass(AuditEntry.class);
+        verify(eventPublisher).publishEvent(audit.capture());
+        assertEquals(AuditAction.MENU_ITEM_DELETED, audit.getValue().action());
+        assertEquals(ownerId, audit.getValue().actorId());
+        assertEquals(menuItemId, ((MenuItemResponse) audit.getValue().before()).getId());
+        assertNull(audit.getValue().after());
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundException when deleting menu item for non-existent restaurant")
     void deleteMenuItem_RestaurantNotFound() {
-        when(restaurantRepository.existsByIdAndOwnerId(any(UUID.class), any(UUID.class))).thenReturn(false);
+        when(restaurantRepository.findOwnedForMenuChange(any(UUID.class), any(UUID.class))).thenReturn(Optional.empty());
 
         EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () ->
                 menuItemService.deleteMenuItem(UUID.randomUUID(), menuItemId, ownerId)
@@ -251,16 +397,16 @@ class MenuItemServiceImplTest {
 
         assertTrue(thrown.getMessage().contains("Restaurant not found or not owned by you with ID:"));
 
-        verify(restaurantRepository, times(1)).existsByIdAndOwnerId(any(UUID.class), any(UUID.class));
-        verify(menuItemRepository, never()).existsByIdAndRestaurantId(any(UUID.class), any(UUID.class));
-        verify(menuItemRepository, never()).deleteById(any(UUID.class));
+        verify(restaurantRepository, times(1)).findOwnedForMenuChange(any(UUID.class), any(UUID.class));
+        verify(menuItemRepository, never()).findByIdAndRestaurantId(any(UUID.class), any(UUID.class));
+        verify(menuItemRepository, never()).delete(any(MenuItem.class));
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundException when deleting a non-existent menu item")
     void deleteMenuItem_MenuItemNotFound() {
-        when(restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)).thenReturn(true);
-        when(menuItemRepository.existsByIdAndRestaurantId(any(UUID.class), any(UUID.class))).thenReturn(false);
+        when(restaurantRepository.findOwnedForMenuChange(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
+        when(menuItemRepository.findByIdAndRestaurantId(any(UUID.class), any(UUID.class))).thenReturn(Optional.empty());
 
         EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () ->
                 menuItemService.deleteMenuItem(restaurantId, UUID.randomUUID(), ownerId)
@@ -268,8 +414,9 @@ class MenuItemServiceImplTest {
 
         assertTrue(thrown.getMessage().contains("Menu item not found with ID:"));
 
-        verify(restaurantRepository, times(1)).existsByIdAndOwnerId(restaurantId, ownerId);
-        verify(menuItemRepository, times(1)).existsByIdAndRestaurantId(any(UUID.class), any(UUID.class));
-        verify(menuItemRepository, never()).deleteById(any(UUID.class));
+        verify(restaurantRepository, times(1)).findOwnedForMenuChange(restaurantId, ownerId);
+        verify(menuItemRepository, times(1)).findByIdAndRestaurantId(any(UUID.class), any(UUID.class));
+        verify(menuItemRepository, never()).delete(any(MenuItem.class));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 }
@@ -0,0 +1,64 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.config.OptimisticRetryProperties;
+import com.bytebites.restaurantservice.service.impl.OptimisticLockRetrier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimisticLockRetrierTest {
+
+    private OptimisticLockRetrier retrier;
+    private AtomicInteger attempts;
+
+    @BeforeEach
+    void setUp() {
+        OptimisticRetryProperties properties = new OptimisticRetryProperties();
+        properties.setMaxAttempts(3);
+        properties.setBackoffMs(0);
+        retrier = new OptimisticLockRetrier(TransactionOperations.withoutTransaction(), properties);
+        attempts = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("Should run the work again after a version conflict")
+    void inTransaction_ConflictThenSuccess_ReturnsResult() {
+        String result = retrier.inTransaction("test", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new OptimisticLockingFailureException("stale");
+            }
+            return "done";
+        });
+
+        assertEquals("done", result);
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Should give up after the configured number of attempts")
+    void inTransaction_PersistentConflict_Rethrows() {
+        assertThrows(OptimisticLockingFailureException.class, () -> retrier.inTransaction("test", () -> {
+            attempts.incrementAndGet();
+            throw new OptimisticLockingFailureException("stale");
+        }));
+
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    @DisplayName("Should not retry failures other than version conflicts")
+    void inTransaction_OtherFailure_NotRetried() {
+        assertThrows(IllegalStateException.class, () -> retrier.inTransaction("test", () -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("boom");
+        }));
+
+        assertEquals(1, attempts.get());
+    }
+}
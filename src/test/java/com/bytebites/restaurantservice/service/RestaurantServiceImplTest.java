@@ -1,7 +1,14 @@
 package com.bytebites.restaurantservice.service;
 
+import com.bytebites.restaurantservice.audit.AuditAction;
+import com.bytebites.restaurantservice.audit.AuditEntry;
+import com.bytebites.restaurantservice.config.PaginationProperties;
+import com.bytebites.restaurantservice.dto.RestaurantCursor;
+import com.bytebites.restaurantservice.dto.RestaurantPageResponse;
 import com.bytebites.restaurantservice.dto.RestaurantRequest;
 import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.event.RestaurantChangedEvent;
+import com.bytebites.restaurantservice.exception.PreconditionFailedException;
 import com.bytebites.restaurantservice.model.Restaurant;
 import com.bytebites.restaurantservice.repository.MenuItemRepository;
 import com.bytebites.restaurantservice.repository.RestaurantRepository;
@@ -11,9 +18,13 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.util.Arrays;
 import java.util.List;
@@ -32,6 +43,12 @@ class RestaurantServiceImplTest {
     @Mock
     private MenuItemRepository menuItemRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PaginationProperties paginationProperties = new PaginationProperties();
+
     @InjectMocks
     private RestaurantServiceImpl restaurantService;
 
@@ -105,6 +122,28 @@ class RestaurantServiceImplTest {
         verify(restaurantRepository, times(1)).findById(any(UUID.class));
     }
 
+    @Test
+    @DisplayName("Should return the restaurant version without loading the restaurant")
+    void getRestaurantVersion_Success() {
+        when(restaurantRepository.findVersionById(restaurantId)).thenReturn(Optional.of(3L));
+
+        assertEquals(3L, restaurantService.getRestaurantVersion(restaurantId));
+
+        verify(restaurantRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("Should throw EntityNotFoundException when getting the version of a non-existent restaurant")
+    void getRestaurantVersion_NotFound() {
+        when(restaurantRepository.findVersionById(any(UUID.class))).thenReturn(Optional.empty());
+
+        EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () ->
+                restaurantService.getRestaurantVersion(UUID.randomUUID())
+        );
+
+        assertTrue(thrown.getMessage().contains("Restaurant not found with ID:"));
+    }
+
     @Test
     @DisplayName("Should get all restaurants successfully")
     void getAllRestaurants_Success() {
@@ -120,6 +159,70 @@ class RestaurantServiceImplTest {
         verify(restaurantRepository, times(1)).findAll();
     }
 
+    @Test
+    @DisplayName("Should return first page with a next cursor when more restaurants exist")
+    void getRestaurantsPage_FirstPage_HasNext() {
+        Restaurant second = Restaurant.builder()
+                .id(UUID.randomUUID())
+                .name("Zeta Grill")
+                .ownerId(ownerId)
+                .menuItems(List.of())
+                .build();
+        when(restaurantRepository.findAllByOrderByNameAscIdAsc(Limit.of(2))).thenReturn(Arrays.asList(restaurant, second));
+
+        RestaurantPageResponse<RestaurantResponse> page = restaurantService.getRestaurantsPage(null, 1);
+
+        assertEquals(1, page.getSize());
+        assertTrue(page.isHasNext());
+        assertEquals(restaurantId, page.getContent().get(0).getId());
+        RestaurantCursor cursor = RestaurantCursor.decode(page.getNextCursor());
+        assertEquals(restaurant.getName(), cursor.name());
+        assertEquals(restaurantId, cursor.id());
+
+        verify(restaurantRepository, times(1)).findAllByOrderByNameAscIdAsc(Limit.of(2));
+        verify(restaurantRepository, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("Should continue after the cursor position and report the last page")
+    void getRestaurantsPage_WithCursor_LastPage() {
+        String cursor = new RestaurantCursor("Alpha Diner", UUID.randomUUID()).encode();
+        RestaurantCursor decoded = RestaurantCursor.decode(cursor);
+        when(restaurantRepository.findPageAfter(decoded.name(), decoded.id(), Limit.of(21)))
+                .thenReturn(List.of(restaurant));
+
+        RestaurantPageResponse<RestaurantResponse> page = restaurantService.getRestaurantsPage(cursor, null);
+
+        assertEquals(1, page.getSize());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+
+        verify(restaurantRepository, times(1)).findPageAfter(decoded.name(), decoded.id(), Limit.of(21));
+    }
+
+    @Test
+    @DisplayName("Should cap the requested page size at the configured maximum")
+    void getRestaurantsPage_SizeAboveMax_IsCapped() {
+        paginationProperties.setMaxPageSize(50);
+        when(restaurantRepository.findAllByOrderByNameAscIdAsc(Limit.of(51))).thenReturn(List.of(restaurant));
+
+        RestaurantPageResponse<RestaurantResponse> page = restaurantService.getRestaurantsPage(null, 10_000);
+
+        assertEquals(1, page.getSize());
+        verify(restaurantRepository, times(1)).findAllByOrderByNameAscIdAsc(Limit.of(51));
+    }
+
+    @Test
+    @DisplayName("Should reject a malformed cursor")
+    void getRestaurantsPage_InvalidCursor() {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () ->
+                restaurantService.getRestaurantsPage("not-a-cursor", 10)
+        );
+
+        assertTrue(thrown.getMessage().contains("Invalid cursor"));
+        verifyNoInteractions(restaurantRepository);
+    }
+
     @Test
     @DisplayName("Should update a restaurant successfully")
     void updateRestaurant_Success() {
@@ -133,7 +236,7 @@ class RestaurantServiceImplTest {
         when(restaurantRepository.findByIdAndOwnerId(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
         when(restaurantRepository.save(any(Restaurant.class))).thenReturn(restaurant);
 
-        RestaurantResponse response = restaurantService.updateRestaurant(restaurantId, updatedRequest, ownerId);
+        RestaurantResponse response = restaurantService.updateRestaurant(restaurantId, updatedRequest, ownerId, null);
 
         assertNotNull(response);
         assertEquals(restaurantId, response.getId());
@@ -144,6 +247,7 @@ class RestaurantServiceImplTest {
 
         verify(restaurantRepository, times(1)).findByIdAndOwnerId(restaurantId, ownerId);
         verify(restaurantRepository, times(1)).save(any(Restaurant.class));
+        verify(eventPublisher, times(1)).publishEvent(new RestaurantChangedEvent(restaurantId));
     }
 
     @Test
@@ -152,7 +256,7 @@ class RestaurantServiceImplTest {
         when(restaurantRepository.findByIdAndOwnerId(any(UUID.class), any(UUID.class))).thenReturn(Optional.empty());
 
         EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () ->
-                restaurantService.updateRestaurant(UUID.randomUUID(), restaurantRequest, ownerId)
+                restaurantService.updateRestaurant(UUID.randomUUID(), restaurantRequest, ownerId, null)
         );
 
         assertTrue(thrown.getMessage().contains("Restaurant not found or not owned by you with ID:"));
@@ -161,22 +265,43 @@ class RestaurantServiceImplTest {
         verify(restaurantRepository, never()).save(any(Restaurant.class));
     }
 
+    @Test
+    @DisplayName("Should reject a restaurant update whose If-Match version is stale")
+    void updateRestaurant_StaleVersion_ThrowsPreconditionFailed() {
+        restaurant.setVersion(2L);
+        when(restaurantRepository.findByIdAndOwnerId(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
+
+        PreconditionFailedException thrown = assertThrows(PreconditionFailedException.class, () ->
+                restaurantService.updateRestaurant(restaurantId, restaurantRequest, ownerId, 1L)
+        );
+
+        assertEquals(2L, thrown.getCurrentVersion());
+        verify(restaurantRepository, never()).save(any(Restaurant.class));
+    }
+
     @Test
     @DisplayName("Should delete a restaurant successfully")
     void deleteRestaurant_Success() {
-        when(restaurantRepository.existsByIdAndOwnerId(restaurantId, ownerId)).thenReturn(true);
-        doNothing().when(restaurantRepository).deleteById(restaurantId);
+        when(restaurantRepository.findByIdAndOwnerId(restaurantId, ownerId)).thenReturn(Optional.of(restaurant));
+        doNothing().when(restaurantRepository).delete(restaurant);
 
         assertDoesNotThrow(() -> restaurantService.deleteRestaurant(restaurantId, ownerId));
 
-        verify(restaurantRepository, times(1)).existsByIdAndOwnerId(restaurantId, ownerId);
-        verify(restaurantRepository, times(1)).deleteById(restaurantId);
+        verify(restaurantRepository, times(1)).findByIdAndOwnerId(restaurantId, ownerId);
+        verify(restaurantRepository, times(1)).delete(restaurant);
+        verify(eventPublisher, times(1)).publishEvent(new RestaurantChangedEvent(restaurantId));
+        ArgumentCaptor<AuditEntry> audit = ArgumentCaptor.forClass(AuditEntry.class);
+        verify(eventPublisher).publishEvent(audit.capture());
+        assertEquals(AuditAction.RESTAURANT_DELETED, audit.getValue().action());
+        assertEquals(ownerId, audit.getValue().actorId());
+        assertEquals(restaurant.getName(), ((RestaurantRequest) audit.getValue().before()).getName());
+        assertNull(audit.getValue().after());
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundException when deleting a non-existent restaurant")
     void deleteRestaurant_NotFound() {
-        when(restaurantRepository.existsByIdAndOwnerId(any(UUID.class), any(UUID.class))).thenReturn(false);
+        when(restaurantRepository.findByIdAndOwnerId(any(UUID.class), any(UUID.class))).thenReturn(Optional.empty());
 
         EntityNotFoundException thrown = assertThrows(EntityNotFoundException.class, () ->
                 restaurantService.deleteRestaurant(UUID.randomUUID(), ownerId)
@@ -184,8 +309,8 @@ class RestaurantServiceImplTest {
 
         assertTrue(thrown.getMessage().contains("Restaurant not found or not owned by you with ID:"));
 
-        verify(restaurantRepository, times(1)).existsByIdAndOwnerId(any(UUID.class), any(UUID.class));
-        verify(restaurantRepository, never()).deleteById(any(UUID.class));
+        verify(restaurantRepository, times(1)).findByIdAndOwnerId(any(UUID.class), any(UUID.class));
+        verify(restaurantRepository, never()).delete(any(Restaurant.class));
     }
 
     @Test
@@ -0,0 +1,175 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.config.PaginationProperties;
+import com.bytebites.restaurantservice.dto.RestaurantPageResponse;
+import com.bytebites.restaurantservice.dto.RestaurantResponse;
+import com.bytebites.restaurantservice.dto.RestaurantSummary;
+import com.bytebites.restaurantservice.model.MenuItem;
+import com.bytebites.restaurantservice.model.Restaurant;
+import com.bytebites.restaurantservice.repository.RestaurantRepository;
+import com.bytebites.restaurantservice.service.impl.RestaurantServiceImpl;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({RestaurantServiceImpl.class, PaginationProperties.class})
+class RestaurantServiceQueryCountTest {
+
+    private static final int RESTAURANTS = 10;
+    private static final int ITEMS_PER_RESTAURANT = 3;
+
+    @Autowired
+    private RestaurantService restaurantService;
+
+    @Autowired
+    private RestaurantRepository restaurantRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private UUID ownerId;
+
+    @BeforeEach
+    void setUp() {
+        ownerId = UUID.randomUUID();
+        for (int i = 0; i < RESTAURANTS; i++) {
+            Restaurant restaurant = Restaurant.builder()
+                    .name("Restaurant " + i)
+                    .address(i + " Test St")
+                    .ownerId(ownerId)
+                    .build();
+            List<MenuItem> menuItems = new ArrayList<>();
+            for (int j = 0; j < ITEMS_PER_RESTAURANT; j++) {
+                menuItems.add(MenuItem.builder()
+                        .name("Item " + j)
+                        .price(new BigDecimal("9.99"))
+                        .available(true)
+                        .restaurant(restaurant)
+                        .build());
+            }
+            restaurant.setMenuItems(menuItems);
+            entityManager.persist(restaurant);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Menu snapshot reads the restaurant version and its menu in a single statement")
+    void findWithMenuItemsById_SingleStatement() {
+        UUID restaurantId = entityManager.createQuery("SELECT r.id FROM Restaurant r", UUID.class)
+                .setMaxResults(1)
+                .getSingleResult();
+        statistics.clear();
+
+        Restaurant restaurant = restaurantRepository.findWithMenuItemsById(restaurantId).orElseThrow();
+
+        assertNotNull(restaurant.getVersion());
+        assertEquals(ITEMS_PER_RESTAURANT, restaurant.getMenuItems().size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Owner listing loads restaurants and menus in a single statement")
+    void getRestaurantsByOwner_SingleStatement() {
+        List<RestaurantResponse> responses = restaurantService.getRestaurantsByOwner(ownerId);
+
+        assertEquals(RESTAURANTS, responses.size());
+        responses.forEach(response -> assertEquals(ITEMS_PER_RESTAURANT, response.getMenuItems().size()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Full listing loads restaurants and menus in a single statement")
+    void getAllRestaurants_SingleStatement() {
+        List<RestaurantResponse> responses = restaurantService.getAllRestaurants();
+
+        assertEquals(RESTAURANTS, responses.size());
+        responses.forEach(response -> assertEquals(ITEMS_PER_RESTAURANT, response.getMenuItems().size()));
+        responses.forEach(response -> response.getMenuItems()
+                .forEach(item -> assertNotNull(item.getVersion(), "menu item version is needed for If-Match")));
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Keyset page loads its menus with one batched statement")
+    void getRestaurantsPage_TwoStatements() {
+        RestaurantPageResponse<RestaurantResponse> page = restaurantService.getRestaurantsPage(null, RESTAURANTS);
+
+        assertEquals(RESTAURANTS, page.getSize());
+        page.getContent().forEach(response -> assertEquals(ITEMS_PER_RESTAURANT, response.getMenuItems().size()));
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Summary page reads only the summary columns in one statement, without loading entities")
+    void getRestaurantSummariesPage_SingleStatementNoEntities() {
+        RestaurantPageResponse<RestaurantSummary> first = restaurantService.getRestaurantSummariesPage(null, RESTAURANTS / 2);
+        RestaurantPageResponse<RestaurantSummary> second =
+                restaurantService.getRestaurantSummariesPage(first.getNextCursor(), RESTAURANTS / 2);
+
+        assertEquals(RESTAURANTS / 2, first.getSize());
+        assertEquals(RESTAURANTS / 2, second.getSize());
+        assertEquals(RESTAURANTS, Stream.concat(first.getContent().stream(), second.getContent().stream())
+                .map(RestaurantSummary::id).distinct().count());
+        assertEquals(2, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Owner summaries are one statement without loading entities")
+    void getRestaurantSummariesByOwner_SingleStatementNoEntities() {
+        List<RestaurantSummary> summaries = restaurantService.getRestaurantSummariesByOwner(ownerId);
+
+        assertEquals(RESTAURANTS, summaries.size());
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    @DisplayName("Export streams every restaurant with its menu over one statement and detaches as it goes")
+    void exportRestaurants_SingleStatementAndDetached() {
+        List<RestaurantResponse> exported = new ArrayList<>();
+
+        long count = restaurantService.exportRestaurants(response -> {
+            exported.add(response);
+            // Only the restaurant being written and its menu are ever managed.
+            assertEquals(1 + ITEMS_PER_RESTAURANT, managedEntityCount());
+        });
+
+        assertEquals(RESTAURANTS, count);
+        assertEquals(RESTAURANTS, exported.stream().map(RestaurantResponse::getId).distinct().count());
+        exported.forEach(response -> assertEquals(ITEMS_PER_RESTAURANT, response.getMenuItems().size()));
+        assertEquals(0, managedEntityCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    private int managedEntityCount() {
+        return entityManager.unwrap(Session.class).getStatistics().getEntityCount();
+    }
+}
@@ -0,0 +1,61 @@
+package com.bytebites.restaurantservice.service;
+
+import com.bytebites.restaurantservice.config.SearchProperties;
+import com.bytebites.restaurantservice.dto.SearchResponse;
+import com.bytebites.restaurantservice.search.MenuSearchIndex;
+import com.bytebites.restaurantservice.service.impl.SearchServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchServiceImplTest {
+
+    @Mock
+    private MenuSearchIndex searchIndex;
+
+    private SearchServiceImpl searchService;
+
+    @BeforeEach
+    void setUp() {
+        searchService = new SearchServiceImpl(searchIndex, new SearchProperties());
+    }
+
+    @Test
+    @DisplayName("Should search the index with the default limit when none is given")
+    void search_NoLimit_UsesDefault() {
+        SearchResponse expected = new SearchResponse("pizza", List.of(), List.of());
+        when(searchIndex.search("pizza", 10)).thenReturn(expected);
+
+        assertSame(expected, searchService.search("  pizza ", null));
+    }
+
+    @Test
+    @DisplayName("Should cap the limit at the configured maximum")
+    void search_LargeLimit_IsCapped() {
+        when(searchIndex.search("pizza", 50)).thenReturn(new SearchResponse("pizza", List.of(), List.of()));
+
+        searchService.search("pizza", 1000);
+
+        verify(searchIndex).search("pizza", 50);
+    }
+
+    @Test
+    @DisplayName("Should reject blank queries, overlong queries and non-positive limits")
+    void search_InvalidInput_ThrowsIllegalArgument() {
+        assertThrows(IllegalArgumentException.class, () -> searchService.search(" ", null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("a".repeat(201), null));
+        assertThrows(IllegalArgumentException.class, () -> searchService.search("pizza", 0));
+        verify(searchIndex, never()).search(anyString(), anyInt());
+    }
+}
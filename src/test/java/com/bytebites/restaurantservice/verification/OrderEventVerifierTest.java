@@ -0,0 +1,117 @@
+package com.bytebites.restaurantservice.verification;
+
+import com.bytebites.restaurantservice.dto.MenuItemPriceView;
+import com.bytebites.restaurantservice.event.OrderItemDetails;
+import com.bytebites.restaurantservice.event.OrderItemRejection;
+import com.bytebites.restaurantservice.event.OrderPlacedEvent;
+import com.bytebites.restaurantservice.repository.MenuItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrderEventVerifierTest {
+
+    @Mock
+    private MenuItemRepository menuItemRepository;
+
+    @InjectMocks
+    private OrderEventVerifier orderEventVerifier;
+
+    private UUID restaurantId;
+    private UUID burgerId;
+    private UUID friesId;
+    private UUID soldOutId;
+
+    @BeforeEach
+    void setUp() {
+        restaurantId = UUID.randomUUID();
+        burgerId = UUID.randomUUID();
+        friesId = UUID.randomUUID();
+        soldOutId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should resolve every item of the batch with one query and accept matching orders")
+    void verify_MatchingOrders_AreAcceptedWithOneQuery() {
+        when(menuItemRepository.findPriceViewsByIdIn(anyCollection())).thenReturn(List.of(
+                new MenuItemPriceView(burgerId, restaurantId, new BigDecimal("12.99"), true),
+                new MenuItemPriceView(friesId, restaurantId, new BigDecimal("2.99"), true)));
+        OrderPlacedEvent first = order("order-1", item(burgerId, "12.99"));
+        OrderPlacedEvent second = order("order-2", item(burgerId, "12.990"), item(friesId, "2.99"));
+
+        OrderVerificationResult result = orderEventVerifier.verify(List.of(first, second));
+
+        assertEquals(List.of(first, second), result.accepted());
+        assertTrue(result.rejected().isEmpty());
+        verify(menuItemRepository, times(1)).findPriceViewsByIdIn(Set.of(burgerId, friesId));
+    }
+
+    @Test
+    @DisplayName("Should reject unavailable items, stale prices and items of other restaurants")
+    void verify_ProblemOrders_AreRejectedWithReasons() {
+        UUID foreignId = UUID.randomUUID();
+        when(menuItemRepository.findPriceViewsByIdIn(anyCollection())).thenReturn(List.of(
+                new MenuItemPriceView(burgerId, restaurantId, new BigDecimal("12.99"), true),
+                new MenuItemPriceView(soldOutId, restaurantId, new BigDecimal("4.50"), false),
+                new MenuItemPriceView(foreignId, UUID.randomUUID(), new BigDecimal("1.00"), true)));
+
+        OrderVerificationResult result = orderEventVerifier.verify(List.of(
+                order("stale", item(burgerId, "11.99")),
+                order("sold-out", item(soldOutId, "4.50")),
+                order("foreign", item(foreignId, "1.00")),
+                order("malformed", new OrderItemDetails("not-a-uuid", "Mystery", 1, BigDecimal.ONE))));
+
+        assertTrue(result.accepted().isEmpty());
+        assertEquals(List.of(
+                        OrderItemRejection.Reason.PRICE_MISMATCH,
+                        OrderItemRejection.Reason.UNAVAILABLE,
+                        OrderItemRejection.Reason.UNKNOWN_ITEM,
+                        OrderItemRejection.Reason.UNKNOWN_ITEM),
+                result.rejected().stream().map(rejected -> rejected.rejections().get(0).reason()).toList());
+        assertEquals(new BigDecimal("12.99"), result.rejected().get(0).rejections().get(0).menuPrice());
+    }
+
+    @Test
+    @DisplayName("Should not query the database when no order carries a resolvable item id")
+    void verify_NoResolvableIds_SkipsQuery() {
+        OrderVerificationResult result = orderEventVerifier.verify(List.of(
+                order("malformed", new OrderItemDetails("not-a-uuid", "Mystery", 1, BigDecimal.ONE))));
+
+        assertEquals(1, result.rejected().size());
+        verifyNoInteractions(menuItemRepository);
+    }
+
+    @Test
+    @DisplayName("Should report an order whose restaurant ID is not a UUID as malformed")
+    void malformation_RestaurantIdNotUuid_IsReported() {
+        OrderPlacedEvent event = new OrderPlacedEvent("order-1", "customer@example.com", "not-a-uuid",
+                "Test Restaurant", BigDecimal.TEN, "1 Delivery Rd", LocalDateTime.now(), List.of(item(burgerId, "12.99")));
+
+        assertEquals("restaurant ID is not a UUID", orderEventVerifier.malformation(event));
+        assertNull(orderEventVerifier.malformation(order("order-2", item(burgerId, "12.99"))));
+    }
+
+    private OrderPlacedEvent order(String orderId, OrderItemDetails... items) {
+        return new OrderPlacedEvent(orderId, "customer@example.com", restaurantId.toString(), "Test Restaurant",
+                BigDecimal.TEN, "1 Delivery Rd", LocalDateTime.now(), List.of(items));
+    }
+
+    private OrderItemDetails item(UUID menuItemId, String price) {
+        return new OrderItemDetails(menuItemId.toString(), "Item", 1, new BigDecimal(price));
+    }
+}